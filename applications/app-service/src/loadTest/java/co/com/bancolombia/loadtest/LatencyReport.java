@@ -0,0 +1,95 @@
+package co.com.bancolombia.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Latencies of the measured phase, per route. Interval histograms are appended to an HdrHistogram
+ * log ({@code <route>.hlog}) on every sample, and at the end the accumulated percentile distribution
+ * of each route is written to {@code <route>.hgrm}. Values are recorded in microseconds.
+ */
+public class LatencyReport implements AutoCloseable {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadGenerator generator;
+    private final Path output;
+    private final Map<LoadRoute, Histogram> totals = new EnumMap<>(LoadRoute.class);
+    private final Map<LoadRoute, HistogramLogWriter> logs = new EnumMap<>(LoadRoute.class);
+    private final long startMillis;
+
+    public LatencyReport(LoadGenerator generator, Iterable<LoadRoute> routes, Path output) {
+        this.generator = generator;
+        this.output = output;
+        this.startMillis = System.currentTimeMillis();
+        try {
+            Files.createDirectories(output);
+            for (LoadRoute route : routes) {
+                HistogramLogWriter log = new HistogramLogWriter(output.resolve(route.getKey() + ".hlog").toFile());
+                log.outputComment(route.getDescription());
+                log.outputLogFormatVersion();
+                log.outputStartTime(startMillis);
+                log.setBaseTime(startMillis);
+                log.outputLegend();
+                logs.put(route, log);
+                totals.put(route, new Histogram(3));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Takes the latencies recorded since the previous sample and appends them to the logs.
+     */
+    public synchronized void sample() {
+        logs.forEach((route, log) -> {
+            Histogram interval = generator.recorder(route).getIntervalHistogram();
+            log.outputIntervalHistogram(interval);
+            totals.get(route).add(interval);
+        });
+    }
+
+    /**
+     * Prints throughput and p50/p99/p999 per route and writes the percentile distributions.
+     *
+     * @param measuredSeconds length of the measured phase
+     */
+    public synchronized void print(PrintStream out, double measuredSeconds) {
+        sample();
+        out.printf("%-32s %10s %8s %10s %10s %10s %10s %10s%n",
+                "ruta", "peticiones", "errores", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        totals.forEach((route, histogram) -> {
+            out.printf("%-32s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    route.getDescription(),
+                    histogram.getTotalCount(),
+                    generator.errors(route),
+                    histogram.getTotalCount() / measuredSeconds,
+                    histogram.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                    histogram.getMaxValue() / MICROS_PER_MILLI);
+            try (PrintStream distribution = new PrintStream(output.resolve(route.getKey() + ".hgrm").toFile())) {
+                histogram.outputPercentileDistribution(distribution, MICROS_PER_MILLI);
+            } catch (FileNotFoundException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        out.printf("Peticiones descartadas por exceso de peticiones en curso: %d%n", generator.dropped());
+        out.printf("Resultados en %s%n", output.toAbsolutePath());
+    }
+
+    @Override
+    public synchronized void close() {
+        logs.values().forEach(HistogramLogWriter::close);
+    }
+}
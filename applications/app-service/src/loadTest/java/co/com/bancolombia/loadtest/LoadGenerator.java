@@ -0,0 +1,200 @@
+package co.com.bancolombia.loadtest;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import org.HdrHistogram.Recorder;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-model traffic generator: requests are scheduled at a fixed rate whatever the response times,
+ * and each latency is measured from the time the request was due, so a slow application is not
+ * hidden by the generator waiting for it (coordinated omission).
+ */
+public class LoadGenerator implements AutoCloseable {
+
+    private static final String MICROCREDIT_LOAN_TYPE_ID = "550e8400-e29b-41d4-a716-446655441003";
+    private static final Pattern ORDER_ID = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"");
+    private static final int KNOWN_IDS = 4096;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final LoadTestOptions options;
+    private final ConnectionProvider connectionProvider;
+    private final HttpClient client;
+    private final LoadRoute[] routeTable;
+    private final Map<LoadRoute, Recorder> recorders = new EnumMap<>(LoadRoute.class);
+    private final Map<LoadRoute, AtomicLong> errors = new EnumMap<>(LoadRoute.class);
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong createdOrders = new AtomicLong();
+    private final AtomicReferenceArray<String> knownIds = new AtomicReferenceArray<>(KNOWN_IDS);
+
+    public LoadGenerator(String baseUrl, LoadTestOptions options) {
+        this.options = options;
+        this.connectionProvider = ConnectionProvider.builder("load-test")
+                .maxConnections(options.connections())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.client = HttpClient.create(connectionProvider).baseUrl(baseUrl);
+        this.routeTable = routeTable(options.mix());
+        for (LoadRoute route : LoadRoute.values()) {
+            recorders.put(route, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(route, new AtomicLong());
+        }
+    }
+
+    /**
+     * Sends traffic at the configured rate for the given time, blocking the calling thread, and waits
+     * up to {@code drainTimeout} for the requests still in flight.
+     */
+    public void run(Duration duration, Duration drainTimeout) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long due = start; due < end; due += intervalNanos) {
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(nextRoute(), due);
+        }
+        long drainEnd = System.nanoTime() + drainTimeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainEnd) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    public Recorder recorder(LoadRoute route) {
+        return recorders.get(route);
+    }
+
+    public long errors(LoadRoute route) {
+        return errors.get(route).get();
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Discards everything recorded so far, at the end of the warm-up.
+     */
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(counter -> counter.set(0));
+        dropped.set(0);
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(10));
+    }
+
+    private void send(LoadRoute route, long due) {
+        if (inFlight.incrementAndGet() > options.maxInFlight()) {
+            inFlight.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        String knownId = route == LoadRoute.GET_BY_ID ? anyKnownId() : null;
+        if (route == LoadRoute.GET_BY_ID && knownId == null) {
+            route = LoadRoute.CREATE;
+        }
+        LoadRoute sent = route;
+        request(sent, knownId)
+                .subscribe(response -> complete(sent, due, response.status(), response.body()),
+                        error -> complete(sent, due, 0, null));
+    }
+
+    private Mono<Response> request(LoadRoute route, String orderId) {
+        return switch (route) {
+            case CREATE -> client
+                    .headers(headers -> headers
+                            .set(HttpHeaderNames.AUTHORIZATION, "Bearer " + StubAuthServer.CLIENT_TOKEN)
+                            .set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON))
+                    .post()
+                    .uri("/api/v1/solicitud")
+                    .send(ByteBufFlux.fromString(Mono.fromSupplier(this::newLoanRequest)))
+                    .responseSingle((response, body) -> body.asString()
+                            .defaultIfEmpty("")
+                            .map(content -> new Response(response.status().code(), content)));
+            case GET_BY_ID -> get("/api/v1/solicitud/" + orderId, StubAuthServer.ADMIN_TOKEN);
+            case PENDING -> get("/api/v1/solicitud?size=20", StubAuthServer.ASSESSOR_TOKEN);
+        };
+    }
+
+    private Mono<Response> get(String uri, String token) {
+        return client
+                .headers(headers -> headers.set(HttpHeaderNames.AUTHORIZATION, "Bearer " + token))
+                .get()
+                .uri(uri)
+                .responseSingle((response, body) -> body.asByteArray()
+                        .defaultIfEmpty(new byte[0])
+                        .map(content -> new Response(response.status().code(), null)));
+    }
+
+    private void complete(LoadRoute route, long due, int status, String body) {
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - due);
+        recorders.get(route).recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+        if (status < 200 || status >= 300) {
+            errors.get(route).incrementAndGet();
+        } else if (route == LoadRoute.CREATE && body != null) {
+            Matcher matcher = ORDER_ID.matcher(body);
+            if (matcher.find()) {
+                knownIds.set((int) (createdOrders.getAndIncrement() % KNOWN_IDS), matcher.group(1));
+            }
+        }
+        inFlight.decrementAndGet();
+    }
+
+    private String newLoanRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long customer = random.nextLong(10_000_000L, 100_000_000L);
+        return "{\"documento_identidad\":\"" + customer + "\","
+                + "\"amount\":" + random.nextInt(50_000, 1_500_000) + ".00,"
+                + "\"deadline\":" + random.nextInt(12, 61) + ","
+                + "\"email_address\":\"cliente" + customer + "@loadtest.co\","
+                + "\"id_tipo_prestamo\":\"" + MICROCREDIT_LOAN_TYPE_ID + "\"}";
+    }
+
+    private String anyKnownId() {
+        long created = createdOrders.get();
+        if (created == 0) {
+            return null;
+        }
+        int bound = (int) Math.min(created, KNOWN_IDS);
+        return knownIds.get(ThreadLocalRandom.current().nextInt(bound));
+    }
+
+    private LoadRoute nextRoute() {
+        return routeTable[ThreadLocalRandom.current().nextInt(routeTable.length)];
+    }
+
+    private static LoadRoute[] routeTable(Map<LoadRoute, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        LoadRoute[] table = new LoadRoute[total];
+        int position = 0;
+        for (Map.Entry<LoadRoute, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                table[position++] = entry.getKey();
+            }
+        }
+        return table;
+    }
+
+    private record Response(int status, String body) {
+    }
+}
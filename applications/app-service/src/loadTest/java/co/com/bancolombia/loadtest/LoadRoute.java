@@ -0,0 +1,36 @@
+package co.com.bancolombia.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Routes of {@code RouterRest} driven by the load test.
+ */
+public enum LoadRoute {
+    CREATE("create", "POST /api/v1/solicitud"),
+    GET_BY_ID("get", "GET /api/v1/solicitud/{id}"),
+    PENDING("pending", "GET /api/v1/solicitud");
+
+    private final String key;
+    private final String description;
+
+    LoadRoute(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static LoadRoute fromName(String key) {
+        return Arrays.stream(values())
+                .filter(route -> route.key.equalsIgnoreCase(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Ruta desconocida '" + key + "', se espera create, get o pending"));
+    }
+}
@@ -0,0 +1,90 @@
+package co.com.bancolombia.loadtest;
+
+import co.com.bancolombia.MainApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load test that runs offline on a single machine: it starts an embedded PostgreSQL,
+ * the {@link StubAuthServer} and the application, warms the application up, and then drives mixed
+ * traffic against the {@code RouterRest} routes at a fixed rate, reporting latency per route.
+ *
+ * <p>Run it with {@code ./gradlew :app-service:loadTest -PloadTestArgs="--rate=500 --duration=2m"};
+ * see {@link LoadTestOptions} for every argument.
+ */
+public final class LoadTest {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             StubAuthServer authServer = new StubAuthServer(options.authLatency(), options.authJitter())) {
+            authServer.start();
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(MainApplication.class)
+                    .properties(applicationProperties(postgres, authServer, options))
+                    .run();
+            try (LoadGenerator generator = new LoadGenerator(
+                    "http://127.0.0.1:" + ((ReactiveWebServerApplicationContext) context).getWebServer().getPort(),
+                    options)) {
+                System.out.printf("Calentamiento: %d req/s durante %ss%n", options.rate(), options.warmup().toSeconds());
+                generator.run(options.warmup(), DRAIN_TIMEOUT);
+                generator.reset();
+
+                System.out.printf("Medición: %d req/s durante %ss, mezcla %s%n",
+                        options.rate(), options.duration().toSeconds(), options.mix());
+                measure(generator, options);
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    private static void measure(LoadGenerator generator, LoadTestOptions options) {
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        try (LatencyReport report = new LatencyReport(generator, options.mix().keySet(), options.output())) {
+            sampler.scheduleAtFixedRate(report::sample, 1, 1, TimeUnit.SECONDS);
+            long start = System.nanoTime();
+            generator.run(options.duration(), DRAIN_TIMEOUT);
+            double measuredSeconds = (System.nanoTime() - start) / 1e9;
+            sampler.shutdown();
+            report.print(System.out, measuredSeconds);
+        } finally {
+            sampler.shutdownNow();
+        }
+    }
+
+    private static Map<String, Object> applicationProperties(EmbeddedPostgres postgres, StubAuthServer authServer,
+                                                             LoadTestOptions options) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.devtools.restart.enabled", false);
+        properties.put("spring.liquibase.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.liquibase.user", "postgres");
+        properties.put("spring.liquibase.password", "postgres");
+        properties.put("adapters.r2dbc.host", "localhost");
+        properties.put("adapters.r2dbc.port", postgres.getPort());
+        properties.put("adapters.r2dbc.database", "postgres");
+        properties.put("adapters.r2dbc.username", "postgres");
+        properties.put("adapters.r2dbc.password", "postgres");
+        properties.put("adapters.auth-service.base-url", authServer.baseUrl());
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.file.name", options.output().resolve("crediya.log").toString());
+        properties.putAll(options.appProperties());
+        return properties;
+    }
+}
@@ -0,0 +1,104 @@
+package co.com.bancolombia.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, read from {@code --name=value} arguments. Arguments the harness does
+ * not know are handed to the application as Spring properties, e.g. {@code --logging.level.root=INFO}.
+ *
+ * @param rate requests per second sent to the application, over all routes
+ * @param duration length of the measured phase
+ * @param warmup length of the phase run before measuring, whose latencies are discarded
+ * @param mix relative weight of each route in the traffic
+ * @param authLatency delay the stub authentication service adds to every response
+ * @param authJitter maximum random delay added on top of {@code authLatency}
+ * @param maxInFlight requests allowed to wait for a response; requests over this bound are dropped
+ * @param connections maximum connections to the application
+ * @param output directory where the HdrHistogram logs and percentile distributions are written
+ * @param appProperties extra properties for the application
+ */
+public record LoadTestOptions(
+        int rate,
+        Duration duration,
+        Duration warmup,
+        Map<LoadRoute, Integer> mix,
+        Duration authLatency,
+        Duration authJitter,
+        int maxInFlight,
+        int connections,
+        Path output,
+        Map<String, Object> appProperties) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento no válido, se espera --nombre=valor: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                duration(values.getOrDefault("duration", "60s")),
+                duration(values.getOrDefault("warmup", "15s")),
+                mix(values.getOrDefault("mix", "create:30,get:40,pending:30")),
+                duration(values.getOrDefault("auth-latency", "20ms")),
+                duration(values.getOrDefault("auth-jitter", "0ms")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+                Integer.parseInt(values.getOrDefault("connections", "256")),
+                Path.of(values.getOrDefault("output", "build/load-test")),
+                new LinkedHashMap<>());
+        for (String known : new String[]{"rate", "duration", "warmup", "mix", "auth-latency", "auth-jitter",
+                "max-in-flight", "connections", "output"}) {
+            values.remove(known);
+        }
+        options.appProperties().putAll(values);
+        return options;
+    }
+
+    /**
+     * Parses durations such as {@code 500us}, {@code 20ms}, {@code 15s} or {@code 2m}.
+     */
+    static Duration duration(String value) {
+        String text = value.trim();
+        int unitStart = 0;
+        while (unitStart < text.length() && Character.isDigit(text.charAt(unitStart))) {
+            unitStart++;
+        }
+        long amount = Long.parseLong(text.substring(0, unitStart));
+        return switch (text.substring(unitStart)) {
+            case "us" -> Duration.ofNanos(amount * 1_000);
+            case "ms" -> Duration.ofMillis(amount);
+            case "s", "" -> Duration.ofSeconds(amount);
+            case "m" -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Unidad de tiempo no válida: " + value);
+        };
+    }
+
+    /**
+     * Parses a traffic mix such as {@code create:30,get:40,pending:30}.
+     */
+    static Map<LoadRoute, Integer> mix(String value) {
+        Map<LoadRoute, Integer> weights = new EnumMap<>(LoadRoute.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mezcla de tráfico no válida: " + value);
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                weights.put(LoadRoute.fromName(parts[0]), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla de tráfico debe incluir al menos una ruta");
+        }
+        return weights;
+    }
+}
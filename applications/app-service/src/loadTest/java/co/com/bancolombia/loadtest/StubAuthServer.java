@@ -0,0 +1,154 @@
+package co.com.bancolombia.loadtest;
+
+import co.com.bancolombia.api.config.ApiPaths;
+import co.com.bancolombia.api.dto.response.AuthResponseDTO;
+import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
+import co.com.bancolombia.api.enums.RolEnum;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process stand-in for the authentication service. It answers token validations and user lookups
+ * after a configurable delay, without holding a thread while the delay elapses.
+ *
+ * <p>The role of a token is taken from its prefix: {@code client-}, {@code assessor-} or {@code admin-}.
+ */
+public class StubAuthServer implements AutoCloseable {
+
+    public static final String CLIENT_TOKEN = "client-token";
+    public static final String ASSESSOR_TOKEN = "assessor-token";
+    public static final String ADMIN_TOKEN = "admin-token";
+
+    private static final String BEARER = "Bearer ";
+    private static final String USER_BY_EMAIL_PREFIX = ApiPaths.USERSBYEMAIL.substring(0,
+            ApiPaths.USERSBYEMAIL.indexOf("{email}"));
+
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final ScheduledExecutorService delays;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long latencyNanos;
+    private final long jitterNanos;
+
+    public StubAuthServer(Duration latency, Duration jitter) {
+        this.latencyNanos = latency.toNanos();
+        this.jitterNanos = jitter.toNanos();
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        this.handlers = Executors.newFixedThreadPool(4);
+        this.delays = Executors.newScheduledThreadPool(2);
+        server.setExecutor(handlers);
+        server.createContext(ApiPaths.VALIDATE, this::validate);
+        server.createContext(ApiPaths.USERSBYEMAILS, this::usersByEmails);
+        server.createContext(USER_BY_EMAIL_PREFIX, this::userByEmail);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        delays.shutdownNow();
+        handlers.shutdownNow();
+    }
+
+    private void validate(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        String token = authorization != null && authorization.startsWith(BEARER)
+                ? authorization.substring(BEARER.length())
+                : "";
+        RolEnum role = roleOf(token);
+        if (role == null) {
+            respond(exchange, 401, null);
+            return;
+        }
+        respond(exchange, 200, AuthResponseDTO.builder()
+                .idUser(UUID.nameUUIDFromBytes(token.getBytes(StandardCharsets.UTF_8)))
+                .idRol(role.getId())
+                .nameUser("Usuario " + role.name().toLowerCase())
+                .token(token)
+                .build());
+    }
+
+    private void userByEmail(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getRawPath();
+        String email = URLDecoder.decode(path.substring(USER_BY_EMAIL_PREFIX.length()), StandardCharsets.UTF_8);
+        respond(exchange, 200, user(email));
+    }
+
+    private void usersByEmails(HttpExchange exchange) {
+        try {
+            List<String> emails = objectMapper.readValue(exchange.getRequestBody(), new TypeReference<>() {
+            });
+            respond(exchange, 200, emails.stream().map(StubAuthServer::user).toList());
+        } catch (IOException ex) {
+            respond(exchange, 400, null);
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) {
+        long delay = latencyNanos + (jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos + 1) : 0);
+        delays.schedule(() -> send(exchange, status, body), delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) {
+        try {
+            if (body == null) {
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, json.length);
+            exchange.getResponseBody().write(json);
+        } catch (IOException ex) {
+            // the client gave up on the request, nothing left to answer
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static RolEnum roleOf(String token) {
+        for (RolEnum role : RolEnum.values()) {
+            if (token.startsWith(role.name().toLowerCase() + "-")) {
+                return role;
+            }
+        }
+        return null;
+    }
+
+    private static UserReportResponseDTO user(String email) {
+        return UserReportResponseDTO.builder()
+                .emailAddress(email)
+                .name("Cliente")
+                .lastName(email.substring(0, Math.max(email.indexOf('@'), 0)))
+                .baseSalary(new BigDecimal("3500000.00"))
+                .build();
+    }
+}
@@ -0,0 +1,221 @@
+package co.com.bancolombia.config;
+
+import co.com.bancolombia.model.common.ReadPreference;
+import co.com.bancolombia.model.orders.EmailSearchMode;
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.PendingRequest;
+import co.com.bancolombia.model.orders.PendingRequestCursor;
+import co.com.bancolombia.model.orders.gateways.OrdersCache;
+import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of single orders in front of {@link OrdersRepository}. Orders looked up by id
+ * or by document are kept in an {@link OrdersCache}; concurrent misses on the same key share one
+ * load, and writes invalidate the keys of the orders they touch. Reads that ask for the primary with
+ * {@link ReadPreference#fromPrimary(Mono)} bypass the cache. Lookups are published as the
+ * {@value #CACHE_NAME} cache meters, whatever the store.
+ *
+ * @author Crediya Development Team
+ */
+@Slf4j
+class CachingOrdersRepository implements OrdersRepository {
+
+    static final String CACHE_NAME = "orders";
+
+    private final OrdersRepository delegate;
+    private final OrdersCache cache;
+    private final Map<String, CompletableFuture<Orders>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    CachingOrdersRepository(OrdersRepository delegate, OrdersCache cache, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = cache;
+        FunctionCounter.builder("cache.gets", hits, LongAdder::doubleValue)
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .description("Order lookups served from the cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::doubleValue)
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .description("Order lookups that went to the database")
+                .register(meterRegistry);
+        Gauge.builder("cache.hit.ratio", this, CachingOrdersRepository::hitRatio)
+                .tag("cache", CACHE_NAME)
+                .description("Fraction of lookups served from the cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Orders> insert(Orders orders) {
+        return delegate.insert(orders)
+                .flatMap(saved -> evict(documentKeys(List.of(saved))).thenReturn(saved));
+    }
+
+    @Override
+    public Flux<Orders> insertAll(List<Orders> orders) {
+        return delegate.insertAll(orders)
+                .concatWith(evict(documentKeys(orders)).cast(Orders.class));
+    }
+
+    @Override
+    public Mono<Orders> save(Orders orders) {
+        return delegate.save(orders)
+                .flatMap(saved -> evict(Set.copyOf(List.of(
+                        idKey(saved.getId()),
+                        documentKey(saved.getDocumentId()),
+                        documentKey(orders.getDocumentId())))).thenReturn(saved));
+    }
+
+    @Override
+    public Mono<Orders> findById(String id) {
+        return cached(idKey(id), () -> delegate.findById(id));
+    }
+
+    /**
+     * Always read from the database: a cached order may predate an update made through another
+     * instance, and a conditional GET answered from it would report a changed order as not modified.
+     */
+    @Override
+    public Mono<LocalDateTime> findUpdateDateById(String id) {
+        return delegate.findUpdateDateById(id);
+    }
+
+    @Override
+    public Mono<Orders> findByDocumentId(String documentId) {
+        return cached(documentKey(documentId), () -> delegate.findByDocumentId(documentId));
+    }
+
+    @Override
+    public Flux<Orders> findByEmailAddress(String emailAddress) {
+        return delegate.findByEmailAddress(emailAddress);
+    }
+
+    @Override
+    public Mono<Boolean> existsByDocumentIdAndStatus(String documentId, String statusId) {
+        return delegate.existsByDocumentIdAndStatus(documentId, statusId);
+    }
+
+    @Override
+    public Flux<PendingRequest> findPendingRequests(UUID statusId, String email, EmailSearchMode emailMode,
+                                                    int page, int size) {
+        return delegate.findPendingRequests(statusId, email, emailMode, page, size);
+    }
+
+    @Override
+    public Flux<PendingRequest> findPendingRequests(UUID statusId, String email, EmailSearchMode emailMode,
+                                                    PendingRequestCursor after, int size) {
+        return delegate.findPendingRequests(statusId, email, emailMode, after, size);
+    }
+
+    private Mono<Orders> cached(String key, Supplier<Mono<Orders>> loader) {
+        return Mono.deferContextual(context -> readsPrimary(context)
+                ? loader.get()
+                : lookup(key).switchIfEmpty(Mono.defer(() -> {
+                    misses.increment();
+                    return load(key, loader, context);
+                })));
+    }
+
+    private Mono<Orders> lookup(String key) {
+        return cache.get(key)
+                .onErrorResume(ex -> {
+                    log.warn("No se pudo leer la caché de solicitudes para {}: {}", key, ex.getMessage());
+                    return Mono.empty();
+                })
+                .doOnNext(order -> hits.increment());
+    }
+
+    /**
+     * Loads a missing key once however many callers miss it at the same time. The load runs with the
+     * context of the first caller and is not cancelled when a caller goes away, so the others still
+     * get its result. Every caller, the first included, gets its own copy, so no caller can change
+     * the instance that was cached. Empty results and errors are not cached.
+     */
+    private Mono<Orders> load(String key, Supplier<Mono<Orders>> loader, ContextView context) {
+        CompletableFuture<Orders> flight = new CompletableFuture<>();
+        CompletableFuture<Orders> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return Mono.fromFuture(running, true).map(order -> order.toBuilder().build());
+        }
+        loader.get()
+                .flatMap(order -> store(key, flight, order).thenReturn(order))
+                .contextWrite(context)
+                .doFinally(signal -> inFlight.remove(key, flight))
+                .subscribe(flight::complete, flight::completeExceptionally, () -> flight.complete(null));
+        return Mono.fromFuture(flight, true).map(order -> order.toBuilder().build());
+    }
+
+    /**
+     * A write that invalidated the key while it was loading also dropped its flight; the loaded
+     * order may predate that write, so it is returned but not cached.
+     */
+    private Mono<Void> store(String key, CompletableFuture<Orders> flight, Orders order) {
+        if (inFlight.get(key) != flight) {
+            return Mono.empty();
+        }
+        return cache.put(key, order)
+                .onErrorResume(ex -> {
+                    log.warn("No se pudo guardar en la caché la solicitud {}: {}", key, ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> evict(Collection<String> keys) {
+        return Mono.defer(() -> {
+            keys.forEach(inFlight::remove);
+            return cache.invalidate(keys);
+        }).onErrorResume(ex -> {
+            log.warn("No se pudo invalidar la caché de {} solicitudes: {}", keys.size(), ex.getMessage());
+            return Mono.empty();
+        });
+    }
+
+    private double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        // Same convention as Caffeine: no lookups yet counts as every lookup served
+        return total == 0 ? 1.0 : (double) hitCount / total;
+    }
+
+    private static boolean readsPrimary(ContextView context) {
+        return context.getOrDefault(ReadPreference.CONTEXT_KEY, ReadPreference.REPLICA) == ReadPreference.PRIMARY;
+    }
+
+    private static List<String> documentKeys(List<Orders> orders) {
+        return orders.stream()
+                .map(Orders::getDocumentId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(CachingOrdersRepository::documentKey)
+                .toList();
+    }
+
+    private static String idKey(String id) {
+        return "id:" + id;
+    }
+
+    private static String documentKey(String documentId) {
+        return "document:" + documentId;
+    }
+}
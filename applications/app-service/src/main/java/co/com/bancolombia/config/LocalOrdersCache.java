@@ -0,0 +1,53 @@
+package co.com.bancolombia.config;
+
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.gateways.OrdersCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * In-process {@link OrdersCache}, bounded by size (W-TinyLFU eviction) and expiring entries a fixed
+ * time after they were written. Orders are copied in and out so callers never share an instance.
+ * Its size and evictions are published as the {@value #CACHE_NAME} cache meters.
+ *
+ * @author Crediya Development Team
+ */
+class LocalOrdersCache implements OrdersCache {
+
+    static final String CACHE_NAME = "orders.local";
+
+    private final Cache<String, Orders> cache;
+
+    LocalOrdersCache(OrdersCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Mono<Orders> get(String key) {
+        return Mono.fromSupplier(() -> copy(cache.getIfPresent(key)));
+    }
+
+    @Override
+    public Mono<Void> put(String key, Orders order) {
+        return Mono.fromRunnable(() -> cache.put(key, copy(order)));
+    }
+
+    @Override
+    public Mono<Void> invalidate(Collection<String> keys) {
+        return Mono.fromRunnable(() -> cache.invalidateAll(keys));
+    }
+
+    private static Orders copy(Orders order) {
+        return order != null ? order.toBuilder().build() : null;
+    }
+}
@@ -0,0 +1,20 @@
+package co.com.bancolombia.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the read cache of orders.
+ *
+ * @param enabled whether order reads go through the cache
+ * @param maximumSize orders kept by the in-process store
+ * @param ttl time an order stays cached after it was loaded
+ */
+@ConfigurationProperties(prefix = "adapters.orders-cache")
+public record OrdersCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("1m") Duration ttl) {
+}
@@ -0,0 +1,93 @@
+package co.com.bancolombia.config;
+
+import co.com.bancolombia.metrics.StageMetrics;
+import co.com.bancolombia.model.orders.BulkCreationResult;
+import co.com.bancolombia.model.orders.EmailSearchMode;
+import co.com.bancolombia.model.orders.LoanApplication;
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.PendingRequest;
+import co.com.bancolombia.model.orders.PendingRequestCursor;
+import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Records the latency of every {@link IOrdersUseCase} operation in the use case layer of
+ * {@link StageMetrics}. It lives in the application so the domain stays free of Micrometer.
+ *
+ * @author Crediya Development Team
+ */
+class TimedOrdersUseCase implements IOrdersUseCase {
+
+    private final IOrdersUseCase delegate;
+    private final StageMetrics stageMetrics;
+
+    TimedOrdersUseCase(IOrdersUseCase delegate, StageMetrics stageMetrics) {
+        this.delegate = delegate;
+        this.stageMetrics = stageMetrics;
+    }
+
+    @Override
+    public Mono<Orders> createLoanRequest(String documentId, BigDecimal amount, Integer deadline,
+                                          String emailAddress, String loanTypeId) {
+        return timed("orders.create_loan_request",
+                delegate.createLoanRequest(documentId, amount, deadline, emailAddress, loanTypeId));
+    }
+
+    @Override
+    public Flux<BulkCreationResult> createLoanRequests(Flux<LoanApplication> applications, int chunkSize) {
+        return timed("orders.create_loan_requests", delegate.createLoanRequests(applications, chunkSize));
+    }
+
+    @Override
+    public Mono<Orders> findById(String orderId) {
+        return timed("orders.find_by_id", delegate.findById(orderId));
+    }
+
+    @Override
+    public Mono<LocalDateTime> findUpdateDateById(String orderId) {
+        return timed("orders.find_update_date_by_id", delegate.findUpdateDateById(orderId));
+    }
+
+    @Override
+    public Mono<Orders> findByDocumentId(String documentId) {
+        return timed("orders.find_by_document_id", delegate.findByDocumentId(documentId));
+    }
+
+    @Override
+    public Flux<Orders> findByEmailAddress(String emailAddress) {
+        return timed("orders.find_by_email_address", delegate.findByEmailAddress(emailAddress));
+    }
+
+    @Override
+    public Mono<Boolean> existsByDocumentIdAndStatus(String documentId, String statusId) {
+        return timed("orders.exists_by_document_id_and_status",
+                delegate.existsByDocumentIdAndStatus(documentId, statusId));
+    }
+
+    @Override
+    public Flux<PendingRequest> findPendingRequests(UUID statusId, String email, EmailSearchMode emailMode,
+                                                    int page, int size) {
+        return timed("orders.find_pending_page",
+                delegate.findPendingRequests(statusId, email, emailMode, page, size));
+    }
+
+    @Override
+    public Flux<PendingRequest> findPendingRequests(UUID statusId, String email, EmailSearchMode emailMode,
+                                                    PendingRequestCursor after, int size) {
+        return timed("orders.find_pending_after_cursor",
+                delegate.findPendingRequests(statusId, email, emailMode, after, size));
+    }
+
+    private <T> Mono<T> timed(String stage, Mono<T> source) {
+        return stageMetrics.time(StageMetrics.LAYER_USE_CASE, stage, source);
+    }
+
+    private <T> Flux<T> timed(String stage, Flux<T> source) {
+        return stageMetrics.time(StageMetrics.LAYER_USE_CASE, stage, source);
+    }
+}
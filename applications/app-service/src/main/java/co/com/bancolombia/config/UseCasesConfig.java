@@ -1,13 +1,20 @@
 package co.com.bancolombia.config;
 
+import co.com.bancolombia.metrics.StageMetrics;
 import co.com.bancolombia.model.loantype.gateways.LoanTypeRepository;
+import co.com.bancolombia.model.orders.gateways.OrdersCache;
 import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.status.gateways.StatusRepository;
 import co.com.bancolombia.usecase.orders.OrdersUseCase;
 import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(OrdersCacheProperties.class)
 public class UseCasesConfig {
 
     /**
@@ -15,10 +22,24 @@ public class UseCasesConfig {
      * 
      * @param ordersRepository repository for order operations
      * @param loanTypeRepository repository for loan type operations
+     * @param statusRepository registry of order status ids
+     * @param stageMetrics latency timers of the use case operations
+     * @param ordersCacheProperties settings of the read cache of orders
+     * @param ordersCache store of the read cache; the in-process one when no other store is declared
+     * @param meterRegistry registry of the cache meters
      * @return IOrdersUseCase implementation
      */
     @Bean
-    public IOrdersUseCase ordersUseCase(OrdersRepository ordersRepository, LoanTypeRepository loanTypeRepository) {
-        return new OrdersUseCase(ordersRepository, loanTypeRepository);
+    public IOrdersUseCase ordersUseCase(OrdersRepository ordersRepository, LoanTypeRepository loanTypeRepository,
+                                        StatusRepository statusRepository, StageMetrics stageMetrics,
+                                        OrdersCacheProperties ordersCacheProperties,
+                                        ObjectProvider<OrdersCache> ordersCache, MeterRegistry meterRegistry) {
+        OrdersRepository orders = ordersCacheProperties.enabled()
+                ? new CachingOrdersRepository(ordersRepository,
+                        ordersCache.getIfAvailable(() -> new LocalOrdersCache(ordersCacheProperties, meterRegistry)),
+                        meterRegistry)
+                : ordersRepository;
+        return new TimedOrdersUseCase(new OrdersUseCase(orders, loanTypeRepository, statusRepository),
+                stageMetrics);
     }
 }
@@ -0,0 +1,167 @@
+package co.com.bancolombia.config;
+
+import co.com.bancolombia.model.common.ReadPreference;
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CachingOrdersRepository with the in-process store.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingOrdersRepositoryTest {
+
+    @Mock
+    private OrdersRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingOrdersRepository repository;
+    private Orders order;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        OrdersCacheProperties properties = new OrdersCacheProperties(true, 100, Duration.ofMinutes(1));
+        repository = new CachingOrdersRepository(delegate, new LocalOrdersCache(properties, meterRegistry),
+                meterRegistry);
+        order = Orders.builder()
+                .id("order-1")
+                .documentId("123456")
+                .amount(new BigDecimal("5000000"))
+                .deadline(12)
+                .emailAddress("ana@test.com")
+                .idStatus("pending")
+                .updateDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Second lookup is served from the cache")
+    void secondLookupIsAHit() {
+        when(delegate.findById("order-1")).thenReturn(Mono.just(order));
+
+        StepVerifier.create(repository.findById("order-1")).expectNext(order).verifyComplete();
+        StepVerifier.create(repository.findById("order-1")).expectNext(order).verifyComplete();
+
+        verify(delegate, times(1)).findById("order-1");
+        assertEquals(0.5, meterRegistry.get("cache.hit.ratio").tag("cache", CachingOrdersRepository.CACHE_NAME)
+                .gauge().value());
+    }
+
+    @Test
+    @DisplayName("Concurrent misses on the same order share one load")
+    void concurrentMissesShareOneLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        when(delegate.findById("order-1")).thenReturn(Mono.defer(() -> {
+            loads.incrementAndGet();
+            return Mono.just(order).delayElement(Duration.ofMillis(100));
+        }));
+
+        StepVerifier.create(Mono.zip(repository.findById("order-1"), repository.findById("order-1")))
+                .assertNext(orders -> {
+                    assertEquals(order, orders.getT1());
+                    assertEquals(order, orders.getT2());
+                })
+                .verifyComplete();
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Saving an order invalidates its cached lookups")
+    void saveInvalidates() {
+        Orders approved = order.toBuilder().idStatus("approved").build();
+        when(delegate.findById("order-1")).thenReturn(Mono.just(order), Mono.just(approved));
+        when(delegate.save(approved)).thenReturn(Mono.just(approved));
+
+        StepVerifier.create(repository.findById("order-1")).expectNext(order).verifyComplete();
+        StepVerifier.create(repository.save(approved)).expectNext(approved).verifyComplete();
+        StepVerifier.create(repository.findById("order-1")).expectNext(approved).verifyComplete();
+
+        verify(delegate, times(2)).findById("order-1");
+    }
+
+    @Test
+    @DisplayName("Reads from the primary bypass the cache")
+    void primaryReadsBypassTheCache() {
+        when(delegate.findById("order-1")).thenReturn(Mono.just(order));
+
+        StepVerifier.create(repository.findById("order-1")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(ReadPreference.fromPrimary(repository.findById("order-1")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(delegate, times(2)).findById("order-1");
+    }
+
+    @Test
+    @DisplayName("Missing orders are not cached")
+    void emptyResultsAreNotCached() {
+        when(delegate.findByDocumentId("999")).thenReturn(Mono.empty());
+
+        StepVerifier.create(repository.findByDocumentId("999")).verifyComplete();
+        StepVerifier.create(repository.findByDocumentId("999")).verifyComplete();
+
+        verify(delegate, times(2)).findByDocumentId("999");
+    }
+
+    @Test
+    @DisplayName("Version of a cached order is read from the database, which may hold a newer one")
+    void updateDateIsReadFromTheDatabase() {
+        LocalDateTime updatedElsewhere = order.getUpdateDate().plusMinutes(5);
+        when(delegate.findById("order-1")).thenReturn(Mono.just(order));
+        when(delegate.findUpdateDateById("order-1")).thenReturn(Mono.just(updatedElsewhere));
+
+        StepVerifier.create(repository.findById("order-1")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(repository.findUpdateDateById("order-1"))
+                .expectNext(updatedElsewhere)
+                .verifyComplete();
+
+        verify(delegate, times(1)).findUpdateDateById("order-1");
+    }
+
+    @Test
+    @DisplayName("Changing the order returned to the caller that loaded it does not change the cached one")
+    void loadedOrderIsACopy() {
+        when(delegate.findById("order-1")).thenReturn(Mono.just(order));
+
+        StepVerifier.create(repository.findById("order-1"))
+                .assertNext(loaded -> loaded.setIdStatus("rejected"))
+                .verifyComplete();
+        StepVerifier.create(repository.findById("order-1"))
+                .assertNext(cached -> assertEquals("pending", cached.getIdStatus()))
+                .verifyComplete();
+        assertEquals("pending", order.getIdStatus());
+    }
+
+    @Test
+    @DisplayName("Changing a returned order does not change the cached one")
+    void cachedOrdersAreCopies() {
+        when(delegate.findById("order-1")).thenReturn(Mono.just(order));
+
+        StepVerifier.create(repository.findById("order-1")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(repository.findById("order-1"))
+                .assertNext(cached -> cached.setIdStatus("rejected"))
+                .verifyComplete();
+        StepVerifier.create(repository.findById("order-1"))
+                .assertNext(cached -> assertEquals("pending", cached.getIdStatus()))
+                .verifyComplete();
+    }
+}
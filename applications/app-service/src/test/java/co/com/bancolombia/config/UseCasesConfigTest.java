@@ -1,7 +1,11 @@
 package co.com.bancolombia.config;
 
+import co.com.bancolombia.metrics.StageMetrics;
 import co.com.bancolombia.model.loantype.gateways.LoanTypeRepository;
 import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.status.gateways.StatusRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -43,6 +47,21 @@ public class UseCasesConfigTest {
             return mock(LoanTypeRepository.class);
         }
 
+        @Bean
+        public StatusRepository statusRepository() {
+            return mock(StatusRepository.class);
+        }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public StageMetrics stageMetrics(MeterRegistry meterRegistry) {
+            return new StageMetrics(meterRegistry);
+        }
+
         @Bean
         public MyUseCase myUseCase() {
             return new MyUseCase();
@@ -0,0 +1,60 @@
+package co.com.bancolombia.db;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Fills the {@code orders} table with synthetic loan requests for query plan checks and load tests.
+ * Rows are generated server side with {@code generate_series}; emails follow the pattern
+ * {@code cliente<n>@<domain>} spread over a few domains, and every row is PENDING.
+ *
+ * <p>Can also be run on its own: {@code OrdersDatasetGenerator <jdbc-url> <user> <password> <rows>}.
+ */
+public final class OrdersDatasetGenerator {
+
+    private static final String PENDING_STATUS_ID = "550e8400-e29b-41d4-a716-446655440001";
+    private static final String INSERT_ORDERS = "INSERT INTO orders (id, document_id, amount, deadline, email_address, " +
+            "creation_date, update_date, id_status, id_loan_type) " +
+            "SELECT md5(random()::text || n)::uuid::text, " +
+            "lpad((10000000 + n)::text, 10, '0'), " +
+            "round((500000 + random() * 5000000)::numeric, 2), " +
+            "12 + (n % 48), " +
+            "'cliente' || n || '@' || (ARRAY['bancolombia.com.co', 'gmail.com', 'outlook.com', 'crediya.co'])[1 + n % 4], " +
+            "now() - (n || ' minutes')::interval, " +
+            "now() - (n || ' minutes')::interval, " +
+            "?, " +
+            "(SELECT id FROM loan_type ORDER BY name LIMIT 1) " +
+            "FROM generate_series(1, ?) AS n";
+
+    private OrdersDatasetGenerator() {
+    }
+
+    /**
+     * Inserts the given number of orders and refreshes the planner statistics of the table.
+     *
+     * @param connection connection to a database migrated with the application changelog
+     * @param rows number of orders to generate
+     */
+    public static void generate(Connection connection, int rows) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_ORDERS)) {
+            insert.setString(1, PENDING_STATUS_ID);
+            insert.setInt(2, rows);
+            insert.executeUpdate();
+        }
+        try (Statement analyze = connection.createStatement()) {
+            analyze.execute("ANALYZE orders");
+        }
+    }
+
+    public static void main(String[] args) throws SQLException {
+        if (args.length != 4) {
+            throw new IllegalArgumentException("Uso: OrdersDatasetGenerator <jdbc-url> <usuario> <clave> <filas>");
+        }
+        try (Connection connection = DriverManager.getConnection(args[0], args[1], args[2])) {
+            generate(connection, Integer.parseInt(args[3]));
+        }
+    }
+}
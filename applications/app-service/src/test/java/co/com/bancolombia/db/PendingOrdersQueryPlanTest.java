@@ -0,0 +1,110 @@
+package co.com.bancolombia.db;
+
+import co.com.bancolombia.model.orders.EmailSearchMode;
+import co.com.bancolombia.model.orders.PendingRequestCursor;
+import co.com.bancolombia.r2dbc.orders.PendingOrdersQuery;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Regression test for the plans of the pending requests listing: on a table large enough for
+ * the planner to prefer indexes, no email search mode may fall back to a sequential scan of orders.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PendingOrdersQueryPlanTest {
+
+    private static final int DATASET_ROWS = 200_000;
+    private static final AtomicInteger STATEMENTS = new AtomicInteger();
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndFill() throws Exception {
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(POSTGRES.getJdbcUrl());
+        dataSource.setUser(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/db.changelog-master.xml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        connection = dataSource.getConnection();
+        OrdersDatasetGenerator.generate(connection, DATASET_ROWS);
+    }
+
+    @AfterAll
+    static void close() throws Exception {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(EmailSearchMode.class)
+    @DisplayName("Offset pages filtered by email do not scan the whole table")
+    void offsetPageUsesIndex(EmailSearchMode mode) throws Exception {
+        assertNoSeqScan(PendingOrdersQuery.page(null, searchTerm(mode), mode, 0, 10));
+    }
+
+    @ParameterizedTest
+    @EnumSource(EmailSearchMode.class)
+    @DisplayName("Cursor pages filtered by email do not scan the whole table")
+    void cursorPageUsesIndex(EmailSearchMode mode) throws Exception {
+        assertNoSeqScan(PendingOrdersQuery.after(null, searchTerm(mode), mode,
+                new PendingRequestCursor(LocalDateTime.now(), "ffffffff"), 10));
+    }
+
+    private static String searchTerm(EmailSearchMode mode) {
+        return switch (mode) {
+            case EXACT -> "cliente4242@gmail.com";
+            case PREFIX -> "cliente4242";
+            case CONTAINS -> "nte4242@";
+        };
+    }
+
+    private static void assertNoSeqScan(PendingOrdersQuery query) throws Exception {
+        String name = "pending_orders_" + STATEMENTS.incrementAndGet();
+        StringJoiner arguments = new StringJoiner(", ", "(", ")");
+        query.bindings().forEach(value -> arguments.add(value instanceof Number
+                ? value.toString()
+                : "'" + value.toString().replace("'", "''") + "'"));
+
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PREPARE " + name + " AS " + query.sql());
+            try (ResultSet rows = statement.executeQuery("EXPLAIN EXECUTE " + name + arguments)) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+            statement.execute("DEALLOCATE " + name);
+        }
+
+        assertFalse(plan.toString().contains("Seq Scan on orders"),
+                () -> "El plan recorre toda la tabla orders:\n" + query.sql() + "\n" + plan);
+    }
+}
@@ -0,0 +1,65 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.PendingRequest;
+import co.com.bancolombia.r2dbc.loantype.data.LoanTypeData;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+final class Fixtures {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    private Fixtures() {
+    }
+
+    static Orders order() {
+        return Orders.builder()
+                .id("3f1c2d4e-5a6b-4c7d-8e9f-0a1b2c3d4e5f")
+                .documentId("12345678")
+                .amount(new BigDecimal("50000.00"))
+                .deadline(24)
+                .emailAddress("test@example.com")
+                .idStatus("pending-status-id")
+                .idLoanType("550e8400-e29b-41d4-a716-446655441003")
+                .creationDate(CREATED_AT)
+                .updateDate(CREATED_AT)
+                .build();
+    }
+
+    static LoanTypeData loanTypeData() {
+        return LoanTypeData.builder()
+                .id("550e8400-e29b-41d4-a716-446655441003")
+                .name("Libre inversión")
+                .minimumAmount(new BigDecimal("1000000.00"))
+                .maximumAmount(new BigDecimal("50000000.00"))
+                .interestRate(new BigDecimal("0.0150"))
+                .automaticValidation(true)
+                .build();
+    }
+
+    static PendingRequest pendingRequest(int index) {
+        return PendingRequest.builder()
+                .id("order-" + index)
+                .creationDate(CREATED_AT.plusMinutes(index))
+                .amount(new BigDecimal("50000.00"))
+                .deadline(24)
+                .emailAddress("client" + index + "@example.com")
+                .name("Cliente " + index)
+                .loanType("Libre inversión")
+                .interestRate(new BigDecimal("0.0150"))
+                .status("PENDING")
+                .baseSalary(new BigDecimal("3500000.00"))
+                .monthlyAmount(new BigDecimal("2496.20"))
+                .build();
+    }
+
+    static List<PendingRequest> pendingPage(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(Fixtures::pendingRequest)
+                .toList();
+    }
+}
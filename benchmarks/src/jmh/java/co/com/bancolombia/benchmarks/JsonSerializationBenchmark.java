@@ -0,0 +1,61 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.api.dto.BulkLoanRequestResultDTO;
+import co.com.bancolombia.api.dto.LoanRequestResponseDTO;
+import co.com.bancolombia.api.dto.response.PendingRequestResponseDTO;
+import co.com.bancolombia.api.mapper.LoanRequestMapper;
+import co.com.bancolombia.model.orders.BulkCreationResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+/**
+ * JSON encoding of the response DTOs with an {@link ObjectMapper} configured the way Spring Boot
+ * configures the WebFlux codecs.
+ *
+ * @author Crediya Development Team
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"50"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+    private LoanRequestResponseDTO loanRequest;
+    private List<PendingRequestResponseDTO> pendingPage;
+    private BulkLoanRequestResultDTO bulkResult;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        loanRequest = LoanRequestMapper.toResponseDTO(Fixtures.order());
+        pendingPage = Fixtures.pendingPage(pageSize).stream()
+                .map(LoanRequestMapper::toPendingRequestDTO)
+                .toList();
+        bulkResult = LoanRequestMapper.toBulkResultDTO(BulkCreationResult.created(0, Fixtures.order()));
+    }
+
+    @Benchmark
+    public byte[] loanRequestResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(loanRequest);
+    }
+
+    @Benchmark
+    public byte[] pendingRequestsPage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(pendingPage);
+    }
+
+    @Benchmark
+    public byte[] bulkResult() throws JsonProcessingException {
+        return writer.writeValueAsBytes(bulkResult);
+    }
+}
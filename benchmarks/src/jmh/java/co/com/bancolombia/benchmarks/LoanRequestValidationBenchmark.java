@@ -0,0 +1,116 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.api.dto.CreateLoanRequestDTO;
+import co.com.bancolombia.model.orders.LoanRequestValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Validation of the create path. {@code legacy} is the validation the create path ran before the
+ * shared validator: Bean Validation on the request DTO followed by the regex based domain checks,
+ * which stop at the first failure. {@code shared} is {@link LoanRequestValidator}, which runs each
+ * rule once and reports all the violations. Run with {@code -prof gc} to read bytes/op from
+ * {@code gc.alloc.rate.norm}.
+ *
+ * @author Crediya Development Team
+ */
+@State(Scope.Benchmark)
+public class LoanRequestValidationBenchmark {
+
+    @Param({"valid", "invalid"})
+    public String request;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private CreateLoanRequestDTO dto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        dto = "valid".equals(request)
+                ? new CreateLoanRequestDTO("12345678", new BigDecimal("50000.00"), 24,
+                        "test@example.com", "550e8400-e29b-41d4-a716-446655441003")
+                : new CreateLoanRequestDTO("1234", new BigDecimal("50000.123"), 400,
+                        "test@example", "550e8400-e29b-41d4-a716-446655441003");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Object legacy() {
+        Set<ConstraintViolation<CreateLoanRequestDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations;
+        }
+        try {
+            LegacyDomainValidation.validate(dto.getDocumentId(), dto.getAmount(), dto.getDeadline(),
+                    dto.getEmailAddress(), dto.getLoanTypeId());
+            return null;
+        } catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public List<String> shared() {
+        return LoanRequestValidator.validate(dto.getDocumentId(), dto.getAmount(), dto.getDeadline(),
+                dto.getEmailAddress(), dto.getLoanTypeId());
+    }
+
+    /**
+     * The domain checks as {@code Orders.validateForCreation} ran them before the shared validator.
+     */
+    private static final class LegacyDomainValidation {
+
+        private LegacyDomainValidation() {
+        }
+
+        static void validate(String documentId, BigDecimal amount, Integer deadline,
+                             String emailAddress, String loanTypeId) {
+            if (documentId == null || documentId.trim().isEmpty()) {
+                throw new IllegalArgumentException("El documento de identidad es obligatorio");
+            }
+            if (!documentId.matches("^[0-9]{8,12}$")) {
+                throw new IllegalArgumentException("El documento de identidad debe tener entre 8 y 12 dígitos");
+            }
+            if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+                throw new IllegalArgumentException("El monto debe ser mayor que 0");
+            }
+            if (amount.scale() > 2) {
+                throw new IllegalArgumentException("El monto no puede tener más de 2 decimales");
+            }
+            if (deadline == null || deadline <= 0) {
+                throw new IllegalArgumentException("El plazo debe ser mayor que 0");
+            }
+            if (deadline > 360) {
+                throw new IllegalArgumentException("El plazo no puede ser mayor a 360 meses");
+            }
+            if (emailAddress == null || emailAddress.trim().isEmpty()) {
+                throw new IllegalArgumentException("El correo electrónico es obligatorio");
+            }
+            if (!emailAddress.matches("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$")) {
+                throw new IllegalArgumentException("El formato del correo electrónico no es válido");
+            }
+            if (loanTypeId == null || loanTypeId.trim().isEmpty()) {
+                throw new IllegalArgumentException("El tipo de préstamo es obligatorio");
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package co.com.bancolombia.benchmarks;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilder;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilderFactory;
+import org.apache.logging.log4j.core.config.builder.impl.BuiltConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Cost of logging on the request path. {@code requestLogs} writes the INFO lines the handler writes
+ * for one request; the {@code pendingRows} benchmarks stream a page of rows with a per-row debug log,
+ * attached unconditionally as the adapters used to do or only when debug is enabled. {@code mode}
+ * selects logging turned off, a synchronous JSON file appender, or the same appender behind
+ * asynchronous loggers as in {@code log4j2-prod.xml}.
+ *
+ * @author Crediya Development Team
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = {
+        "-Dlog4j2.asyncLoggerConfigRingBufferSize=262144",
+        "-Dlog4j2.asyncQueueFullPolicy=Discard",
+        "-Dlog4j2.discardThreshold=INFO"})
+public class LoggingBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingBenchmark.class);
+
+    @Param({"off", "sync", "async"})
+    public String mode;
+
+    @Param({"50"})
+    public int rows;
+
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("logging-benchmark", ".json");
+        ConfigurationBuilder<BuiltConfiguration> builder = ConfigurationBuilderFactory.newConfigurationBuilder();
+        builder.setStatusLevel(Level.ERROR);
+        builder.add(builder.newAppender("JSON", "RandomAccessFile")
+                .addAttribute("fileName", logFile.toString())
+                .addAttribute("immediateFlush", !"async".equals(mode))
+                .add(builder.newLayout("JsonTemplateLayout")
+                        .addAttribute("eventTemplateUri", "classpath:EcsLayout.json")));
+        switch (mode) {
+            case "off" -> builder.add(builder.newRootLogger(Level.OFF));
+            case "sync" -> builder.add(builder.newRootLogger(Level.INFO).add(builder.newAppenderRef("JSON")));
+            case "async" -> builder.add(builder.newAsyncRootLogger(Level.INFO).add(builder.newAppenderRef("JSON")));
+            default -> throw new IllegalArgumentException("Unknown mode " + mode);
+        }
+        Configurator.reconfigure(builder.build());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        ConfigurationBuilder<BuiltConfiguration> builder = ConfigurationBuilderFactory.newConfigurationBuilder();
+        builder.add(builder.newRootLogger(Level.OFF));
+        Configurator.reconfigure(builder.build());
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void requestLogs() {
+        String traceId = "TRACE-1726000000000-42";
+        log.info("[{}] Iniciando procesamiento de solicitud de préstamo", traceId);
+        log.info("[{}] Datos recibidos para documento: {}", traceId, "12345678");
+        log.info("[{}] Solicitud creada con ID: {}", traceId, "550e8400-e29b-41d4-a716-446655440000");
+        log.info("[{}] Solicitud procesada exitosamente", traceId);
+    }
+
+    @Benchmark
+    public Integer pendingRowsUngated() {
+        return Flux.range(0, rows)
+                .doOnNext(row -> log.debug("Solicitud pendiente encontrada: {}", row))
+                .blockLast();
+    }
+
+    @Benchmark
+    public Integer pendingRowsGated() {
+        return debugEach(Flux.range(0, rows), row -> log.debug("Solicitud pendiente encontrada: {}", row))
+                .blockLast();
+    }
+
+    private static <T> Flux<T> debugEach(Flux<T> source, Consumer<? super T> logStatement) {
+        return log.isDebugEnabled() ? source.doOnNext(logStatement) : source;
+    }
+}
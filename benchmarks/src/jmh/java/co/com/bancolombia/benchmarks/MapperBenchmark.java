@@ -0,0 +1,79 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.api.dto.LoanRequestResponseDTO;
+import co.com.bancolombia.api.dto.response.PendingRequestResponseDTO;
+import co.com.bancolombia.api.mapper.LoanRequestMapper;
+import co.com.bancolombia.model.loantype.LoanType;
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.PendingRequest;
+import co.com.bancolombia.r2dbc.loantype.data.LoanTypeData;
+import co.com.bancolombia.r2dbc.loantype.mapper.LoanTypeMapper;
+import co.com.bancolombia.r2dbc.orders.data.OrdersData;
+import co.com.bancolombia.r2dbc.orders.mapper.OrdersMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Conversions between the persistence, domain and response models: {@link OrdersMapper},
+ * {@link LoanTypeMapper} and the pending requests page the handler turns into response DTOs.
+ *
+ * @author Crediya Development Team
+ */
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"50"})
+    public int pageSize;
+
+    private Orders order;
+    private OrdersData ordersData;
+    private LoanTypeData loanTypeData;
+    private PendingRequest pendingRequest;
+    private List<PendingRequest> pendingPage;
+
+    @Setup
+    public void setUp() {
+        order = Fixtures.order();
+        ordersData = OrdersMapper.toData(order);
+        loanTypeData = Fixtures.loanTypeData();
+        pendingRequest = Fixtures.pendingRequest(0);
+        pendingPage = Fixtures.pendingPage(pageSize);
+    }
+
+    @Benchmark
+    public OrdersData ordersToData() {
+        return OrdersMapper.toData(order);
+    }
+
+    @Benchmark
+    public Orders ordersToDomain() {
+        return OrdersMapper.toDomain(ordersData);
+    }
+
+    @Benchmark
+    public LoanType loanTypeToDomain() {
+        return LoanTypeMapper.toDomain(loanTypeData);
+    }
+
+    @Benchmark
+    public LoanRequestResponseDTO orderToResponseDTO() {
+        return LoanRequestMapper.toResponseDTO(order);
+    }
+
+    @Benchmark
+    public PendingRequestResponseDTO pendingRequestToDTO() {
+        return LoanRequestMapper.toPendingRequestDTO(pendingRequest);
+    }
+
+    @Benchmark
+    public List<PendingRequestResponseDTO> pendingPageToDTOs() {
+        return pendingPage.stream()
+                .map(LoanRequestMapper::toPendingRequestDTO)
+                .toList();
+    }
+}
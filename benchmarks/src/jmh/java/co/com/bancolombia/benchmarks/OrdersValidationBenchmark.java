@@ -0,0 +1,43 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.model.orders.Orders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+
+/**
+ * Creation and domain validation of a new order, as the use case runs them for every request.
+ *
+ * @author Crediya Development Team
+ */
+@State(Scope.Benchmark)
+public class OrdersValidationBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("50000.00");
+
+    private Orders order;
+
+    @Setup
+    public void setUp() {
+        order = newOrder();
+    }
+
+    @Benchmark
+    public Orders createNew() {
+        return newOrder();
+    }
+
+    @Benchmark
+    public Orders validateForCreation() {
+        order.validateForCreation();
+        return order;
+    }
+
+    private static Orders newOrder() {
+        return Orders.createNew("12345678", AMOUNT, 24, "test@example.com",
+                "550e8400-e29b-41d4-a716-446655441003", "pending-status-id");
+    }
+}
@@ -0,0 +1,81 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.api.config.AuthServiceProperties;
+import co.com.bancolombia.api.dto.response.AuthResponseDTO;
+import co.com.bancolombia.api.enums.RolEnum;
+import co.com.bancolombia.api.services.LocalTokenVerifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Local verification of a bearer token, the cost that replaces the round trip to the
+ * authentication service when {@code adapters.auth-service.verification.mode} is {@code local}:
+ * parsing the JWT, checking its signature against a key loaded from disk, and reading its claims.
+ *
+ * @author Crediya Development Team
+ */
+@State(Scope.Benchmark)
+public class TokenVerificationBenchmark {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Param({"RS256", "ES256"})
+    public String algorithm;
+
+    private LocalTokenVerifier verifier;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        boolean rsa = algorithm.startsWith("RS");
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(rsa ? "RSA" : "EC");
+        generator.initialize(rsa ? 2048 : 256);
+        KeyPair keys = generator.generateKeyPair();
+
+        Path publicKey = Files.createTempFile("token-verification", ".pem");
+        publicKey.toFile().deleteOnExit();
+        Files.writeString(publicKey, "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder().encodeToString(keys.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----\n");
+        verifier = new LocalTokenVerifier(new AuthServiceProperties.Verification(
+                AuthServiceProperties.Verification.Mode.LOCAL, null, publicKey.toString(), null, null,
+                "sub", "idRol", "name", Duration.ofSeconds(30), false, Duration.ofMinutes(1)), null);
+
+        String signingInput = base64(JSON.writeValueAsBytes(Map.of("alg", algorithm, "typ", "JWT")))
+                + "." + base64(JSON.writeValueAsBytes(Map.of(
+                        "sub", UUID.randomUUID().toString(),
+                        "idRol", RolEnum.CLIENT.getId().toString(),
+                        "name", "Ana",
+                        "exp", Instant.now().plus(Duration.ofDays(1)).getEpochSecond())));
+        Signature signature = Signature.getInstance(rsa ? "SHA256withRSA" : "SHA256withECDSAinP1363Format");
+        signature.initSign(keys.getPrivate());
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        token = signingInput + "." + base64(signature.sign());
+    }
+
+    @Benchmark
+    public AuthResponseDTO verify() {
+        return verifier.verify(token).block();
+    }
+
+    private static String base64(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,58 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.tracing.TraceContext;
+import co.com.bancolombia.tracing.TraceLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Per-request cost of the trace propagation: continuing or creating the W3C trace context, writing
+ * it into the Reactor context the way the web filter does and reading it back downstream, building
+ * the outgoing {@code traceparent}, and a trace-aware log statement whose level is disabled. The
+ * whole path should stay under a microsecond.
+ *
+ * @author Crediya Development Team
+ */
+@State(Scope.Benchmark)
+public class TraceContextBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(TraceContextBenchmark.class);
+
+    private final String traceparent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+    private final TraceContext trace = TraceContext.continueOrGenerate(traceparent);
+    private final Context context = Context.of(TraceContext.CONTEXT_KEY, trace);
+
+    @Benchmark
+    public TraceContext continueTrace() {
+        return TraceContext.continueOrGenerate(traceparent);
+    }
+
+    @Benchmark
+    public TraceContext generateTrace() {
+        return TraceContext.generate();
+    }
+
+    @Benchmark
+    public String outgoingHeader() {
+        return trace.toHeader();
+    }
+
+    @Benchmark
+    public void requestPath(Blackhole blackhole) {
+        TraceContext incoming = TraceContext.continueOrGenerate(traceparent);
+        Mono.deferContextual(view -> Mono.just(view.get(TraceContext.CONTEXT_KEY).toHeader()))
+                .contextWrite(Context.of(TraceContext.CONTEXT_KEY, incoming))
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void disabledTraceLog() {
+        TraceLog.debug(log, context, "Solicitud encontrada: {}", "order-1");
+    }
+}
@@ -0,0 +1,27 @@
+package co.com.bancolombia.model.common;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Database a read is served from. Gateways read from the replica by default; a caller that must see
+ * its own writes wraps the read with {@link #fromPrimary(Mono)}, which travels in the Reactor
+ * context down to the driven adapter.
+ */
+public enum ReadPreference {
+    /** The read-only replica, which may lag behind the primary. */
+    REPLICA,
+    /** The primary database, which holds every committed write. */
+    PRIMARY;
+
+    public static final String CONTEXT_KEY = ReadPreference.class.getName();
+
+    public static <T> Mono<T> fromPrimary(Mono<T> reads) {
+        return reads.contextWrite(Context.of(CONTEXT_KEY, PRIMARY));
+    }
+
+    public static <T> Flux<T> fromPrimary(Flux<T> reads) {
+        return reads.contextWrite(Context.of(CONTEXT_KEY, PRIMARY));
+    }
+}
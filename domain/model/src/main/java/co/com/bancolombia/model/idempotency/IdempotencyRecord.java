@@ -0,0 +1,27 @@
+package co.com.bancolombia.model.idempotency;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request executed under an idempotency key. While the first execution runs the record has no
+ * response and expires after a short lease, so a crashed execution does not hold the key; once it
+ * completes it holds the response returned to every repeat of the request until it expires.
+ *
+ * @param key idempotency key, scoped to the user that sent it
+ * @param requestHash hash of the request body, to detect a key reused with another request
+ * @param response response of the first execution, {@code null} while it is still running
+ * @param createdAt time the key was claimed
+ * @param expiresAt time after which the key may be claimed again and the record deleted
+ */
+public record IdempotencyRecord(String key, String requestHash, String response,
+                                LocalDateTime createdAt, LocalDateTime expiresAt) {
+
+    public static IdempotencyRecord inProgress(String key, String requestHash, LocalDateTime now,
+                                               LocalDateTime expiresAt) {
+        return new IdempotencyRecord(key, requestHash, null, now, expiresAt);
+    }
+
+    public boolean isCompleted() {
+        return response != null;
+    }
+}
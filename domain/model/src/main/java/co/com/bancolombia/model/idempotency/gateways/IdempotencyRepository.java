@@ -0,0 +1,31 @@
+package co.com.bancolombia.model.idempotency.gateways;
+
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRepository {
+
+    /**
+     * Stores the record unless its key is held by an unexpired record.
+     *
+     * @return {@code true} when the caller now holds the key and must execute the request
+     */
+    Mono<Boolean> claim(IdempotencyRecord record);
+
+    Mono<IdempotencyRecord> findByKey(String key);
+
+    /**
+     * Stores the response of a claimed key, as long as the claim is still the one holding it.
+     *
+     * @return {@code false} when the claim expired and another execution took the key over
+     */
+    Mono<Boolean> complete(IdempotencyRecord claim, String response, LocalDateTime expiresAt);
+
+    /**
+     * Deletes the claim of an execution that failed, so a retry executes it again. A completed
+     * record, or a claim another execution took over, is kept.
+     */
+    Mono<Void> release(IdempotencyRecord claim);
+}
@@ -0,0 +1,24 @@
+package co.com.bancolombia.model.orders;
+
+/**
+ * Outcome of one item of a bulk loan request creation.
+ *
+ * @param index position of the item within the submitted batch, starting at zero
+ * @param order the stored order, or {@code null} when the item was rejected
+ * @param errorCode code of the rejection, or {@code null} when the order was created
+ * @param message reason of the rejection, or {@code null} when the order was created
+ */
+public record BulkCreationResult(long index, Orders order, String errorCode, String message) {
+
+    public static BulkCreationResult created(long index, Orders order) {
+        return new BulkCreationResult(index, order, null, null);
+    }
+
+    public static BulkCreationResult rejected(long index, String errorCode, String message) {
+        return new BulkCreationResult(index, null, errorCode, message);
+    }
+
+    public boolean isCreated() {
+        return errorCode == null;
+    }
+}
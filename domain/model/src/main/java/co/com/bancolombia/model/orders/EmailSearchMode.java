@@ -0,0 +1,13 @@
+package co.com.bancolombia.model.orders;
+
+/**
+ * How the email filter of the pending requests listing is matched. Matching ignores case.
+ */
+public enum EmailSearchMode {
+    /** The email equals the given value. */
+    EXACT,
+    /** The email starts with the given value. */
+    PREFIX,
+    /** The email contains the given value. */
+    CONTAINS
+}
@@ -0,0 +1,10 @@
+package co.com.bancolombia.model.orders;
+
+import java.math.BigDecimal;
+
+/**
+ * Data of a loan request submitted as part of a bulk creation, before it is validated.
+ */
+public record LoanApplication(String documentId, BigDecimal amount, Integer deadline,
+                              String emailAddress, String loanTypeId) {
+}
@@ -0,0 +1,181 @@
+package co.com.bancolombia.model.orders;
+
+import co.com.bancolombia.model.orders.exceptions.LoanRequestValidationException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creation rules of a loan request, shared by the entry points and the domain so each rule runs
+ * once per request. Every rule is checked and all the violations are reported together; document
+ * IDs and emails are checked with hand-written scanners instead of regular expressions, and a
+ * valid request allocates nothing.
+ *
+ * @author Crediya Development Team
+ */
+public final class LoanRequestValidator {
+
+    static final String DOCUMENT_ID_REQUIRED = "El documento de identidad es obligatorio";
+    static final String DOCUMENT_ID_FORMAT = "El documento de identidad debe tener entre 8 y 12 dígitos";
+    static final String AMOUNT_POSITIVE = "El monto debe ser mayor que 0";
+    static final String AMOUNT_DECIMALS = "El monto no puede tener más de 2 decimales";
+    static final String AMOUNT_INTEGER_DIGITS = "El monto no puede tener más de 13 dígitos enteros";
+    static final String DEADLINE_POSITIVE = "El plazo debe ser mayor que 0";
+    static final String DEADLINE_MAXIMUM = "El plazo no puede ser mayor a 360 meses";
+    static final String EMAIL_REQUIRED = "El correo electrónico es obligatorio";
+    static final String EMAIL_FORMAT = "El formato del correo electrónico no es válido";
+    static final String LOAN_TYPE_REQUIRED = "El tipo de préstamo es obligatorio";
+
+    private static final int DOCUMENT_ID_MIN_LENGTH = 8;
+    private static final int DOCUMENT_ID_MAX_LENGTH = 12;
+    private static final int AMOUNT_MAX_SCALE = 2;
+    private static final int AMOUNT_MAX_INTEGER_DIGITS = 13;
+    private static final int DEADLINE_MAX_MONTHS = 360;
+    private static final int EMAIL_MIN_TLD_LENGTH = 2;
+
+    private LoanRequestValidator() {
+    }
+
+    /**
+     * Checks every creation rule of a loan request.
+     *
+     * @return the violated rules in declaration order, or an empty list when the request is valid
+     */
+    public static List<String> validate(String documentId, BigDecimal amount, Integer deadline,
+                                        String emailAddress, String loanTypeId) {
+        List<String> violations = null;
+
+        if (isBlank(documentId)) {
+            violations = add(violations, DOCUMENT_ID_REQUIRED);
+        } else if (!isDocumentId(documentId)) {
+            violations = add(violations, DOCUMENT_ID_FORMAT);
+        }
+
+        if (amount == null || amount.signum() <= 0) {
+            violations = add(violations, AMOUNT_POSITIVE);
+        } else {
+            if (amount.scale() > AMOUNT_MAX_SCALE) {
+                violations = add(violations, AMOUNT_DECIMALS);
+            }
+            if (amount.precision() - amount.scale() > AMOUNT_MAX_INTEGER_DIGITS) {
+                violations = add(violations, AMOUNT_INTEGER_DIGITS);
+            }
+        }
+
+        if (deadline == null || deadline <= 0) {
+            violations = add(violations, DEADLINE_POSITIVE);
+        } else if (deadline > DEADLINE_MAX_MONTHS) {
+            violations = add(violations, DEADLINE_MAXIMUM);
+        }
+
+        if (isBlank(emailAddress)) {
+            violations = add(violations, EMAIL_REQUIRED);
+        } else if (!isEmailAddress(emailAddress)) {
+            violations = add(violations, EMAIL_FORMAT);
+        }
+
+        if (isBlank(loanTypeId)) {
+            violations = add(violations, LOAN_TYPE_REQUIRED);
+        }
+
+        return violations == null ? List.of() : violations;
+    }
+
+    /**
+     * Checks every creation rule of a loan request and fails when any of them is violated.
+     *
+     * @throws LoanRequestValidationException carrying all the violated rules
+     */
+    public static void requireValid(String documentId, BigDecimal amount, Integer deadline,
+                                    String emailAddress, String loanTypeId) {
+        List<String> violations = validate(documentId, amount, deadline, emailAddress, loanTypeId);
+        if (!violations.isEmpty()) {
+            throw new LoanRequestValidationException(violations);
+        }
+    }
+
+    /**
+     * Same as {@code value.matches("^[0-9]{8,12}$")}.
+     */
+    static boolean isDocumentId(String value) {
+        int length = value.length();
+        if (length < DOCUMENT_ID_MIN_LENGTH || length > DOCUMENT_ID_MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same as {@code value.matches("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$")}: a non-empty
+     * local part, a single {@code @}, and a domain whose last label has at least two letters and is
+     * preceded by a non-empty name.
+     */
+    static boolean isEmailAddress(String value) {
+        int length = value.length();
+        int at = 0;
+        while (at < length && isLocalPartChar(value.charAt(at))) {
+            at++;
+        }
+        if (at == 0 || at == length || value.charAt(at) != '@') {
+            return false;
+        }
+
+        int lastDot = -1;
+        for (int i = at + 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+            } else if (!isLetter(c) && !isDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        if (lastDot <= at + 1 || length - lastDot - 1 < EMAIL_MIN_TLD_LENGTH) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isLetter(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same as {@code value == null || value.trim().isEmpty()}, without copying the string.
+     */
+    static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0, length = value.length(); i < length; i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> add(List<String> violations, String violation) {
+        List<String> target = violations != null ? violations : new ArrayList<>(4);
+        target.add(violation);
+        return target;
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isLetter(c) || isDigit(c) || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
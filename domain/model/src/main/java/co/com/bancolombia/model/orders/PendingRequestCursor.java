@@ -0,0 +1,23 @@
+package co.com.bancolombia.model.orders;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of a pending request in the listing, ordered by creation date and id (both descending).
+ * The next page starts right after the request identified by this cursor.
+ *
+ * @param creationDate creation date of the last request already returned
+ * @param id id of the last request already returned, used to break ties on the same date
+ */
+public record PendingRequestCursor(LocalDateTime creationDate, String id) {
+
+    public PendingRequestCursor {
+        if (creationDate == null || id == null) {
+            throw new IllegalArgumentException("El cursor de paginación no es válido");
+        }
+    }
+
+    public static PendingRequestCursor from(PendingRequest pendingRequest) {
+        return new PendingRequestCursor(pendingRequest.getCreationDate(), pendingRequest.getId());
+    }
+}
@@ -0,0 +1,17 @@
+package co.com.bancolombia.model.orders.exceptions;
+
+import java.util.List;
+
+public class LoanRequestValidationException extends IllegalArgumentException {
+
+    private final List<String> violations;
+
+    public LoanRequestValidationException(List<String> violations) {
+        super(String.join("; ", violations));
+        this.violations = List.copyOf(violations);
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+}
@@ -0,0 +1,23 @@
+package co.com.bancolombia.model.orders.gateways;
+
+import co.com.bancolombia.model.orders.Orders;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Store behind the orders read cache. Size bounds and expiry belong to the store; an in-process
+ * store keeps them per instance, a distributed one shares them between instances. A store must not
+ * hand out an instance a caller can change under another caller, since {@link Orders} is mutable.
+ */
+public interface OrdersCache {
+
+    /**
+     * @return the cached order, or empty when the key is absent or expired
+     */
+    Mono<Orders> get(String key);
+
+    Mono<Void> put(String key, Orders order);
+
+    Mono<Void> invalidate(Collection<String> keys);
+}
@@ -1,18 +1,26 @@
 package co.com.bancolombia.model.orders.gateways;
 
+import co.com.bancolombia.model.orders.EmailSearchMode;
 import co.com.bancolombia.model.orders.Orders;
 import co.com.bancolombia.model.orders.PendingRequest;
+import co.com.bancolombia.model.orders.PendingRequestCursor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public interface OrdersRepository {
+    Mono<Orders> insert(Orders orders);
+    Flux<Orders> insertAll(List<Orders> orders);
     Mono<Orders> save(Orders orders);
     Mono<Orders> findById(String id);
+    Mono<LocalDateTime> findUpdateDateById(String id);
     Mono<Orders> findByDocumentId(String documentId);
     Flux<Orders> findByEmailAddress(String emailAddress);
     Mono<Boolean> existsByDocumentIdAndStatus(String documentId, String statusId);
-    Mono<String> findPendingStatusId();
-    Flux<PendingRequest> findPendingRequests(UUID statusId, String email, int page, int size);
+    Flux<PendingRequest> findPendingRequests(UUID statusId, String email, EmailSearchMode emailMode, int page, int size);
+    Flux<PendingRequest> findPendingRequests(UUID statusId, String email, EmailSearchMode emailMode,
+                                             PendingRequestCursor after, int size);
 }
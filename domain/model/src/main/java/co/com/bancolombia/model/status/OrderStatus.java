@@ -0,0 +1,14 @@
+package co.com.bancolombia.model.status;
+
+/**
+ * Statuses a loan request can go through. Each constant matches the {@code name}
+ * of a row of the status reference table.
+ */
+public enum OrderStatus {
+    PENDING,
+    APPROVED,
+    REJECTED,
+    PROCESSING,
+    COMPLETED,
+    CANCELLED
+}
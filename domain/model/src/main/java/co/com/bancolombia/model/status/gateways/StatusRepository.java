@@ -0,0 +1,8 @@
+package co.com.bancolombia.model.status.gateways;
+
+import co.com.bancolombia.model.status.OrderStatus;
+import reactor.core.publisher.Mono;
+
+public interface StatusRepository {
+    Mono<String> findIdByStatus(OrderStatus status);
+}
@@ -0,0 +1,89 @@
+package co.com.bancolombia.model.orders;
+
+import co.com.bancolombia.model.orders.exceptions.LoanRequestValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LoanRequestValidator.
+ */
+class LoanRequestValidatorTest {
+
+    private static final String LOAN_TYPE_ID = "550e8400-e29b-41d4-a716-446655441003";
+
+    @Test
+    @DisplayName("Valid request has no violations")
+    void validRequestHasNoViolations() {
+        List<String> violations = LoanRequestValidator.validate(
+                "12345678", new BigDecimal("50000.00"), 24, "test@example.com", LOAN_TYPE_ID);
+
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Every violated rule is reported in declaration order")
+    void allViolationsAreReported() {
+        List<String> violations = LoanRequestValidator.validate("123", null, 400, "   ", null);
+
+        assertEquals(List.of(
+                LoanRequestValidator.DOCUMENT_ID_FORMAT,
+                LoanRequestValidator.AMOUNT_POSITIVE,
+                LoanRequestValidator.DEADLINE_MAXIMUM,
+                LoanRequestValidator.EMAIL_REQUIRED,
+                LoanRequestValidator.LOAN_TYPE_REQUIRED), violations);
+    }
+
+    @Test
+    @DisplayName("Amount with too many decimals and integer digits reports both rules")
+    void amountReportsScaleAndIntegerDigits() {
+        List<String> violations = LoanRequestValidator.validate(
+                "12345678", new BigDecimal("12345678901234.123"), 24, "test@example.com", LOAN_TYPE_ID);
+
+        assertEquals(List.of(LoanRequestValidator.AMOUNT_DECIMALS, LoanRequestValidator.AMOUNT_INTEGER_DIGITS),
+                violations);
+    }
+
+    @Test
+    @DisplayName("requireValid throws with all the violations")
+    void requireValidThrowsWithAllViolations() {
+        LoanRequestValidationException exception = assertThrows(LoanRequestValidationException.class,
+                () -> LoanRequestValidator.requireValid(null, BigDecimal.ONE, 0, "test@example.com", LOAN_TYPE_ID));
+
+        assertEquals(List.of(LoanRequestValidator.DOCUMENT_ID_REQUIRED, LoanRequestValidator.DEADLINE_POSITIVE),
+                exception.getViolations());
+        assertTrue(exception.getMessage().contains("; "));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"12345678", "123456789012", "1234567", "1234567890123", "1234567a", "١٢٣٤٥٦٧٨",
+            " 12345678", "12345678\n", ""})
+    @DisplayName("Document scanner matches the original pattern")
+    void documentScannerMatchesPattern(String value) {
+        assertEquals(value.matches("^[0-9]{8,12}$"), LoanRequestValidator.isDocumentId(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test@example.com", "a.b+c_d-e@sub.domain.co", "user@domain.c", "user@.com",
+            "user@domain.", "@domain.com", "user@@domain.com", "user@domain.com1", "user@do_main.com",
+            "user@a..bc", "user@-.co", "us er@domain.com", "user@domain", "user@domain.com\n", "ñandú@domain.com",
+            "user@domain.cóm", "user"})
+    @DisplayName("Email scanner matches the original pattern")
+    void emailScannerMatchesPattern(String value) {
+        assertEquals(value.matches("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$"),
+                LoanRequestValidator.isEmailAddress(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "\t\n", " a ", "a", "\u00a0"})
+    @DisplayName("Blank check matches trim().isEmpty()")
+    void blankCheckMatchesTrim(String value) {
+        assertEquals(value.trim().isEmpty(), LoanRequestValidator.isBlank(value));
+    }
+}
@@ -2,18 +2,27 @@ package co.com.bancolombia.usecase.orders;
 
 import co.com.bancolombia.model.loantype.LoanType;
 import co.com.bancolombia.model.loantype.gateways.LoanTypeRepository;
+import co.com.bancolombia.model.orders.BulkCreationResult;
+import co.com.bancolombia.model.orders.EmailSearchMode;
+import co.com.bancolombia.model.orders.LoanApplication;
+import co.com.bancolombia.model.orders.LoanRequestValidator;
 import co.com.bancolombia.model.orders.Orders;
 import co.com.bancolombia.model.orders.PendingRequest;
+import co.com.bancolombia.model.orders.PendingRequestCursor;
 import co.com.bancolombia.model.orders.exceptions.InvalidLoanAmountException;
 import co.com.bancolombia.model.orders.exceptions.LoanTypeNotFoundException;
 import co.com.bancolombia.model.orders.exceptions.OrdersBusinessException;
 import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.status.OrderStatus;
+import co.com.bancolombia.model.status.gateways.StatusRepository;
 import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -21,20 +30,92 @@ public class OrdersUseCase implements IOrdersUseCase {
     
     private final OrdersRepository ordersRepository;
     private final LoanTypeRepository loanTypeRepository;
+    private final StatusRepository statusRepository;
 
     public Mono<Orders> createLoanRequest(String documentId, BigDecimal amount, Integer deadline, 
                                         String emailAddress, String loanTypeId) {
         
-        return validateLoanType(loanTypeId)
+        return validateRequest(documentId, amount, deadline, emailAddress, loanTypeId)
+                .then(Mono.defer(() -> validateLoanType(loanTypeId)))
                 .flatMap(loanType -> {
                     validateLoanAmountSync(amount, loanType);
                     return getPendingStatusId()
-                            .flatMap(pendingStatusId -> createAndValidateOrder(
+                            .map(pendingStatusId -> Orders.createNew(
                                     documentId, amount, deadline, emailAddress, loanTypeId, pendingStatusId))
                             .flatMap(this::saveOrder);
                 });
     }
 
+    /**
+     * Creates the given loan requests, validating each one on its own and storing the valid ones
+     * in chunks, one multi-row insert per chunk. When a chunk insert fails it is split in halves and
+     * retried, so only the rows that cannot be stored are rejected.
+     *
+     * @param applications the submitted loan requests
+     * @param chunkSize maximum number of orders stored with a single insert
+     * @return one result per application, in submission order
+     */
+    @Override
+    public Flux<BulkCreationResult> createLoanRequests(Flux<LoanApplication> applications, int chunkSize) {
+        return getPendingStatusId()
+                .flatMapMany(pendingStatusId -> applications
+                        .index()
+                        .concatMap(item -> prepareOrder(item.getT2(), pendingStatusId)
+                                .map(order -> BulkCreationResult.created(item.getT1(), order))
+                                .onErrorResume(ex -> Mono.just(rejected(item.getT1(), ex))))
+                        .buffer(chunkSize)
+                        .concatMap(this::insertChunk));
+    }
+
+    private Mono<Orders> prepareOrder(LoanApplication application, String pendingStatusId) {
+        return validateRequest(application.documentId(), application.amount(), application.deadline(),
+                        application.emailAddress(), application.loanTypeId())
+                .then(Mono.fromCallable(() -> Orders.createNew(application.documentId(), application.amount(),
+                        application.deadline(), application.emailAddress(), application.loanTypeId(), pendingStatusId)))
+                .flatMap(order -> validateLoanType(order.getIdLoanType())
+                        .doOnNext(loanType -> validateLoanAmountSync(order.getAmount(), loanType))
+                        .thenReturn(order));
+    }
+
+    private Flux<BulkCreationResult> insertChunk(List<BulkCreationResult> chunk) {
+        List<BulkCreationResult> created = chunk.stream()
+                .filter(BulkCreationResult::isCreated)
+                .toList();
+        if (created.isEmpty()) {
+            return Flux.fromIterable(chunk);
+        }
+        return insertIsolatingFailures(created)
+                .collectMap(BulkCreationResult::index)
+                .flatMapIterable(stored -> chunk.stream()
+                        .map(result -> stored.getOrDefault(result.index(), result))
+                        .toList());
+    }
+
+    private Flux<BulkCreationResult> insertIsolatingFailures(List<BulkCreationResult> created) {
+        return ordersRepository.insertAll(created.stream().map(BulkCreationResult::order).toList())
+                .thenMany(Flux.fromIterable(created))
+                .onErrorResume(ex -> {
+                    if (created.size() == 1) {
+                        return Flux.just(BulkCreationResult.rejected(created.get(0).index(), "PERSISTENCE_ERROR",
+                                "No se pudo guardar la solicitud"));
+                    }
+                    int middle = created.size() / 2;
+                    return insertIsolatingFailures(created.subList(0, middle))
+                            .concatWith(Flux.defer(() -> insertIsolatingFailures(
+                                    created.subList(middle, created.size()))));
+                });
+    }
+
+    private BulkCreationResult rejected(long index, Throwable ex) {
+        if (ex instanceof OrdersBusinessException businessException) {
+            return BulkCreationResult.rejected(index, businessException.getCode(), ex.getMessage());
+        }
+        if (ex instanceof IllegalArgumentException) {
+            return BulkCreationResult.rejected(index, "INVALID_REQUEST", ex.getMessage());
+        }
+        return BulkCreationResult.rejected(index, "INTERNAL_ERROR", "Error procesando la solicitud");
+    }
+
     private Mono<LoanType> validateLoanType(String loanTypeId) {
         return loanTypeRepository.findById(loanTypeId)
                 .switchIfEmpty(Mono.error(new LoanTypeNotFoundException(loanTypeId)));
@@ -53,22 +134,19 @@ public class OrdersUseCase implements IOrdersUseCase {
     }
 
     private Mono<String> getPendingStatusId() {
-        return ordersRepository.findPendingStatusId()
+        return statusRepository.findIdByStatus(OrderStatus.PENDING)
                 .switchIfEmpty(Mono.error(new OrdersBusinessException("PENDING_STATUS_NOT_FOUND", 
                                                                      "No se encontró el estado 'PENDING'")));
     }
 
-    private Mono<Orders> createAndValidateOrder(String documentId, BigDecimal amount, Integer deadline,
-                                              String emailAddress, String loanTypeId, String pendingStatusId) {
-        return Mono.fromCallable(() -> {
-            Orders order = Orders.createNew(documentId, amount, deadline, emailAddress, loanTypeId, pendingStatusId);
-            order.validateForCreation();
-            return order;
-        });
+    private Mono<Void> validateRequest(String documentId, BigDecimal amount, Integer deadline,
+                                       String emailAddress, String loanTypeId) {
+        return Mono.fromRunnable(() ->
+                LoanRequestValidator.requireValid(documentId, amount, deadline, emailAddress, loanTypeId));
     }
 
     private Mono<Orders> saveOrder(Orders order) {
-        return ordersRepository.save(order);
+        return ordersRepository.insert(order);
     }
 
     public Mono<Orders> findById(String orderId) {
@@ -77,6 +155,11 @@ public class OrdersUseCase implements IOrdersUseCase {
                                                                      "No se encontró la solicitud con ID: " + orderId)));
     }
 
+    @Override
+    public Mono<LocalDateTime> findUpdateDateById(String orderId) {
+        return ordersRepository.findUpdateDateById(orderId);
+    }
+
     @Override
     public Mono<Orders> findByDocumentId(String documentId) {
         return ordersRepository.findByDocumentId(documentId)
@@ -95,7 +178,14 @@ public class OrdersUseCase implements IOrdersUseCase {
     }
 
     @Override
-    public Flux<PendingRequest> findPendingRequests(UUID statusId, String email, int page, int size) {
-        return ordersRepository.findPendingRequests(statusId, email, page, size);
+    public Flux<PendingRequest> findPendingRequests(UUID statusId, String email, EmailSearchMode emailMode,
+                                                    int page, int size) {
+        return ordersRepository.findPendingRequests(statusId, email, emailMode, page, size);
+    }
+
+    @Override
+    public Flux<PendingRequest> findPendingRequests(UUID statusId, String email, EmailSearchMode emailMode,
+                                                    PendingRequestCursor after, int size) {
+        return ordersRepository.findPendingRequests(statusId, email, emailMode, after, size);
     }
 }
\ No newline at end of file
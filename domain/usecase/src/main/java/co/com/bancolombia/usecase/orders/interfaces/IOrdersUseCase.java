@@ -1,11 +1,16 @@
 package co.com.bancolombia.usecase.orders.interfaces;
 
+import co.com.bancolombia.model.orders.BulkCreationResult;
+import co.com.bancolombia.model.orders.EmailSearchMode;
+import co.com.bancolombia.model.orders.LoanApplication;
 import co.com.bancolombia.model.orders.PendingRequest;
+import co.com.bancolombia.model.orders.PendingRequestCursor;
 import co.com.bancolombia.model.orders.Orders;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface IOrdersUseCase {
@@ -13,13 +18,24 @@ public interface IOrdersUseCase {
     Mono<Orders> createLoanRequest(String documentId, BigDecimal amount, Integer deadline, 
                                   String emailAddress, String loanTypeId);
 
+    Flux<BulkCreationResult> createLoanRequests(Flux<LoanApplication> applications, int chunkSize);
+
     Mono<Orders> findById(String orderId);
 
+    /**
+     * Last update of an order, read without loading the order; empty when the order does not exist.
+     */
+    Mono<LocalDateTime> findUpdateDateById(String orderId);
+
     Mono<Orders> findByDocumentId(String documentId);
 
     Flux<Orders> findByEmailAddress(String emailAddress);
 
     Mono<Boolean> existsByDocumentIdAndStatus(String documentId, String statusId);
 
-    Flux<co.com.bancolombia.model.orders.PendingRequest> findPendingRequests(UUID statusId, String email, int page, int size);
+    Flux<co.com.bancolombia.model.orders.PendingRequest> findPendingRequests(UUID statusId, String email,
+                                                                             EmailSearchMode emailMode, int page, int size);
+
+    Flux<PendingRequest> findPendingRequests(UUID statusId, String email, EmailSearchMode emailMode,
+                                             PendingRequestCursor after, int size);
 }   
\ No newline at end of file
@@ -2,11 +2,14 @@ package co.com.bancolombia.usecase.orders;
 
 import co.com.bancolombia.model.loantype.LoanType;
 import co.com.bancolombia.model.loantype.gateways.LoanTypeRepository;
+import co.com.bancolombia.model.orders.LoanApplication;
 import co.com.bancolombia.model.orders.Orders;
 import co.com.bancolombia.model.orders.exceptions.InvalidLoanAmountException;
 import co.com.bancolombia.model.orders.exceptions.LoanTypeNotFoundException;
 import co.com.bancolombia.model.orders.exceptions.OrdersBusinessException;
 import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.status.OrderStatus;
+import co.com.bancolombia.model.status.gateways.StatusRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,9 +22,16 @@ import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -37,11 +47,14 @@ class OrdersUseCaseTest {
     @Mock
     private LoanTypeRepository loanTypeRepository;
 
+    @Mock
+    private StatusRepository statusRepository;
+
     private OrdersUseCase ordersUseCase;
 
     @BeforeEach
     void setUp() {
-        ordersUseCase = new OrdersUseCase(ordersRepository, loanTypeRepository);
+        ordersUseCase = new OrdersUseCase(ordersRepository, loanTypeRepository, statusRepository);
     }
 
     private LoanType buildValidLoanType() {
@@ -84,8 +97,8 @@ class OrdersUseCaseTest {
         Orders expectedOrder = buildValidOrder();
 
         when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(loanType));
-        when(ordersRepository.findPendingStatusId()).thenReturn(Mono.just(pendingStatusId));
-        when(ordersRepository.save(any(Orders.class))).thenReturn(Mono.just(expectedOrder));
+        when(statusRepository.findIdByStatus(OrderStatus.PENDING)).thenReturn(Mono.just(pendingStatusId));
+        when(ordersRepository.insert(any(Orders.class))).thenReturn(Mono.just(expectedOrder));
 
         StepVerifier.create(ordersUseCase.createLoanRequest(documentId, amount, deadline, emailAddress, loanTypeId))
                 .expectNext(expectedOrder)
@@ -159,7 +172,7 @@ class OrdersUseCaseTest {
         LoanType loanType = buildValidLoanType();
 
         when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(loanType));
-        when(ordersRepository.findPendingStatusId()).thenReturn(Mono.empty());
+        when(statusRepository.findIdByStatus(OrderStatus.PENDING)).thenReturn(Mono.empty());
 
         StepVerifier.create(ordersUseCase.createLoanRequest(documentId, amount, deadline, emailAddress, loanTypeId))
                 .expectError(OrdersBusinessException.class)
@@ -193,6 +206,20 @@ class OrdersUseCaseTest {
                 .verify();
     }
 
+    @Test
+    @DisplayName("Find update date by ID - missing order is empty, not an error")
+    void findUpdateDateById() {
+        LocalDateTime updateDate = LocalDateTime.of(2026, 3, 1, 10, 15, 30);
+        when(ordersRepository.findUpdateDateById("order-123")).thenReturn(Mono.just(updateDate));
+        when(ordersRepository.findUpdateDateById("non-existing-order")).thenReturn(Mono.empty());
+
+        StepVerifier.create(ordersUseCase.findUpdateDateById("order-123"))
+                .expectNext(updateDate)
+                .verifyComplete();
+        StepVerifier.create(ordersUseCase.findUpdateDateById("non-existing-order"))
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("Find by document ID - success")
     void findByDocumentIdSuccess() {
@@ -278,4 +305,91 @@ class OrdersUseCaseTest {
                 .expectNext(false)
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    private LoanApplication buildApplication(String documentId, BigDecimal amount) {
+        return new LoanApplication(documentId, amount, 24, "test@example.com",
+                "550e8400-e29b-41d4-a716-446655441003");
+    }
+
+    @Test
+    @DisplayName("Create loan requests - valid items are stored in chunks, invalid ones rejected")
+    void createLoanRequestsStoresValidItemsInChunks() {
+        when(statusRepository.findIdByStatus(OrderStatus.PENDING)).thenReturn(Mono.just("pending-status-id"));
+        when(loanTypeRepository.findById("550e8400-e29b-41d4-a716-446655441003"))
+                .thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insertAll(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<Orders>>getArgument(0)));
+
+        Flux<LoanApplication> applications = Flux.just(
+                buildApplication("12345678", new BigDecimal("50000")),
+                buildApplication("123", new BigDecimal("50000")),
+                buildApplication("87654321", new BigDecimal("5000")),
+                buildApplication("11223344", new BigDecimal("60000")));
+
+        StepVerifier.create(ordersUseCase.createLoanRequests(applications, 2))
+                .assertNext(result -> {
+                    assertTrue(result.isCreated());
+                    assertEquals(0, result.index());
+                    assertEquals("pending-status-id", result.order().getIdStatus());
+                })
+                .assertNext(result -> assertEquals("INVALID_REQUEST", result.errorCode()))
+                .assertNext(result -> assertEquals("INVALID_LOAN_AMOUNT", result.errorCode()))
+                .assertNext(result -> {
+                    assertTrue(result.isCreated());
+                    assertEquals(3, result.index());
+                })
+                .verifyComplete();
+        verify(ordersRepository, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Create loan requests - failed insert rejects the chunk")
+    void createLoanRequestsFailedInsertRejectsChunk() {
+        when(statusRepository.findIdByStatus(OrderStatus.PENDING)).thenReturn(Mono.just("pending-status-id"));
+        when(loanTypeRepository.findById("550e8400-e29b-41d4-a716-446655441003"))
+                .thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insertAll(anyList())).thenReturn(Flux.error(new IllegalStateException("duplicate key")));
+
+        StepVerifier.create(ordersUseCase.createLoanRequests(
+                        Flux.just(buildApplication("12345678", new BigDecimal("50000"))), 10))
+                .assertNext(result -> {
+                    assertFalse(result.isCreated());
+                    assertEquals("PERSISTENCE_ERROR", result.errorCode());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Create loan requests - a failing row is isolated from the rest of its chunk")
+    void createLoanRequestsFailingRowIsIsolated() {
+        when(statusRepository.findIdByStatus(OrderStatus.PENDING)).thenReturn(Mono.just("pending-status-id"));
+        when(loanTypeRepository.findById("550e8400-e29b-41d4-a716-446655441003"))
+                .thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Orders> orders = invocation.getArgument(0);
+            return orders.stream().anyMatch(order -> "87654321".equals(order.getDocumentId()))
+                    ? Flux.error(new IllegalStateException("duplicate key"))
+                    : Flux.fromIterable(orders);
+        });
+
+        Flux<LoanApplication> applications = Flux.just(
+                buildApplication("12345678", new BigDecimal("50000")),
+                buildApplication("87654321", new BigDecimal("50000")),
+                buildApplication("11223344", new BigDecimal("60000")));
+
+        StepVerifier.create(ordersUseCase.createLoanRequests(applications, 10))
+                .assertNext(result -> {
+                    assertTrue(result.isCreated());
+                    assertEquals(0, result.index());
+                })
+                .assertNext(result -> {
+                    assertEquals(1, result.index());
+                    assertEquals("PERSISTENCE_ERROR", result.errorCode());
+                })
+                .assertNext(result -> {
+                    assertTrue(result.isCreated());
+                    assertEquals(2, result.index());
+                })
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,18 @@
+package co.com.bancolombia.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the deletion of expired idempotency keys.
+ *
+ * @param interval time between two cleanups
+ * @param batchSize keys deleted by each statement, so a large backlog does not hold one long delete
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.idempotency-cleanup")
+public record IdempotencyCleanupProperties(
+        @DefaultValue("10m") Duration interval,
+        @DefaultValue("1000") int batchSize) {
+}
@@ -0,0 +1,51 @@
+package co.com.bancolombia.r2dbc.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection pool that records in {@value #ACQUIRE_METRIC} how long callers wait for a connection,
+ * which is the latency a saturated pool adds to every query. The size gauges of the pool (acquired,
+ * allocated, idle and pending connections) are published by the Spring Boot actuator under
+ * {@code r2dbc.pool.*} with the same {@code name} tag.
+ *
+ * @author Crediya Development Team
+ */
+class MeteredConnectionPool extends ConnectionPool {
+
+    static final String ACQUIRE_METRIC = "r2dbc.pool.acquire";
+
+    private final Timer acquired;
+    private final Timer failed;
+
+    MeteredConnectionPool(ConnectionPoolConfiguration configuration, String name, MeterRegistry meterRegistry) {
+        super(configuration);
+        this.acquired = timer(meterRegistry, name, "success");
+        this.failed = timer(meterRegistry, name, "error");
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return super.create()
+                    .doOnSuccess(connection -> acquired.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(ex -> failed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String outcome) {
+        return Timer.builder(ACQUIRE_METRIC)
+                .description("Time spent waiting to acquire a connection from the pool")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package co.com.bancolombia.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the group commit of order inserts.
+ *
+ * @param enabled whether concurrent inserts are coalesced into batches
+ * @param window maximum time an insert waits for other inserts to join its batch
+ * @param maxBatchSize number of inserts that flushes a batch before the window elapses
+ * @param maxConcurrentFlushes batches that may be written at the same time
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.insert-coalescing")
+public record OrderInsertCoalescingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2ms") Duration window,
+        @DefaultValue("64") int maxBatchSize,
+        @DefaultValue("4") int maxConcurrentFlushes) {
+}
@@ -1,24 +1,34 @@
 package co.com.bancolombia.r2dbc.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
-import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 public class PostgreSQLConnectionPool {
-    /* Change these values for your project */
-    public static final int INITIAL_SIZE = 12;
-    public static final int MAX_SIZE = 15;
-    public static final int MAX_IDLE_TIME = 30;
+    /* Names of the pools and of their beans, reported as the name tag of the r2dbc.pool metrics */
+    public static final String POOL_NAME = "api-postgres-connection-pool";
+    public static final String REPLICA_POOL_NAME = "api-postgres-replica-pool";
     public static final int DEFAULT_PORT = 5432;
+    /* Rows fetched per round trip, so large result sets are read with a cursor as they are consumed */
+    public static final int DEFAULT_FETCH_SIZE = 250;
+    /* Connections per CPU when the pool is sized by default; R2DBC connections never block a thread */
+    public static final int CONNECTIONS_PER_CPU = 4;
+    public static final int MIN_POOL_SIZE = 4;
 
-	@Bean
-	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
+	@Bean(name = POOL_NAME)
+	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties, MeterRegistry meterRegistry) {
 		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
                 .host(properties.host())
                 .port(properties.port())
@@ -26,17 +36,84 @@ public class PostgreSQLConnectionPool {
                 .schema(properties.schema())
                 .username(properties.username())
                 .password(properties.password())
+                .fetchSize(properties.fetchSize() != null ? properties.fetchSize() : DEFAULT_FETCH_SIZE)
                 .build();
 
-        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
-                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
-                .name("api-postgres-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
-                .validationQuery("SELECT 1")
+		return new MeteredConnectionPool(
+                poolConfiguration(new PostgresqlConnectionFactory(dbConfiguration), POOL_NAME, properties.pool(),
+                        Runtime.getRuntime().availableProcessors()),
+                POOL_NAME, meterRegistry);
+	}
+
+    @Bean(name = REPLICA_POOL_NAME)
+    @ConditionalOnProperty(prefix = "adapters.r2dbc.replica", name = "enabled", havingValue = "true")
+    public ConnectionPool replicaConnectionPool(PostgresqlConnectionProperties properties,
+                                                MeterRegistry meterRegistry) {
+        PostgresqlConnectionProperties.Replica replica = properties.replica();
+        PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
+                .host(replica.host())
+                .port(replica.port() != null ? replica.port() : properties.port())
+                .database(replica.database() != null ? replica.database() : properties.database())
+                .schema(properties.schema())
+                .username(replica.username() != null ? replica.username() : properties.username())
+                .password(replica.password() != null ? replica.password() : properties.password())
+                .fetchSize(properties.fetchSize() != null ? properties.fetchSize() : DEFAULT_FETCH_SIZE)
+                .options(Map.of("default_transaction_read_only", "on"))
                 .build();
 
-		return new ConnectionPool(poolConfiguration);
-	}
+        return new MeteredConnectionPool(
+                poolConfiguration(new PostgresqlConnectionFactory(dbConfiguration), REPLICA_POOL_NAME, replica.pool(),
+                        Runtime.getRuntime().availableProcessors()),
+                REPLICA_POOL_NAME, meterRegistry);
+    }
+
+    /**
+     * Connection factory used by the repositories and the database client. Reads the adapters mark
+     * as replica reads go to the replica pool when it is enabled, everything else to the primary.
+     */
+    @Bean
+    @Primary
+    public ConnectionFactory connectionFactory(@Qualifier(POOL_NAME) ConnectionPool primary,
+                                               @Qualifier(REPLICA_POOL_NAME) ObjectProvider<ConnectionPool> replica,
+                                               PostgresqlConnectionProperties properties) {
+        return new ReadRoutingConnectionFactory(primary, replica.getIfAvailable(), properties.replica().retryAfter());
+    }
+
+    static ConnectionPoolConfiguration poolConfiguration(ConnectionFactory connectionFactory, String name,
+                                                         PostgresqlConnectionProperties.Pool pool, int cpus) {
+        int maxSize = pool.maxSize() != null ? pool.maxSize() : defaultMaxSize(cpus, pool.expectedConcurrency());
+        int initialSize = pool.initialSize() != null ? pool.initialSize() : defaultInitialSize(cpus, maxSize);
+
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder()
+                .connectionFactory(connectionFactory)
+                .name(name)
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .minIdle(pool.minIdle())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .maxAcquireTime(pool.maxAcquireTime())
+                .maxCreateConnectionTime(pool.maxCreateConnectionTime())
+                .maxValidationTime(pool.maxValidationTime())
+                .backgroundEvictionInterval(pool.backgroundEvictionInterval())
+                .validationDepth(pool.validationDepth())
+                .acquireRetry(pool.acquireRetry());
+        if (pool.validationQuery() != null && !pool.validationQuery().isBlank()) {
+            builder.validationQuery(pool.validationQuery());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Maximum pool size when none is configured: enough connections for the expected concurrency,
+     * bounded by what the CPUs of the service can keep busy.
+     */
+    static int defaultMaxSize(int cpus, int expectedConcurrency) {
+        int bound = Math.max(MIN_POOL_SIZE, cpus * CONNECTIONS_PER_CPU);
+        return Math.max(1, Math.min(expectedConcurrency, bound));
+    }
+
+    static int defaultInitialSize(int cpus, int maxSize) {
+        return Math.min(cpus, maxSize);
+    }
 }
\ No newline at end of file
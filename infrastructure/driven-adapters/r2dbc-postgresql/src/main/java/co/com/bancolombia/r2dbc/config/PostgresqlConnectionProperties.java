@@ -1,7 +1,11 @@
 package co.com.bancolombia.r2dbc.config;
 
 // TODO: Load properties from the application.yaml file or from secrets manager
+import io.r2dbc.spi.ValidationDepth;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
 
 @ConfigurationProperties(prefix = "adapters.r2dbc")
 public record PostgresqlConnectionProperties(
@@ -10,5 +14,70 @@ public record PostgresqlConnectionProperties(
         String database,
         String schema,
         String username,
-        String password) {
+        String password,
+        Integer fetchSize,
+        @DefaultValue Pool pool,
+        @DefaultValue Replica replica) {
+
+    /**
+     * Settings of the connection pool.
+     *
+     * @param initialSize connections opened when the pool starts; derived from the CPU count when not set
+     * @param maxSize maximum number of connections; derived from the CPU count and the expected
+     *                concurrency when not set
+     * @param minIdle idle connections kept open after eviction
+     * @param expectedConcurrency database operations the service expects to run at the same time,
+     *                            used to size the pool when {@code maxSize} is not set
+     * @param maxIdleTime time a connection may stay idle before it is evicted
+     * @param maxLifeTime time after which a connection is closed once released
+     * @param maxAcquireTime maximum time to wait for a connection before the acquire fails
+     * @param maxCreateConnectionTime maximum time to open a new connection
+     * @param maxValidationTime maximum time the validation of a connection may take
+     * @param backgroundEvictionInterval interval of the background eviction of idle and expired
+     *                                   connections; a zero duration evicts only on acquire and release
+     * @param validationDepth validation run when a connection is acquired: {@code LOCAL} checks the
+     *                        connection state without a round trip, {@code REMOTE} asks the server
+     * @param validationQuery query run instead of {@code validationDepth} when a connection is
+     *                        acquired; every acquire then costs a round trip
+     * @param acquireRetry times the acquisition is retried when a connection cannot be opened
+     */
+    public record Pool(
+            Integer initialSize,
+            Integer maxSize,
+            @DefaultValue("0") int minIdle,
+            @DefaultValue("64") int expectedConcurrency,
+            @DefaultValue("30m") Duration maxIdleTime,
+            @DefaultValue("1h") Duration maxLifeTime,
+            @DefaultValue("5s") Duration maxAcquireTime,
+            @DefaultValue("5s") Duration maxCreateConnectionTime,
+            @DefaultValue("2s") Duration maxValidationTime,
+            @DefaultValue("2m") Duration backgroundEvictionInterval,
+            @DefaultValue("LOCAL") ValidationDepth validationDepth,
+            String validationQuery,
+            @DefaultValue("1") int acquireRetry) {
+    }
+
+    /**
+     * Read-only replica that serves the queries of the adapters. Connection settings that are not
+     * set are taken from the primary.
+     *
+     * @param enabled whether reads are routed to the replica
+     * @param host host of the replica
+     * @param port port of the replica
+     * @param database database of the replica
+     * @param username user of the replica
+     * @param password password of the replica
+     * @param retryAfter time reads stay on the primary after the replica failed to provide a connection
+     * @param pool settings of the replica connection pool
+     */
+    public record Replica(
+            @DefaultValue("false") boolean enabled,
+            String host,
+            Integer port,
+            String database,
+            String username,
+            String password,
+            @DefaultValue("30s") Duration retryAfter,
+            @DefaultValue Pool pool) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package co.com.bancolombia.r2dbc.config;
+
+import co.com.bancolombia.model.common.ReadPreference;
+import co.com.bancolombia.tracing.TraceLog;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.R2dbcTransientResourceException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Connection factory that serves the reads marked with {@link #preferReplica(Mono)} from the replica
+ * pool and everything else from the primary pool. When the replica cannot provide a connection the
+ * read falls back to the primary. Only a replica that is down, i.e. its connection failed, keeps
+ * the reads there until the retry delay elapses, so it costs one failed acquire per delay instead of
+ * one per read; a replica pool that is merely busy, e.g. an acquire timeout, sends only that read to
+ * the primary, which would otherwise take every read exactly when the load is highest.
+ *
+ * @author Crediya Development Team
+ */
+@Slf4j
+public class ReadRoutingConnectionFactory implements ConnectionFactory {
+
+    private final ConnectionFactory primary;
+    private final ConnectionFactory replica;
+    private final Duration retryAfter;
+    private volatile long replicaUnavailableUntilMillis;
+
+    /**
+     * @param primary pool of the primary database
+     * @param replica pool of the replica, or {@code null} to serve every read from the primary
+     * @param retryAfter time reads stay on the primary after the replica failed
+     */
+    public ReadRoutingConnectionFactory(ConnectionFactory primary, ConnectionFactory replica, Duration retryAfter) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Sends the reads of the given publisher to the replica unless the caller asked for
+     * {@link ReadPreference#PRIMARY}.
+     */
+    public static <T> Mono<T> preferReplica(Mono<T> reads) {
+        return reads.contextWrite(context -> context.hasKey(ReadPreference.CONTEXT_KEY)
+                ? context
+                : context.put(ReadPreference.CONTEXT_KEY, ReadPreference.REPLICA));
+    }
+
+    /**
+     * Sends the reads of the given publisher to the replica unless the caller asked for
+     * {@link ReadPreference#PRIMARY}.
+     */
+    public static <T> Flux<T> preferReplica(Flux<T> reads) {
+        return reads.contextWrite(context -> context.hasKey(ReadPreference.CONTEXT_KEY)
+                ? context
+                : context.put(ReadPreference.CONTEXT_KEY, ReadPreference.REPLICA));
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.deferContextual(context -> {
+            ReadPreference preference = context.getOrDefault(ReadPreference.CONTEXT_KEY, ReadPreference.PRIMARY);
+            boolean replicaRead = replica != null
+                    && preference == ReadPreference.REPLICA
+                    && System.currentTimeMillis() >= replicaUnavailableUntilMillis;
+            if (!replicaRead) {
+                return Mono.from(primary.create());
+            }
+            return Mono.<Connection>from(replica.create())
+                    .onErrorResume(ex -> {
+                        if (isConnectionFailure(ex)) {
+                            TraceLog.warn(log, context,
+                                    "Réplica de lectura no disponible ({}), se lee del primario durante {}",
+                                    ex.getMessage(), retryAfter);
+                            replicaUnavailableUntilMillis = System.currentTimeMillis() + retryAfter.toMillis();
+                        } else {
+                            TraceLog.warn(log, context,
+                                    "No se obtuvo conexión de la réplica de lectura ({}), se lee del primario",
+                                    ex.getMessage());
+                        }
+                        return Mono.from(primary.create());
+                    });
+        });
+    }
+
+    private static boolean isConnectionFailure(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof R2dbcNonTransientResourceException
+                    || cause instanceof R2dbcTransientResourceException
+                    || cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return primary.getMetadata();
+    }
+}
@@ -0,0 +1,18 @@
+package co.com.bancolombia.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-memory registry of order statuses.
+ *
+ * @param refreshInterval time between two reloads of the registry from the database
+ * @param loadTimeout maximum time the initial load may block startup
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.status-registry")
+public record StatusRegistryProperties(
+        @DefaultValue("10m") Duration refreshInterval,
+        @DefaultValue("30s") Duration loadTimeout) {
+}
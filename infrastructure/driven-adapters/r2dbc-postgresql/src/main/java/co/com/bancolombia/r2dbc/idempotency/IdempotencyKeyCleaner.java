@@ -0,0 +1,75 @@
+package co.com.bancolombia.r2dbc.idempotency;
+
+import co.com.bancolombia.r2dbc.config.IdempotencyCleanupProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes expired idempotency keys on a fixed interval, in batches of
+ * {@link IdempotencyCleanupProperties#batchSize()} until a batch comes back short. Every instance
+ * runs it; concurrent cleanups only delete the same rows once.
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyCleaner {
+
+    private final IdempotencyKeyR2dbcRepository repository;
+    private final IdempotencyCleanupProperties properties;
+    private final Counter deletedKeys;
+    private Disposable scheduledCleanup;
+
+    public IdempotencyKeyCleaner(IdempotencyKeyR2dbcRepository repository, IdempotencyCleanupProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.deletedKeys = Counter.builder("idempotency.keys.deleted")
+                .description("Expired idempotency keys deleted by the cleanup")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        scheduledCleanup = Flux.interval(properties.interval(), properties.interval())
+                .concatMap(tick -> purge()
+                        .onErrorResume(ex -> {
+                            log.warn("Error eliminando llaves de idempotencia expiradas: {}", ex.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduledCleanup != null) {
+            scheduledCleanup.dispose();
+        }
+    }
+
+    /**
+     * Deletes every key expired at the time of the call.
+     *
+     * @return number of deleted keys
+     */
+    public Mono<Long> purge() {
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = properties.batchSize();
+        return repository.deleteExpired(now, batchSize)
+                .expand(deleted -> deleted < batchSize ? Mono.empty() : repository.deleteExpired(now, batchSize))
+                .reduce(0L, Long::sum)
+                .doOnNext(deleted -> {
+                    deletedKeys.increment(deleted);
+                    if (deleted > 0) {
+                        log.info("Llaves de idempotencia expiradas eliminadas: {}", deleted);
+                    }
+                });
+    }
+}
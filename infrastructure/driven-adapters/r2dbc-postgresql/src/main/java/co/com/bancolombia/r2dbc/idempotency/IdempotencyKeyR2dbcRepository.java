@@ -0,0 +1,48 @@
+package co.com.bancolombia.r2dbc.idempotency;
+
+import co.com.bancolombia.r2dbc.idempotency.data.IdempotencyKeyData;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyKeyR2dbcRepository extends ReactiveCrudRepository<IdempotencyKeyData, String> {
+
+    /**
+     * Inserts the key, or takes it over when its record has expired but was not deleted yet.
+     *
+     * @return the key when it was claimed, empty when an unexpired record holds it
+     */
+    @Query("INSERT INTO idempotency_keys (idempotency_key, request_hash, response, created_at, expires_at) " +
+           "VALUES ($1, $2, NULL, $3, $4) " +
+           "ON CONFLICT (idempotency_key) DO UPDATE SET " +
+           "request_hash = EXCLUDED.request_hash, " +
+           "response = NULL, " +
+           "created_at = EXCLUDED.created_at, " +
+           "expires_at = EXCLUDED.expires_at " +
+           "WHERE idempotency_keys.expires_at < EXCLUDED.created_at " +
+           "RETURNING idempotency_key")
+    Mono<String> claim(String key, String requestHash, LocalDateTime createdAt, LocalDateTime expiresAt);
+
+    /**
+     * Stores the response of the claim created at {@code createdAt}; a claim taken over since then
+     * has another creation time and is left alone.
+     */
+    @Modifying
+    @Query("UPDATE idempotency_keys SET response = $3, expires_at = $4 " +
+           "WHERE idempotency_key = $1 AND created_at = $2 AND response IS NULL")
+    Mono<Integer> complete(String key, LocalDateTime createdAt, String response, LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM idempotency_keys WHERE idempotency_key = $1 AND created_at = $2 AND response IS NULL")
+    Mono<Integer> release(String key, LocalDateTime createdAt);
+
+    @Modifying
+    @Query("DELETE FROM idempotency_keys WHERE idempotency_key IN (" +
+           "SELECT idempotency_key FROM idempotency_keys WHERE expires_at < $1 LIMIT $2)")
+    Mono<Integer> deleteExpired(LocalDateTime now, int limit);
+}
@@ -0,0 +1,63 @@
+package co.com.bancolombia.r2dbc.idempotency;
+
+import co.com.bancolombia.metrics.StageMetrics;
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import co.com.bancolombia.model.idempotency.gateways.IdempotencyRepository;
+import co.com.bancolombia.r2dbc.idempotency.data.IdempotencyKeyData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency keys in the {@code idempotency_keys} table. Every statement goes to the primary: a
+ * key claimed on one instance must be seen at once by the others.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepositoryAdapter implements IdempotencyRepository {
+
+    private final IdempotencyKeyR2dbcRepository repository;
+    private final StageMetrics stageMetrics;
+
+    @Override
+    public Mono<Boolean> claim(IdempotencyRecord record) {
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "idempotency.claim",
+                repository.claim(record.key(), record.requestHash(), record.createdAt(), record.expiresAt())
+                        .hasElement());
+    }
+
+    @Override
+    public Mono<IdempotencyRecord> findByKey(String key) {
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "idempotency.find_by_key",
+                repository.findById(key).map(IdempotencyRepositoryAdapter::toDomain));
+    }
+
+    @Override
+    public Mono<Boolean> complete(IdempotencyRecord claim, String response, LocalDateTime expiresAt) {
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "idempotency.complete",
+                repository.complete(claim.key(), claim.createdAt(), response, expiresAt)
+                        .map(updated -> updated > 0));
+    }
+
+    @Override
+    public Mono<Void> release(IdempotencyRecord claim) {
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "idempotency.release",
+                repository.release(claim.key(), claim.createdAt())
+                        .doOnNext(deleted -> {
+                            if (deleted == 0) {
+                                log.warn("La llave de idempotencia {} ya no estaba reservada al liberarla",
+                                        claim.key());
+                            }
+                        })
+                        .then());
+    }
+
+    private static IdempotencyRecord toDomain(IdempotencyKeyData data) {
+        return new IdempotencyRecord(data.getIdempotencyKey(), data.getRequestHash(), data.getResponse(),
+                data.getCreatedAt(), data.getExpiresAt());
+    }
+}
@@ -0,0 +1,35 @@
+package co.com.bancolombia.r2dbc.idempotency.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table("idempotency_keys")
+public class IdempotencyKeyData {
+    @Id
+    @Column("idempotency_key")
+    private String idempotencyKey;
+
+    @Column("request_hash")
+    private String requestHash;
+
+    @Column("response")
+    private String response;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("expires_at")
+    private LocalDateTime expiresAt;
+
+}
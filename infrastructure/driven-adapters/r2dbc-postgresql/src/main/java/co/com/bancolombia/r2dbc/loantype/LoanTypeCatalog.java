@@ -0,0 +1,123 @@
+package co.com.bancolombia.r2dbc.loantype;
+
+import co.com.bancolombia.model.loantype.LoanType;
+import co.com.bancolombia.r2dbc.config.LoanTypeCatalogProperties;
+import co.com.bancolombia.r2dbc.loantype.mapper.LoanTypeMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Immutable in-memory snapshot of the {@code loan_type} reference table.
+ * The snapshot is loaded at startup, reloaded on a fixed interval or on demand, and swapped
+ * atomically; lookups return publishers built at load time, so they neither query the
+ * database nor allocate.
+ */
+@Slf4j
+@Component
+public class LoanTypeCatalog {
+
+    private static final Snapshot EMPTY = new Snapshot(Map.of(), Flux.empty(), null);
+    private static final Mono<Boolean> EXISTS = Mono.just(true);
+    private static final Mono<Boolean> NOT_EXISTS = Mono.just(false);
+
+    private final LoanTypeR2dbcRepository repository;
+    private final LoanTypeCatalogProperties properties;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(EMPTY);
+    private Disposable scheduledRefresh;
+
+    public LoanTypeCatalog(LoanTypeR2dbcRepository repository, LoanTypeCatalogProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        Gauge.builder("loan.type.catalog.age", this, LoanTypeCatalog::snapshotAgeSeconds)
+                .baseUnit("seconds")
+                .description("Time since the loan type catalog was last loaded")
+                .register(meterRegistry);
+        Gauge.builder("loan.type.catalog.size", this, catalog -> catalog.snapshot.get().byId().size())
+                .description("Loan types held by the catalog")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            refresh().block(properties.loadTimeout());
+        } catch (RuntimeException ex) {
+            log.error("No se pudo cargar el catálogo de tipos de préstamo, se reintentará: {}", ex.getMessage());
+        }
+        scheduledRefresh = Flux.interval(properties.refreshInterval(), properties.refreshInterval())
+                .concatMap(tick -> refresh()
+                        .onErrorResume(ex -> {
+                            log.warn("Error recargando el catálogo de tipos de préstamo: {}", ex.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.dispose();
+        }
+    }
+
+    /**
+     * Reloads every loan type from the database and replaces the current snapshot.
+     *
+     * @return completes once the new snapshot is visible to lookups
+     */
+    public Mono<Void> refresh() {
+        return repository.findAll()
+                .map(LoanTypeMapper::toDomain)
+                .collectList()
+                .doOnNext(loanTypes -> {
+                    snapshot.set(Snapshot.of(loanTypes));
+                    log.info("Catálogo de tipos de préstamo cargado con {} registros", loanTypes.size());
+                })
+                .then();
+    }
+
+    public boolean isLoaded() {
+        return snapshot.get().loadedAt() != null;
+    }
+
+    public Mono<LoanType> findById(String id) {
+        return snapshot.get().byId().getOrDefault(id, Mono.empty());
+    }
+
+    public Flux<LoanType> findAll() {
+        return snapshot.get().all();
+    }
+
+    public Mono<Boolean> existsById(String id) {
+        return snapshot.get().byId().containsKey(id) ? EXISTS : NOT_EXISTS;
+    }
+
+    private double snapshotAgeSeconds() {
+        Instant loadedAt = snapshot.get().loadedAt();
+        return loadedAt == null ? Double.NaN : Duration.between(loadedAt, Instant.now()).toMillis() / 1000.0;
+    }
+
+    private record Snapshot(Map<String, Mono<LoanType>> byId, Flux<LoanType> all, Instant loadedAt) {
+
+        static Snapshot of(List<LoanType> loanTypes) {
+            Map<String, Mono<LoanType>> byId = new HashMap<>();
+            loanTypes.forEach(loanType -> byId.put(loanType.getId(), Mono.just(loanType)));
+            return new Snapshot(Map.copyOf(byId), Flux.fromIterable(List.copyOf(loanTypes)), Instant.now());
+        }
+    }
+}
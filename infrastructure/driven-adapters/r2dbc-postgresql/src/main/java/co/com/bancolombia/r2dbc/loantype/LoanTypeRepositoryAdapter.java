@@ -1,5 +1,6 @@
 package co.com.bancolombia.r2dbc.loantype;
 
+import co.com.bancolombia.metrics.StageMetrics;
 import co.com.bancolombia.model.loantype.LoanType;
 import co.com.bancolombia.model.loantype.gateways.LoanTypeRepository;
 import co.com.bancolombia.r2dbc.loantype.mapper.LoanTypeMapper;
@@ -9,33 +10,45 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import static co.com.bancolombia.r2dbc.config.ReadRoutingConnectionFactory.preferReplica;
+
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class LoanTypeRepositoryAdapter implements LoanTypeRepository {
 
     private final LoanTypeR2dbcRepository repository;
+    private final LoanTypeCatalog catalog;
+    private final StageMetrics stageMetrics;
 
     @Override
     public Mono<LoanType> findById(String id) {
-        log.debug("Buscando tipo de préstamo con ID: {}", id);
-        return repository.findById(id)
-                .map(LoanTypeMapper::toDomain)
-                .doOnNext(loanType -> log.debug("Tipo de préstamo encontrado: {} - {}", loanType.getId(), loanType.getName()));
+        if (catalog.isLoaded()) {
+            return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "loan_type.find_by_id.catalog", catalog.findById(id));
+        }
+        log.debug("Catálogo no cargado, buscando tipo de préstamo con ID: {}", id);
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "loan_type.find_by_id.database",
+                preferReplica(repository.findById(id).map(LoanTypeMapper::toDomain)));
     }
 
     @Override
     public Flux<LoanType> findAll() {
-        log.debug("Obteniendo todos los tipos de préstamo");
-        return repository.findAll()
-                .map(LoanTypeMapper::toDomain)
-                .doOnNext(loanType -> log.debug("Tipo de préstamo: {} - {}", loanType.getId(), loanType.getName()));
+        if (catalog.isLoaded()) {
+            return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "loan_type.find_all.catalog", catalog.findAll());
+        }
+        log.debug("Catálogo no cargado, obteniendo todos los tipos de préstamo");
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "loan_type.find_all.database",
+                preferReplica(repository.findAll().map(LoanTypeMapper::toDomain)));
     }
 
     @Override
     public Mono<Boolean> existsById(String id) {
-        log.debug("Verificando si existe tipo de préstamo con ID: {}", id);
-        return repository.existsById(id)
-                .doOnNext(exists -> log.debug("Existe tipo de préstamo con ID {}: {}", id, exists));
+        if (catalog.isLoaded()) {
+            return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "loan_type.exists_by_id.catalog",
+                    catalog.existsById(id));
+        }
+        log.debug("Catálogo no cargado, verificando si existe tipo de préstamo con ID: {}", id);
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "loan_type.exists_by_id.database",
+                preferReplica(repository.existsById(id)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,140 @@
+package co.com.bancolombia.r2dbc.orders;
+
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.r2dbc.config.OrderInsertCoalescingProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import io.r2dbc.spi.R2dbcTransientResourceException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for order inserts. Inserts that arrive within the configured window, up to the
+ * maximum batch size, are written together with one multi-row statement in one transaction, so
+ * concurrent requests share a pool connection and a commit. Each caller completes only once the
+ * transaction holding its row has committed. A batch rejected because of its rows is split in
+ * halves written on their own, so only the callers of the offending rows get the error; when the
+ * database itself is unavailable every caller of the batch fails at once.
+ */
+@Slf4j
+@Component
+public class OrderInsertCoalescer {
+
+    private static final Sinks.EmitFailureHandler RETRY_CONCURRENT_EMISSIONS =
+            Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1));
+
+    private final OrdersBatchWriter batchWriter;
+    private final TransactionalOperator txOperator;
+    private final OrderInsertCoalescingProperties properties;
+    private final Sinks.Many<PendingInsert> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final DistributionSummary batchSize;
+    private final Timer queueDelay;
+    private final Disposable subscription;
+
+    public OrderInsertCoalescer(OrdersBatchWriter batchWriter, TransactionalOperator txOperator,
+                                OrderInsertCoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.batchWriter = batchWriter;
+        this.txOperator = txOperator;
+        this.properties = properties;
+        this.batchSize = DistributionSummary.builder("orders.insert.batch.size")
+                .description("Orders written by each coalesced insert")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.queueDelay = Timer.builder("orders.insert.queue.delay")
+                .description("Time an order waits for its coalesced insert to start")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.subscription = properties.enabled()
+                ? queue.asFlux()
+                        .bufferTimeout(properties.maxBatchSize(), properties.window(), true)
+                        .flatMap(this::flush, properties.maxConcurrentFlushes())
+                        .subscribe()
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Queues the order for the next batch.
+     *
+     * @param order the order to store
+     * @return the stored order, emitted once its batch has committed
+     */
+    public Mono<Orders> insert(Orders order) {
+        return Mono.defer(() -> {
+            Sinks.One<Orders> result = Sinks.one();
+            queue.emitNext(new PendingInsert(order, result, System.nanoTime()), RETRY_CONCURRENT_EMISSIONS);
+            return result.asMono();
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            queue.tryEmitComplete();
+        }
+    }
+
+    private Mono<Void> flush(List<PendingInsert> batch) {
+        long flushStart = System.nanoTime();
+        batch.forEach(pending -> queueDelay.record(flushStart - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSize.record(batch.size());
+        return write(batch);
+    }
+
+    private Mono<Void> write(List<PendingInsert> batch) {
+        List<Orders> orders = batch.stream().map(PendingInsert::order).toList();
+        return txOperator.transactional(batchWriter.insert(orders))
+                .then()
+                .doOnSuccess(ignored -> batch.forEach(pending -> pending.result().tryEmitValue(pending.order())))
+                .onErrorResume(ex -> {
+                    if (batch.size() == 1 || isUnavailable(ex)) {
+                        log.error("Error al guardar lote de {} solicitudes: {}", batch.size(), ex.getMessage());
+                        batch.forEach(pending -> pending.result().tryEmitError(ex));
+                        return Mono.empty();
+                    }
+                    log.warn("Error al guardar lote de {} solicitudes, se reintenta por mitades: {}",
+                            batch.size(), ex.getMessage());
+                    int half = batch.size() / 2;
+                    return write(batch.subList(0, half))
+                            .then(Mono.defer(() -> write(batch.subList(half, batch.size()))));
+                });
+    }
+
+    /**
+     * Errors of the database rather than of the rows, anywhere in the cause chain: a transaction that
+     * could not begin, a connection that could not be acquired in time or a lost connection. Writing
+     * the rows again would wait and fail the same way.
+     */
+    private static boolean isUnavailable(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CannotCreateTransactionException
+                    || cause instanceof TransientDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof R2dbcTransientResourceException
+                    || cause instanceof R2dbcTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record PendingInsert(Orders order, Sinks.One<Orders> result, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,74 @@
+package co.com.bancolombia.r2dbc.orders;
+
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.r2dbc.orders.data.OrdersData;
+import co.com.bancolombia.r2dbc.orders.mapper.OrdersMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Stores many orders with multi-row INSERT statements, up to {@value #MAX_ROWS_PER_INSERT} rows
+ * per statement so the bind parameters stay below the PostgreSQL limit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrdersBatchWriter {
+
+    private static final String INSERT_ORDERS = "INSERT INTO orders (id, document_id, amount, deadline, email_address, " +
+            "creation_date, update_date, id_status, id_loan_type) VALUES ";
+    private static final int INSERT_COLUMNS = 9;
+    private static final int MAX_ROWS_PER_INSERT = 1000;
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<Orders> insert(List<Orders> orders) {
+        return Flux.fromIterable(orders)
+                .buffer(MAX_ROWS_PER_INSERT)
+                .concatMap(this::insertRows);
+    }
+
+    private Flux<Orders> insertRows(List<Orders> rows) {
+        StringBuilder sql = new StringBuilder(INSERT_ORDERS);
+        for (int row = 0; row < rows.size(); row++) {
+            sql.append(row == 0 ? "(" : ", (");
+            for (int column = 1; column <= INSERT_COLUMNS; column++) {
+                sql.append(column == 1 ? "$" : ", $").append(row * INSERT_COLUMNS + column);
+            }
+            sql.append(')');
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        int index = 0;
+        for (Orders order : rows) {
+            OrdersData data = OrdersMapper.toData(order);
+            spec = bind(spec, index++, data.getId(), String.class);
+            spec = bind(spec, index++, data.getDocumentId(), String.class);
+            spec = bind(spec, index++, data.getAmount(), BigDecimal.class);
+            spec = bind(spec, index++, data.getDeadline(), Integer.class);
+            spec = bind(spec, index++, data.getEmailAddress(), String.class);
+            spec = bind(spec, index++, data.getCreationDate(), LocalDateTime.class);
+            spec = bind(spec, index++, data.getUpdateDate(), LocalDateTime.class);
+            spec = bind(spec, index++, data.getIdStatus(), String.class);
+            spec = bind(spec, index++, data.getIdLoanType(), String.class);
+        }
+
+        return spec.fetch()
+                .rowsUpdated()
+                .doOnNext(inserted -> log.debug("Se insertaron {} solicitudes en una sola sentencia", inserted))
+                .thenMany(Flux.fromIterable(rows))
+                .doOnError(error -> log.error("Error al insertar lote de {} solicitudes: {}", rows.size(), error.getMessage()));
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, int index,
+                                                          Object value, Class<?> type) {
+        return value != null ? spec.bind(index, value) : spec.bindNull(index, type);
+    }
+}
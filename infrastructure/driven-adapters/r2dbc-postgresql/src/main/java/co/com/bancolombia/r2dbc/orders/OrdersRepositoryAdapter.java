@@ -1,125 +1,223 @@
 package co.com.bancolombia.r2dbc.orders;
 
+import co.com.bancolombia.metrics.StageMetrics;
+import co.com.bancolombia.model.orders.EmailSearchMode;
 import co.com.bancolombia.model.orders.Orders;
 import co.com.bancolombia.model.orders.PendingRequest;
+import co.com.bancolombia.model.orders.PendingRequestCursor;
 import co.com.bancolombia.model.orders.gateways.OrdersRepository;
 import co.com.bancolombia.r2dbc.orders.data.OrderPendingData;
 import co.com.bancolombia.r2dbc.orders.data.OrdersData;
 import co.com.bancolombia.r2dbc.orders.mapper.OrdersMapper;
+import co.com.bancolombia.tracing.TraceLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.r2dbc.core.DatabaseClient;
-import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+
+import static co.com.bancolombia.r2dbc.config.ReadRoutingConnectionFactory.preferReplica;
 
+/**
+ * Orders persistence. Searches and listings are served by the read replica when it is enabled;
+ * callers that need their own writes ask for the primary with
+ * {@link co.com.bancolombia.model.common.ReadPreference}. Lookups of one order by id always read the
+ * primary: they follow the creation or update of that same order, e.g. a GET right after the POST,
+ * or a conditional GET comparing its version, and must not miss it under replica lag.
+ */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class OrdersRepositoryAdapter implements OrdersRepository {
 
     private final OrdersR2dbcRepository repository;
-    private final TransactionalOperator txOperator;
     private final DatabaseClient databaseClient;
+    private final OrdersBatchWriter batchWriter;
+    private final OrderInsertCoalescer insertCoalescer;
+    private final TransactionalOperator txOperator;
+    private final StageMetrics stageMetrics;
+
+    @Override
+    public Mono<Orders> insert(Orders orders) {
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.insert", insertOrder(orders));
+    }
+
+    private Mono<Orders> insertOrder(Orders orders) {
+        if (insertCoalescer.isEnabled()) {
+            return insertCoalescer.insert(orders);
+        }
+        log.debug("Insertando solicitud con ID: {} y documento: {}", orders.getId(), orders.getDocumentId());
+        OrdersData data = OrdersMapper.toData(orders);
+
+        return repository.insertOrder(
+                        data.getId(),
+                        data.getDocumentId(),
+                        data.getAmount(),
+                        data.getDeadline(),
+                        data.getEmailAddress(),
+                        data.getCreationDate(),
+                        data.getUpdateDate(),
+                        data.getIdStatus(),
+                        data.getIdLoanType())
+                .map(OrdersMapper::toDomain)
+                .doOnSuccess(savedOrder -> log.debug("Solicitud insertada exitosamente con ID: {}", orders.getId()))
+                .doOnError(error ->
+                        log.error("Error al insertar solicitud con ID {}: {}", orders.getId(), error.getMessage())
+                );
+    }
+
+    /**
+     * Stores the orders all or none: a list beyond one statement is written with several, and a
+     * failure of a later one must not leave the earlier rows committed.
+     */
+    @Override
+    public Flux<Orders> insertAll(List<Orders> orders) {
+        log.debug("Insertando {} solicitudes", orders.size());
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.insert_all",
+                txOperator.transactional(batchWriter.insert(orders)));
+    }
 
     @Override
     public Mono<Orders> save(Orders orders) {
         log.debug("Guardando solicitud con ID: {} y documento: {}", orders.getId(), orders.getDocumentId());
+        OrdersData data = OrdersMapper.toData(orders);
 
-        return txOperator.transactional(
-                repository.existsById(orders.getId())
-                        .defaultIfEmpty(false)
-                        .doOnNext(exists -> log.debug("La solicitud con ID {} {} existe", 
-                                orders.getId(), exists ? "SI" : "NO"))
-                        .flatMap(exists -> {
-                            OrdersData ordersData = OrdersMapper.toData(orders);
-                            if (exists) {
-                                log.debug("Actualizando solicitud existente con ID: {}", orders.getId());
-                                return repository.save(ordersData); // UPDATE
-                            } else {
-                                log.debug("Insertando nueva solicitud con ID: {}", orders.getId());
-                                return repository.insertOrder(
-                                        ordersData.getId(),
-                                        ordersData.getDocumentId(), 
-                                        ordersData.getAmount(),
-                                        ordersData.getDeadline(),
-                                        ordersData.getEmailAddress(),
-                                        ordersData.getCreationDate(),
-                                        ordersData.getUpdateDate(),
-                                        ordersData.getIdStatus(),
-                                        ordersData.getIdLoanType()
-                                ).then(Mono.just(ordersData)); // INSERT directo
-                            }
-                        })
-                        .map(OrdersMapper::toDomain)
-                        .doOnSuccess(savedOrder ->
-                                log.debug("Solicitud guardada exitosamente con ID: {}", savedOrder.getId())
-                        )
-                        .doOnError(error ->
-                                log.error("Error al guardar solicitud con ID {}: {}", orders.getId(), error.getMessage())
-                        )
-        );
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.save", repository.upsertOrder(
+                        data.getId(),
+                        data.getDocumentId(),
+                        data.getAmount(),
+                        data.getDeadline(),
+                        data.getEmailAddress(),
+                        data.getCreationDate(),
+                        data.getUpdateDate(),
+                        data.getIdStatus(),
+                        data.getIdLoanType())
+                .map(OrdersMapper::toDomain)
+                .doOnSuccess(savedOrder -> log.debug("Solicitud guardada exitosamente con ID: {}", orders.getId()))
+                .doOnError(error ->
+                        log.error("Error al guardar solicitud con ID {}: {}", orders.getId(), error.getMessage())
+                ));
     }
 
     @Override
     public Mono<Orders> findById(String id) {
         log.debug("Buscando solicitud con ID: {}", id);
-        return repository.findById(id)
-                .map(OrdersMapper::toDomain)
-                .doOnNext(order -> log.debug("Solicitud encontrada: {}", order.getId()));
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.find_by_id",
+                debugEach(repository.findById(id).map(OrdersMapper::toDomain),
+                        order -> log.debug("Solicitud encontrada: {}", order.getId())));
+    }
+
+    @Override
+    public Mono<LocalDateTime> findUpdateDateById(String id) {
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.find_update_date_by_id",
+                repository.findUpdateDateById(id));
     }
 
     @Override
     public Mono<Orders> findByDocumentId(String documentId) {
         log.debug("Buscando solicitud para documento: {}", documentId);
-        return repository.findByDocumentId(documentId)
-                .map(OrdersMapper::toDomain)
-                .doOnNext(order -> log.debug("Solicitud encontrada para documento {}: {}", documentId, order.getId()));
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.find_by_document_id",
+                debugEach(preferReplica(repository.findByDocumentId(documentId).map(OrdersMapper::toDomain)),
+                        order -> log.debug("Solicitud encontrada para documento {}: {}", documentId, order.getId())));
     }
 
     @Override
     public Flux<Orders> findByEmailAddress(String emailAddress) {
         log.debug("Buscando solicitudes para email: {}", emailAddress);
-        return repository.findByEmailAddress(emailAddress)
-                .map(OrdersMapper::toDomain)
-                .doOnNext(order -> log.debug("Solicitud encontrada para email {}: {}", emailAddress, order.getId()));
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.find_by_email_address",
+                debugEach(preferReplica(repository.findByEmailAddress(emailAddress).map(OrdersMapper::toDomain)),
+                        order -> log.debug("Solicitud encontrada para email {}: {}", emailAddress, order.getId())));
     }
 
     @Override
     public Mono<Boolean> existsByDocumentIdAndStatus(String documentId, String statusId) {
         log.debug("Verificando si existe solicitud para documento {} con estado {}", documentId, statusId);
-        return repository.existsByDocumentIdAndIdStatus(documentId, statusId)
-                .doOnNext(exists -> log.debug("Existe solicitud para documento {} con estado {}: {}", 
-                                            documentId, statusId, exists));
-    }
-
-    @Override
-    public Mono<String> findPendingStatusId() {
-        log.debug("Obteniendo ID del estado PENDING");
-        return repository.findPendingStatusId()
-                .doOnNext(statusId -> log.debug("ID del estado PENDING: {}", statusId));
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.exists_by_document_id_and_status",
+                debugEach(preferReplica(repository.existsByDocumentIdAndIdStatus(documentId, statusId)),
+                        exists -> log.debug("Existe solicitud para documento {} con estado {}: {}",
+                                documentId, statusId, exists)));
     }
 
     @Override
-    public Flux<PendingRequest> findPendingRequests(UUID statusId, String email, int page, int size) {
-        log.debug("Buscando solicitudes pendientes - statusId: {}, email: {}, page: {}, size: {}", 
-                  statusId, email, page, size);
+    public Flux<PendingRequest> findPendingRequests(UUID statusId, String email, EmailSearchMode emailMode,
+                                                    int page, int size) {
+        log.debug("Buscando solicitudes pendientes - statusId: {}, email: {} ({}), page: {}, size: {}", 
+                  statusId, email, emailMode, page, size);
         
         String statusIdStr = statusId != null ? statusId.toString() : null;
         int offset = page * size;
         
-        return repository.findPendingOrdersQuery(statusIdStr, email, offset, size)
-                .map(this::mapToPendingRequest)
-                .doOnNext(dto -> log.debug("Solicitud pendiente encontrada para email: {}", dto.getEmailAddress()))
-                .doOnComplete(() -> log.debug("Consulta de solicitudes pendientes completada"));
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.find_pending_page",
+                debugEach(preferReplica(query(PendingOrdersQuery.page(statusIdStr, email, emailMode, offset, size)))
+                                .map(this::mapToPendingRequest),
+                        dto -> log.debug("Solicitud pendiente encontrada para email: {}", dto.getEmailAddress()))
+                        .doOnComplete(() -> log.debug("Consulta de solicitudes pendientes completada")));
+    }
+
+    @Override
+    public Flux<PendingRequest> findPendingRequests(UUID statusId, String email, EmailSearchMode emailMode,
+                                                    PendingRequestCursor after, int size) {
+        log.debug("Buscando solicitudes pendientes - statusId: {}, email: {} ({}), después de: {}/{}, size: {}",
+                  statusId, email, emailMode, after.creationDate(), after.id(), size);
+
+        String statusIdStr = statusId != null ? statusId.toString() : null;
+
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.find_pending_after_cursor",
+                preferReplica(query(PendingOrdersQuery.after(statusIdStr, email, emailMode, after, size)))
+                        .map(this::mapToPendingRequest)
+                        .doOnComplete(() -> log.debug("Consulta de solicitudes pendientes por cursor completada")));
+    }
+
+    /**
+     * Logs every element at debug level with the trace of the request. The operator is only
+     * attached when debug is enabled, so disabled per-row logs cost nothing per row.
+     */
+    private static <T> Mono<T> debugEach(Mono<T> source, Consumer<? super T> logStatement) {
+        return log.isDebugEnabled() ? source.doOnEach(signal -> debugNext(signal, logStatement)) : source;
+    }
+
+    private static <T> Flux<T> debugEach(Flux<T> source, Consumer<? super T> logStatement) {
+        return log.isDebugEnabled() ? source.doOnEach(signal -> debugNext(signal, logStatement)) : source;
+    }
+
+    private static <T> void debugNext(Signal<T> signal, Consumer<? super T> logStatement) {
+        if (signal.isOnNext()) {
+            TraceLog.withTrace(signal.getContextView(), () -> logStatement.accept(signal.get()));
+        }
+    }
+
+    private Flux<OrderPendingData> query(PendingOrdersQuery query) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(query.sql());
+        for (int index = 0; index < query.bindings().size(); index++) {
+            spec = spec.bind(index, query.bindings().get(index));
+        }
+        return spec.map((row, metadata) -> OrderPendingData.builder()
+                        .id(row.get("id", String.class))
+                        .creationDate(row.get("creation_date", LocalDateTime.class))
+                        .amount(row.get("amount", BigDecimal.class))
+                        .deadline(row.get("deadline", Integer.class))
+                        .emailAddress(row.get("email_address", String.class))
+                        .loanType(row.get("loan_type", String.class))
+                        .interestRate(row.get("interest_rate", BigDecimal.class))
+                        .statusOrder(row.get("status_order", String.class))
+                        .totalMonthlyDebt(row.get("total_monthly_debt", BigDecimal.class))
+                        .build())
+                .all();
     }
 
     private PendingRequest mapToPendingRequest(OrderPendingData data) {
         return PendingRequest.builder()
+                .id(data.getId())
+                .creationDate(data.getCreationDate())
                 .amount(data.getAmount())
                 .deadline(data.getDeadline())
                 .emailAddress(data.getEmailAddress())
@@ -0,0 +1,93 @@
+package co.com.bancolombia.r2dbc.orders;
+
+import co.com.bancolombia.model.orders.EmailSearchMode;
+import co.com.bancolombia.model.orders.PendingRequestCursor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * SQL of the pending requests listing. Only the filters that are present are added, and each
+ * email search mode gets a predicate on {@code lower(email_address)} that the email indexes can
+ * serve: equality and prefix through the {@code text_pattern_ops} B-tree, substring through the
+ * trigram index.
+ *
+ * @param sql the statement, with positional parameters
+ * @param bindings the values of the parameters, in order
+ */
+public record PendingOrdersQuery(String sql, List<Object> bindings) {
+
+    private static final String SELECT_PENDING_ORDERS = "SELECT " +
+            "o.id, " +
+            "o.creation_date, " +
+            "o.amount, " +
+            "o.deadline, " +
+            "o.email_address, " +
+            "lt.name as loan_type, " +
+            "lt.interest_rate, " +
+            "s.name as status_order, " +
+            "ROUND((o.amount * lt.interest_rate) / o.deadline, 2) as total_monthly_debt " +
+            "FROM orders o " +
+            "INNER JOIN loan_type lt ON o.id_loan_type = lt.id " +
+            "INNER JOIN status s ON o.id_status = s.id";
+    private static final String ORDER_BY = " ORDER BY o.creation_date DESC, o.id DESC";
+
+    public static PendingOrdersQuery page(String statusId, String email, EmailSearchMode emailMode,
+                                          int offset, int limit) {
+        Builder builder = new Builder(statusId, email, emailMode);
+        builder.sql.append(ORDER_BY)
+                .append(" OFFSET ").append(builder.bind(offset))
+                .append(" LIMIT ").append(builder.bind(limit));
+        return builder.build();
+    }
+
+    public static PendingOrdersQuery after(String statusId, String email, EmailSearchMode emailMode,
+                                           PendingRequestCursor cursor, int limit) {
+        Builder builder = new Builder(statusId, email, emailMode);
+        builder.where("(o.creation_date, o.id) < (" + builder.bind(cursor.creationDate()) + ", "
+                + builder.bind(cursor.id()) + ")");
+        builder.sql.append(ORDER_BY)
+                .append(" LIMIT ").append(builder.bind(limit));
+        return builder.build();
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static final class Builder {
+
+        private final StringBuilder sql = new StringBuilder(SELECT_PENDING_ORDERS);
+        private final List<Object> bindings = new ArrayList<>();
+        private boolean hasWhere;
+
+        private Builder(String statusId, String email, EmailSearchMode emailMode) {
+            if (statusId != null) {
+                where("o.id_status = " + bind(statusId));
+            }
+            if (email != null && !email.isBlank()) {
+                String normalized = email.trim().toLowerCase(Locale.ROOT);
+                switch (emailMode != null ? emailMode : EmailSearchMode.CONTAINS) {
+                    case EXACT -> where("lower(o.email_address) = " + bind(normalized));
+                    case PREFIX -> where("lower(o.email_address) LIKE " + bind(escapeLike(normalized) + "%"));
+                    case CONTAINS -> where("lower(o.email_address) LIKE " + bind("%" + escapeLike(normalized) + "%"));
+                }
+            }
+        }
+
+        private String bind(Object value) {
+            bindings.add(value);
+            return "$" + bindings.size();
+        }
+
+        private void where(String condition) {
+            sql.append(hasWhere ? " AND " : " WHERE ").append(condition);
+            hasWhere = true;
+        }
+
+        private PendingOrdersQuery build() {
+            return new PendingOrdersQuery(sql.toString(), List.copyOf(bindings));
+        }
+    }
+}
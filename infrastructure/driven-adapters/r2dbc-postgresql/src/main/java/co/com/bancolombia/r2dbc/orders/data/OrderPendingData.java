@@ -6,12 +6,15 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
 public class OrderPendingData {
+    private String id;
+    private LocalDateTime creationDate;
     private BigDecimal amount;
     private Integer deadline;
     private String emailAddress;
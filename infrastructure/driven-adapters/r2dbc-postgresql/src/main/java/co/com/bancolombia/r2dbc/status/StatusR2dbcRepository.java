@@ -0,0 +1,9 @@
+package co.com.bancolombia.r2dbc.status;
+
+import co.com.bancolombia.r2dbc.status.data.StatusData;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StatusR2dbcRepository extends ReactiveCrudRepository<StatusData, String> {
+}
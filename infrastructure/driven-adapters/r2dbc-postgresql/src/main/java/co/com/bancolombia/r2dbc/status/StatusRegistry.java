@@ -0,0 +1,104 @@
+package co.com.bancolombia.r2dbc.status;
+
+import co.com.bancolombia.model.status.OrderStatus;
+import co.com.bancolombia.r2dbc.config.StatusRegistryProperties;
+import co.com.bancolombia.r2dbc.status.data.StatusData;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Enum-keyed registry of the rows of the {@code status} reference table.
+ * All statuses are loaded and validated once at startup, so the application does not start
+ * when one of them is missing, and status lookups never reach the database afterwards.
+ * The table is re-read on a fixed interval, or on demand through {@link #reload()}, keeping the
+ * current registry if the new data is invalid.
+ */
+@Slf4j
+@Component
+public class StatusRegistry {
+
+    private final StatusR2dbcRepository repository;
+    private final StatusRegistryProperties properties;
+    private final AtomicReference<Map<OrderStatus, Mono<String>>> idsByStatus =
+            new AtomicReference<>(Collections.emptyMap());
+    private Disposable scheduledRefresh;
+
+    public StatusRegistry(StatusR2dbcRepository repository, StatusRegistryProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void load() {
+        reload().block(properties.loadTimeout());
+        scheduledRefresh = Flux.interval(properties.refreshInterval(), properties.refreshInterval())
+                .concatMap(tick -> reload()
+                        .onErrorResume(ex -> {
+                            log.warn("Error recargando el registro de estados: {}", ex.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.dispose();
+        }
+    }
+
+    /**
+     * Reads the status table again and replaces the registry.
+     *
+     * @return completes once the new registry is visible, or fails with {@link IllegalStateException}
+     *         when a known status is missing from the table
+     */
+    public Mono<Void> reload() {
+        return repository.findAll()
+                .collectList()
+                .map(StatusRegistry::toRegistry)
+                .doOnNext(registry -> {
+                    idsByStatus.set(registry);
+                    log.info("Registro de estados cargado: {}", registry.keySet());
+                })
+                .then();
+    }
+
+    public Mono<String> findId(OrderStatus status) {
+        return idsByStatus.get().getOrDefault(status, Mono.empty());
+    }
+
+    private static Map<OrderStatus, Mono<String>> toRegistry(List<StatusData> rows) {
+        Map<String, String> idsByName = new HashMap<>();
+        rows.forEach(row -> idsByName.put(row.getName(), row.getId()));
+
+        Map<OrderStatus, Mono<String>> registry = new EnumMap<>(OrderStatus.class);
+        Set<OrderStatus> missing = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            String id = idsByName.get(status.name());
+            if (id != null) {
+                registry.put(status, Mono.just(id));
+            } else {
+                missing.add(status);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Faltan estados en la tabla status: " + missing);
+        }
+        return Collections.unmodifiableMap(registry);
+    }
+}
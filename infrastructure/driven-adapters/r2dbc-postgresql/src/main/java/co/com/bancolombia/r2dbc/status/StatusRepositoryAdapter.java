@@ -0,0 +1,21 @@
+package co.com.bancolombia.r2dbc.status;
+
+import co.com.bancolombia.metrics.StageMetrics;
+import co.com.bancolombia.model.status.OrderStatus;
+import co.com.bancolombia.model.status.gateways.StatusRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class StatusRepositoryAdapter implements StatusRepository {
+
+    private final StatusRegistry registry;
+    private final StageMetrics stageMetrics;
+
+    @Override
+    public Mono<String> findIdByStatus(OrderStatus status) {
+        return stageMetrics.time(StageMetrics.LAYER_ADAPTER, "status.find_id", registry.findId(status));
+    }
+}
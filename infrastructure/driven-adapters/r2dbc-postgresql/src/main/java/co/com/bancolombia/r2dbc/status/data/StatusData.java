@@ -0,0 +1,25 @@
+package co.com.bancolombia.r2dbc.status.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table("status")
+public class StatusData {
+    @Id
+    private String id;
+
+    @Column("name")
+    private String name;
+
+    @Column("description")
+    private String description;
+}
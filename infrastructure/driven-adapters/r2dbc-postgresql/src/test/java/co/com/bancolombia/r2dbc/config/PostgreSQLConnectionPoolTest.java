@@ -0,0 +1,104 @@
+package co.com.bancolombia.r2dbc.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ValidationDepth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the pool sizing of PostgreSQLConnectionPool and the acquire timer of
+ * MeteredConnectionPool.
+ */
+class PostgreSQLConnectionPoolTest {
+
+    private ConnectionFactory connectionFactory;
+    private Connection connection;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = mock(ConnectionFactory.class);
+        connection = mock(Connection.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        when(connectionFactory.getMetadata()).thenReturn(() -> "test");
+        when(connection.validate(any())).thenReturn(Mono.just(true));
+        when(connection.isAutoCommit()).thenReturn(true);
+        doReturn(Mono.empty()).when(connection).rollbackTransaction();
+        doReturn(Mono.empty()).when(connection).close();
+    }
+
+    @Test
+    @DisplayName("Default max size follows the expected concurrency up to four connections per CPU")
+    void defaultMaxSizeIsBoundedByCpus() {
+        assertEquals(10, PostgreSQLConnectionPool.defaultMaxSize(4, 10));
+        assertEquals(16, PostgreSQLConnectionPool.defaultMaxSize(4, 64));
+        assertEquals(PostgreSQLConnectionPool.MIN_POOL_SIZE, PostgreSQLConnectionPool.defaultMaxSize(1, 64));
+        assertEquals(1, PostgreSQLConnectionPool.defaultMaxSize(8, 0));
+    }
+
+    @Test
+    @DisplayName("Default initial size never exceeds the max size")
+    void defaultInitialSizeIsBoundedByMaxSize() {
+        assertEquals(4, PostgreSQLConnectionPool.defaultInitialSize(4, 16));
+        assertEquals(2, PostgreSQLConnectionPool.defaultInitialSize(8, 2));
+    }
+
+    @Test
+    @DisplayName("Acquiring a connection records the acquire timer")
+    void acquireIsTimed() {
+        doReturn(Mono.just(connection)).when(connectionFactory).create();
+        MeteredConnectionPool pool = pool();
+
+        StepVerifier.create(pool.create().flatMap(acquired -> Mono.from(acquired.close())))
+                .verifyComplete();
+
+        assertEquals(1, acquireCount("success"));
+        assertEquals(0, acquireCount("error"));
+        pool.dispose();
+    }
+
+    @Test
+    @DisplayName("A failed acquire is recorded with the error outcome")
+    void failedAcquireIsTimed() {
+        doReturn(Mono.error(new IllegalStateException("connection refused"))).when(connectionFactory).create();
+        MeteredConnectionPool pool = pool();
+
+        StepVerifier.create(pool.create())
+                .expectError()
+                .verify();
+
+        assertEquals(0, acquireCount("success"));
+        assertEquals(1, acquireCount("error"));
+        pool.dispose();
+    }
+
+    private MeteredConnectionPool pool() {
+        PostgresqlConnectionProperties.Pool properties = new PostgresqlConnectionProperties.Pool(
+                0, 1, 0, 64, Duration.ofMinutes(30), Duration.ofHours(1), Duration.ofSeconds(1),
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ZERO, ValidationDepth.LOCAL, null, 0);
+        ConnectionPoolConfiguration configuration =
+                PostgreSQLConnectionPool.poolConfiguration(connectionFactory, "test-pool", properties, 2);
+        return new MeteredConnectionPool(configuration, "test-pool", meterRegistry);
+    }
+
+    private long acquireCount(String outcome) {
+        return meterRegistry.get(MeteredConnectionPool.ACQUIRE_METRIC)
+                .tags("name", "test-pool", "outcome", outcome)
+                .timer().count();
+    }
+}
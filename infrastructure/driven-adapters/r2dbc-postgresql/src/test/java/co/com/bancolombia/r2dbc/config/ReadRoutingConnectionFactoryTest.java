@@ -0,0 +1,116 @@
+package co.com.bancolombia.r2dbc.config;
+
+import co.com.bancolombia.model.common.ReadPreference;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for ReadRoutingConnectionFactory.
+ */
+class ReadRoutingConnectionFactoryTest {
+
+    private ConnectionFactory primary;
+    private ConnectionFactory replica;
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+
+    @BeforeEach
+    void setUp() {
+        primary = mock(ConnectionFactory.class);
+        replica = mock(ConnectionFactory.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        doReturn(Mono.just(primaryConnection)).when(primary).create();
+        doReturn(Mono.just(replicaConnection)).when(replica).create();
+    }
+
+    @Test
+    @DisplayName("Unmarked operations use the primary")
+    void unmarkedOperationsUsePrimary() {
+        ReadRoutingConnectionFactory factory = new ReadRoutingConnectionFactory(primary, replica, Duration.ofSeconds(30));
+
+        StepVerifier.create(factory.create())
+                .expectNext(primaryConnection)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Reads marked for the replica use the replica")
+    void replicaReadsUseReplica() {
+        ReadRoutingConnectionFactory factory = new ReadRoutingConnectionFactory(primary, replica, Duration.ofSeconds(30));
+
+        StepVerifier.create(ReadRoutingConnectionFactory.preferReplica(factory.create()))
+                .expectNext(replicaConnection)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("The caller hint to read from the primary wins over the adapter default")
+    void primaryHintWins() {
+        ReadRoutingConnectionFactory factory = new ReadRoutingConnectionFactory(primary, replica, Duration.ofSeconds(30));
+
+        StepVerifier.create(ReadPreference.fromPrimary(ReadRoutingConnectionFactory.preferReplica(factory.create())))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Reads fall back to the primary while the replica is unavailable")
+    void fallsBackToPrimaryWhenReplicaFails() {
+        doReturn(Mono.error(new R2dbcNonTransientResourceException("connection refused"))).when(replica).create();
+        ReadRoutingConnectionFactory factory = new ReadRoutingConnectionFactory(primary, replica, Duration.ofMinutes(5));
+
+        StepVerifier.create(ReadRoutingConnectionFactory.preferReplica(factory.create()))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+        StepVerifier.create(ReadRoutingConnectionFactory.preferReplica(factory.create()))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+
+        verify(replica, times(1)).create();
+    }
+
+    @Test
+    @DisplayName("A busy replica pool sends only the read that timed out to the primary")
+    void acquireTimeoutFallsBackForOneRead() {
+        doReturn(Mono.error(new R2dbcTimeoutException("Connection acquisition timed out")),
+                Mono.just(replicaConnection)).when(replica).create();
+        ReadRoutingConnectionFactory factory = new ReadRoutingConnectionFactory(primary, replica, Duration.ofMinutes(5));
+
+        StepVerifier.create(ReadRoutingConnectionFactory.preferReplica(factory.create()))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+        StepVerifier.create(ReadRoutingConnectionFactory.preferReplica(factory.create()))
+                .expectNext(replicaConnection)
+                .verifyComplete();
+
+        verify(replica, times(2)).create();
+    }
+
+    @Test
+    @DisplayName("Without a replica every read uses the primary")
+    void withoutReplicaReadsUsePrimary() {
+        ReadRoutingConnectionFactory factory = new ReadRoutingConnectionFactory(primary, null, Duration.ofSeconds(30));
+
+        StepVerifier.create(ReadRoutingConnectionFactory.preferReplica(factory.create()))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+
+        verify(replica, never()).create();
+    }
+}
@@ -0,0 +1,68 @@
+package co.com.bancolombia.r2dbc.idempotency;
+
+import co.com.bancolombia.r2dbc.config.IdempotencyCleanupProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for IdempotencyKeyCleaner.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyCleanerTest {
+
+    @Mock
+    private IdempotencyKeyR2dbcRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyKeyCleaner cleaner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cleaner = new IdempotencyKeyCleaner(repository,
+                new IdempotencyCleanupProperties(Duration.ofMinutes(10), 2), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deletes batches until one comes back short")
+    void deletesInBatches() {
+        when(repository.deleteExpired(any(LocalDateTime.class), eq(2)))
+                .thenReturn(Mono.just(2), Mono.just(2), Mono.just(1));
+
+        StepVerifier.create(cleaner.purge())
+                .expectNext(5L)
+                .verifyComplete();
+
+        verify(repository, times(3)).deleteExpired(any(LocalDateTime.class), eq(2));
+        assertEquals(5.0, meterRegistry.get("idempotency.keys.deleted").counter().count());
+    }
+
+    @Test
+    @DisplayName("Nothing expired runs a single statement")
+    void nothingExpired() {
+        when(repository.deleteExpired(any(LocalDateTime.class), eq(2))).thenReturn(Mono.just(0));
+
+        StepVerifier.create(cleaner.purge())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(repository, times(1)).deleteExpired(any(LocalDateTime.class), eq(2));
+    }
+}
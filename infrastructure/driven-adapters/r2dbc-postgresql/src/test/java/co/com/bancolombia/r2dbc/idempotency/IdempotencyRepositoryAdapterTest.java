@@ -0,0 +1,72 @@
+package co.com.bancolombia.r2dbc.idempotency;
+
+import co.com.bancolombia.metrics.StageMetrics;
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for IdempotencyRepositoryAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyRepositoryAdapterTest {
+
+    private static final LocalDateTime CLAIMED_AT = LocalDateTime.of(2024, 5, 1, 10, 0, 0, 123_456_000);
+
+    @Mock
+    private IdempotencyKeyR2dbcRepository repository;
+
+    private IdempotencyRepositoryAdapter adapter;
+    private IdempotencyRecord claim;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new IdempotencyRepositoryAdapter(repository, new StageMetrics(new SimpleMeterRegistry()));
+        claim = IdempotencyRecord.inProgress("user:key", "hash", CLAIMED_AT, CLAIMED_AT.plusSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Completing matches the claim by its creation time")
+    void completeMatchesTheClaim() {
+        LocalDateTime expiresAt = CLAIMED_AT.plusHours(24);
+        when(repository.complete("user:key", CLAIMED_AT, "{}", expiresAt)).thenReturn(Mono.just(1));
+
+        StepVerifier.create(adapter.complete(claim, "{}", expiresAt))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("A claim taken over by another execution is not completed")
+    void completeOfTakenOverClaim() {
+        LocalDateTime expiresAt = CLAIMED_AT.plusHours(24);
+        when(repository.complete("user:key", CLAIMED_AT, "{}", expiresAt)).thenReturn(Mono.just(0));
+
+        StepVerifier.create(adapter.complete(claim, "{}", expiresAt))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Releasing deletes only the claim with its creation time")
+    void releaseMatchesTheClaim() {
+        when(repository.release("user:key", CLAIMED_AT)).thenReturn(Mono.just(0));
+
+        StepVerifier.create(adapter.release(claim))
+                .verifyComplete();
+
+        verify(repository).release("user:key", CLAIMED_AT);
+    }
+}
@@ -0,0 +1,111 @@
+package co.com.bancolombia.r2dbc.loantype;
+
+import co.com.bancolombia.r2dbc.config.LoanTypeCatalogProperties;
+import co.com.bancolombia.r2dbc.loantype.data.LoanTypeData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LoanTypeCatalog.
+ */
+class LoanTypeCatalogTest {
+
+    private LoanTypeR2dbcRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private LoanTypeCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(LoanTypeR2dbcRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        catalog = new LoanTypeCatalog(repository,
+                new LoanTypeCatalogProperties(Duration.ofMinutes(5), Duration.ofSeconds(5)), meterRegistry);
+    }
+
+    private LoanTypeData loanType(String id, String name) {
+        return LoanTypeData.builder()
+                .id(id)
+                .name(name)
+                .minimumAmount(new BigDecimal("1000000"))
+                .maximumAmount(new BigDecimal("50000000"))
+                .interestRate(new BigDecimal("1.5"))
+                .automaticValidation(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Lookups are served from the snapshot without querying the database")
+    void lookupsServedFromSnapshot() {
+        when(repository.findAll()).thenReturn(Flux.just(loanType("lt-1", "Libre inversión"), loanType("lt-2", "Vivienda")));
+
+        StepVerifier.create(catalog.refresh()).verifyComplete();
+
+        StepVerifier.create(catalog.findById("lt-1"))
+                .assertNext(loanType -> assertEquals("Libre inversión", loanType.getName()))
+                .verifyComplete();
+        StepVerifier.create(catalog.findById("unknown")).verifyComplete();
+        StepVerifier.create(catalog.existsById("lt-2")).expectNext(true).verifyComplete();
+        StepVerifier.create(catalog.existsById("unknown")).expectNext(false).verifyComplete();
+        StepVerifier.create(catalog.findAll()).expectNextCount(2).verifyComplete();
+        assertSame(catalog.findById("lt-1"), catalog.findById("lt-1"));
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Refresh replaces the whole snapshot")
+    void refreshReplacesSnapshot() {
+        when(repository.findAll())
+                .thenReturn(Flux.just(loanType("lt-1", "Libre inversión")))
+                .thenReturn(Flux.just(loanType("lt-2", "Vivienda")));
+
+        StepVerifier.create(catalog.refresh()).verifyComplete();
+        StepVerifier.create(catalog.refresh()).verifyComplete();
+
+        StepVerifier.create(catalog.existsById("lt-1")).expectNext(false).verifyComplete();
+        StepVerifier.create(catalog.existsById("lt-2")).expectNext(true).verifyComplete();
+        assertEquals(1.0, meterRegistry.get("loan.type.catalog.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("A failed refresh keeps the previous snapshot")
+    void failedRefreshKeepsSnapshot() {
+        when(repository.findAll())
+                .thenReturn(Flux.just(loanType("lt-1", "Libre inversión")))
+                .thenReturn(Flux.error(new IllegalStateException("connection refused")));
+
+        StepVerifier.create(catalog.refresh()).verifyComplete();
+        StepVerifier.create(catalog.refresh()).expectError(IllegalStateException.class).verify();
+
+        assertTrue(catalog.isLoaded());
+        StepVerifier.create(catalog.existsById("lt-1")).expectNext(true).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Snapshot age is reported once the catalog is loaded")
+    void snapshotAgeReported() {
+        when(repository.findAll()).thenReturn(Flux.just(loanType("lt-1", "Libre inversión")));
+
+        assertFalse(catalog.isLoaded());
+        assertTrue(Double.isNaN(meterRegistry.get("loan.type.catalog.age").gauge().value()));
+
+        StepVerifier.create(catalog.refresh()).verifyComplete();
+
+        assertTrue(meterRegistry.get("loan.type.catalog.age").gauge().value() >= 0);
+    }
+}
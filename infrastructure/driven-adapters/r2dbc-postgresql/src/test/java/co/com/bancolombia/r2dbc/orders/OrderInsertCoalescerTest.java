@@ -0,0 +1,183 @@
+package co.com.bancolombia.r2dbc.orders;
+
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.r2dbc.config.OrderInsertCoalescingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OrderInsertCoalescer.
+ */
+class OrderInsertCoalescerTest {
+
+    private OrdersBatchWriter batchWriter;
+    private TransactionalOperator txOperator;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        batchWriter = mock(OrdersBatchWriter.class);
+        txOperator = mock(TransactionalOperator.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(txOperator.transactional(any(Flux.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private OrderInsertCoalescer coalescer(boolean enabled, int maxBatchSize) {
+        return new OrderInsertCoalescer(batchWriter, txOperator,
+                new OrderInsertCoalescingProperties(enabled, Duration.ofMillis(200), maxBatchSize, 2), meterRegistry);
+    }
+
+    private Orders order(String id) {
+        return Orders.builder()
+                .id(id)
+                .documentId("12345678")
+                .amount(new BigDecimal("50000.00"))
+                .deadline(24)
+                .emailAddress("test@example.com")
+                .idLoanType("loan-type")
+                .idStatus("pending-status-id")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Concurrent inserts are written with a single batch")
+    void concurrentInsertsShareBatch() {
+        when(batchWriter.insert(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<Orders>>getArgument(0)));
+        OrderInsertCoalescer coalescer = coalescer(true, 3);
+
+        StepVerifier.create(Flux.merge(coalescer.insert(order("a")), coalescer.insert(order("b")),
+                        coalescer.insert(order("c"))).collectList())
+                .assertNext(stored -> assertEquals(3, stored.size()))
+                .verifyComplete();
+
+        verify(batchWriter, times(1)).insert(anyList());
+        assertEquals(1, meterRegistry.get("orders.insert.batch.size").summary().count());
+        assertEquals(3.0, meterRegistry.get("orders.insert.batch.size").summary().totalAmount());
+        assertEquals(3, meterRegistry.get("orders.insert.queue.delay").timer().count());
+    }
+
+    @Test
+    @DisplayName("A partial batch is flushed when the window elapses")
+    void partialBatchFlushedAfterWindow() {
+        when(batchWriter.insert(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<Orders>>getArgument(0)));
+        OrderInsertCoalescer coalescer = coalescer(true, 50);
+
+        StepVerifier.create(coalescer.insert(order("a")))
+                .assertNext(stored -> assertEquals("a", stored.getId()))
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Every caller of a failed batch gets the error")
+    void failedBatchFailsEveryCaller() {
+        when(batchWriter.insert(anyList())).thenReturn(Flux.error(new IllegalStateException("connection lost")));
+        OrderInsertCoalescer coalescer = coalescer(true, 2);
+
+        Mono<Orders> first = coalescer.insert(order("a"));
+        Mono<Orders> second = coalescer.insert(order("b"));
+
+        StepVerifier.create(Flux.merge(first.materialize(), second.materialize()))
+                .expectNextMatches(signal -> signal.getThrowable() instanceof IllegalStateException)
+                .expectNextMatches(signal -> signal.getThrowable() instanceof IllegalStateException)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("A bad row fails only its own caller")
+    void badRowFailsOnlyItsCaller() {
+        when(batchWriter.insert(anyList())).thenAnswer(invocation -> {
+            List<Orders> orders = invocation.getArgument(0);
+            return orders.stream().anyMatch(order -> order.getId().equals("bad"))
+                    ? Flux.error(new DataIntegrityViolationException("numeric field overflow"))
+                    : Flux.fromIterable(orders);
+        });
+        OrderInsertCoalescer coalescer = coalescer(true, 4);
+
+        StepVerifier.create(Flux.merge(coalescer.insert(order("a")).materialize(),
+                                coalescer.insert(order("bad")).materialize(),
+                                coalescer.insert(order("c")).materialize(),
+                                coalescer.insert(order("d")).materialize())
+                        .collectList())
+                .assertNext(signals -> {
+                    assertEquals(3, signals.stream().filter(signal -> signal.hasValue()).count());
+                    assertEquals(1, signals.stream()
+                            .filter(signal -> signal.getThrowable() instanceof DataIntegrityViolationException)
+                            .count());
+                    assertTrue(signals.stream().filter(signal -> signal.hasValue())
+                            .noneMatch(signal -> signal.get().getId().equals("bad")));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("A batch failed by an unavailable database is not written again")
+    void unavailableDatabaseFailsBatchAtOnce() {
+        when(batchWriter.insert(anyList()))
+                .thenReturn(Flux.error(new DataAccessResourceFailureException("connection refused")));
+        OrderInsertCoalescer coalescer = coalescer(true, 2);
+
+        StepVerifier.create(Flux.merge(coalescer.insert(order("a")).materialize(),
+                        coalescer.insert(order("b")).materialize()))
+                .expectNextMatches(signal -> signal.getThrowable() instanceof DataAccessResourceFailureException)
+                .expectNextMatches(signal -> signal.getThrowable() instanceof DataAccessResourceFailureException)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(batchWriter, times(1)).insert(anyList());
+    }
+
+    @Test
+    @DisplayName("A transaction that cannot begin fails the batch at once")
+    void transactionThatCannotBeginFailsBatchAtOnce() {
+        when(batchWriter.insert(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<Orders>>getArgument(0)));
+        when(txOperator.transactional(any(Flux.class))).thenReturn(Flux.error(new CannotCreateTransactionException(
+                "Could not open R2DBC Connection for transaction",
+                new R2dbcTimeoutException("Connection acquisition timed out"))));
+        OrderInsertCoalescer coalescer = coalescer(true, 4);
+
+        StepVerifier.create(Flux.merge(coalescer.insert(order("a")).materialize(),
+                                coalescer.insert(order("b")).materialize(),
+                                coalescer.insert(order("c")).materialize(),
+                                coalescer.insert(order("d")).materialize())
+                        .collectList())
+                .assertNext(signals -> assertTrue(signals.stream()
+                        .allMatch(signal -> signal.getThrowable() instanceof CannotCreateTransactionException)))
+                .verifyComplete();
+
+        verify(txOperator, times(1)).transactional(any(Flux.class));
+    }
+
+    @Test
+    @DisplayName("Coalescing is disabled by default")
+    void disabledByDefault() {
+        assertFalse(coalescer(false, 10).isEnabled());
+    }
+}
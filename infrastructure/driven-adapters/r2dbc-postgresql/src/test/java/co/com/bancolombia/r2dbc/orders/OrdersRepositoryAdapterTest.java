@@ -1,15 +1,31 @@
 package co.com.bancolombia.r2dbc.orders;
 
+import co.com.bancolombia.metrics.StageMetrics;
+import co.com.bancolombia.model.common.ReadPreference;
 import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.r2dbc.orders.mapper.OrdersMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for OrdersRepositoryAdapter.
@@ -18,6 +34,21 @@ import static org.junit.jupiter.api.Assertions.*;
 @ExtendWith(MockitoExtension.class)
 class OrdersRepositoryAdapterTest {
 
+    @Mock
+    private OrdersR2dbcRepository repository;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private OrdersBatchWriter batchWriter;
+
+    @Mock
+    private OrderInsertCoalescer insertCoalescer;
+
+    @Mock
+    private TransactionalOperator txOperator;
+
     /**
      * Build a sample Orders domain entity for testing.
      */
@@ -149,4 +180,81 @@ class OrdersRepositoryAdapterTest {
         assertEquals(now, order.getCreationDate());
         assertEquals(now, order.getUpdateDate());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Insert writes the order with a single statement")
+    void insertUsesSingleStatement() {
+        Orders order = buildOrdersDomain();
+        OrdersRepositoryAdapter adapter = new OrdersRepositoryAdapter(repository, databaseClient, batchWriter, insertCoalescer,
+                txOperator, new StageMetrics(new SimpleMeterRegistry()));
+        when(repository.insertOrder(order.getId(), order.getDocumentId(), order.getAmount(), order.getDeadline(),
+                order.getEmailAddress(), order.getCreationDate(), order.getUpdateDate(),
+                order.getIdStatus(), order.getIdLoanType()))
+                .thenReturn(Mono.just(OrdersMapper.toData(order)));
+
+        StepVerifier.create(adapter.insert(order))
+                .assertNext(saved -> assertEquals(order.getId(), saved.getId()))
+                .verifyComplete();
+        verify(repository, never()).existsById(any(String.class));
+    }
+
+    @Test
+    @DisplayName("Save upserts the order with a single statement")
+    void saveUsesUpsert() {
+        Orders order = buildOrdersDomain();
+        OrdersRepositoryAdapter adapter = new OrdersRepositoryAdapter(repository, databaseClient, batchWriter, insertCoalescer,
+                txOperator, new StageMetrics(new SimpleMeterRegistry()));
+        when(repository.upsertOrder(order.getId(), order.getDocumentId(), order.getAmount(), order.getDeadline(),
+                order.getEmailAddress(), order.getCreationDate(), order.getUpdateDate(),
+                order.getIdStatus(), order.getIdLoanType()))
+                .thenReturn(Mono.just(OrdersMapper.toData(order)));
+
+        StepVerifier.create(adapter.save(order))
+                .assertNext(saved -> assertEquals(order.getDocumentId(), saved.getDocumentId()))
+                .verifyComplete();
+        verify(repository, never()).existsById(any(String.class));
+    }
+
+    @Test
+    @DisplayName("Insert all writes every statement in one transaction")
+    void insertAllIsTransactional() {
+        List<Orders> orders = List.of(buildOrdersDomain());
+        OrdersRepositoryAdapter adapter = new OrdersRepositoryAdapter(repository, databaseClient, batchWriter, insertCoalescer,
+                txOperator, new StageMetrics(new SimpleMeterRegistry()));
+        when(batchWriter.insert(orders)).thenReturn(Flux.fromIterable(orders));
+        when(txOperator.transactional(any(Flux.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        StepVerifier.create(adapter.insertAll(orders))
+                .expectNextCount(1)
+                .verifyComplete();
+        verify(txOperator).transactional(any(Flux.class));
+    }
+
+    @Test
+    @DisplayName("Lookups by id read the primary so they see the order just written")
+    void lookupsByIdReadThePrimary() {
+        Orders order = buildOrdersDomain();
+        OrdersRepositoryAdapter adapter = new OrdersRepositoryAdapter(repository, databaseClient, batchWriter, insertCoalescer,
+                txOperator, new StageMetrics(new SimpleMeterRegistry()));
+        AtomicReference<Object> findByIdPreference = new AtomicReference<>();
+        AtomicReference<Object> updateDatePreference = new AtomicReference<>();
+        when(repository.findById(order.getId())).thenReturn(Mono.deferContextual(context -> {
+            findByIdPreference.set(context.getOrDefault(ReadPreference.CONTEXT_KEY, null));
+            return Mono.just(OrdersMapper.toData(order));
+        }));
+        when(repository.findUpdateDateById(order.getId())).thenReturn(Mono.deferContextual(context -> {
+            updateDatePreference.set(context.getOrDefault(ReadPreference.CONTEXT_KEY, null));
+            return Mono.just(order.getUpdateDate());
+        }));
+
+        StepVerifier.create(adapter.findById(order.getId()))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(adapter.findUpdateDateById(order.getId()))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertNull(findByIdPreference.get());
+        assertNull(updateDatePreference.get());
+    }
+}
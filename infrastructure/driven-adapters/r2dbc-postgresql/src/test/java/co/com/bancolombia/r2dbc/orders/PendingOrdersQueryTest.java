@@ -0,0 +1,61 @@
+package co.com.bancolombia.r2dbc.orders;
+
+import co.com.bancolombia.model.orders.EmailSearchMode;
+import co.com.bancolombia.model.orders.PendingRequestCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for PendingOrdersQuery.
+ */
+class PendingOrdersQueryTest {
+
+    @Test
+    @DisplayName("Without filters only pagination is bound")
+    void withoutFilters() {
+        PendingOrdersQuery query = PendingOrdersQuery.page(null, null, EmailSearchMode.CONTAINS, 20, 10);
+
+        assertFalse(query.sql().contains("WHERE"));
+        assertTrue(query.sql().endsWith("ORDER BY o.creation_date DESC, o.id DESC OFFSET $1 LIMIT $2"));
+        assertEquals(List.of(20, 10), query.bindings());
+    }
+
+    @Test
+    @DisplayName("Exact search compares the normalized email")
+    void exactSearch() {
+        PendingOrdersQuery query = PendingOrdersQuery.page("status-id", " Ana@Example.com ", EmailSearchMode.EXACT, 0, 10);
+
+        assertTrue(query.sql().contains("WHERE o.id_status = $1 AND lower(o.email_address) = $2"));
+        assertEquals(List.of("status-id", "ana@example.com", 0, 10), query.bindings());
+    }
+
+    @Test
+    @DisplayName("Prefix and contains searches escape LIKE wildcards")
+    void likeSearchesEscapeWildcards() {
+        PendingOrdersQuery prefix = PendingOrdersQuery.page(null, "a_b%", EmailSearchMode.PREFIX, 0, 10);
+        PendingOrdersQuery contains = PendingOrdersQuery.page(null, "a_b%", EmailSearchMode.CONTAINS, 0, 10);
+
+        assertTrue(prefix.sql().contains("WHERE lower(o.email_address) LIKE $1"));
+        assertEquals("a\\_b\\%%", prefix.bindings().get(0));
+        assertEquals("%a\\_b\\%%", contains.bindings().get(0));
+    }
+
+    @Test
+    @DisplayName("Cursor queries seek past the cursor row")
+    void cursorQuery() {
+        LocalDateTime creationDate = LocalDateTime.of(2025, 1, 10, 8, 30);
+        PendingOrdersQuery query = PendingOrdersQuery.after(null, "ana", EmailSearchMode.PREFIX,
+                new PendingRequestCursor(creationDate, "order-9"), 5);
+
+        assertTrue(query.sql().contains("WHERE lower(o.email_address) LIKE $1 AND (o.creation_date, o.id) < ($2, $3)"));
+        assertTrue(query.sql().endsWith("LIMIT $4"));
+        assertEquals(List.of("ana%", creationDate, "order-9", 5), query.bindings());
+    }
+}
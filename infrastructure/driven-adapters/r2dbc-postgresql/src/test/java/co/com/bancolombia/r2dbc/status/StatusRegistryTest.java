@@ -0,0 +1,114 @@
+package co.com.bancolombia.r2dbc.status;
+
+import co.com.bancolombia.model.status.OrderStatus;
+import co.com.bancolombia.r2dbc.config.StatusRegistryProperties;
+import co.com.bancolombia.r2dbc.status.data.StatusData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for StatusRegistry.
+ */
+class StatusRegistryTest {
+
+    private StatusR2dbcRepository repository;
+    private StatusRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(StatusR2dbcRepository.class);
+        registry = new StatusRegistry(repository,
+                new StatusRegistryProperties(Duration.ofMinutes(10), Duration.ofSeconds(5)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.stop();
+    }
+
+    private List<StatusData> allStatuses(String idPrefix) {
+        return Arrays.stream(OrderStatus.values())
+                .map(status -> StatusData.builder()
+                        .id(idPrefix + status.ordinal())
+                        .name(status.name())
+                        .build())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Status ids are served from the registry after loading")
+    void statusIdsServedFromRegistry() {
+        when(repository.findAll()).thenReturn(Flux.fromIterable(allStatuses("id-")));
+
+        registry.load();
+
+        StepVerifier.create(registry.findId(OrderStatus.PENDING)).expectNext("id-0").verifyComplete();
+        StepVerifier.create(registry.findId(OrderStatus.CANCELLED)).expectNext("id-5").verifyComplete();
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Loading fails when a status is missing from the table")
+    void loadFailsWhenStatusMissing() {
+        when(repository.findAll()).thenReturn(Flux.fromIterable(allStatuses("id-")).skip(1));
+
+        assertThrows(IllegalStateException.class, () -> registry.load());
+    }
+
+    @Test
+    @DisplayName("Invalid reload keeps the current registry")
+    void invalidReloadKeepsRegistry() {
+        when(repository.findAll())
+                .thenReturn(Flux.fromIterable(allStatuses("id-")))
+                .thenReturn(Flux.empty());
+
+        registry.load();
+        StepVerifier.create(registry.reload()).expectError(IllegalStateException.class).verify();
+
+        StepVerifier.create(registry.findId(OrderStatus.PENDING)).expectNext("id-0").verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Reload replaces the registry")
+    void reloadReplacesRegistry() {
+        when(repository.findAll())
+                .thenReturn(Flux.fromIterable(allStatuses("id-")))
+                .thenReturn(Flux.fromIterable(allStatuses("new-")));
+
+        registry.load();
+        StepVerifier.create(registry.reload()).verifyComplete();
+
+        StepVerifier.create(registry.findId(OrderStatus.APPROVED)).expectNext("new-1").verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Registry is reloaded on the refresh interval")
+    void registryIsRefreshedOnInterval() {
+        registry = new StatusRegistry(repository,
+                new StatusRegistryProperties(Duration.ofMillis(50), Duration.ofSeconds(5)));
+        when(repository.findAll())
+                .thenReturn(Flux.fromIterable(allStatuses("id-")))
+                .thenReturn(Flux.fromIterable(allStatuses("new-")));
+
+        registry.load();
+
+        verify(repository, timeout(2000).atLeast(3)).findAll();
+        StepVerifier.create(registry.findId(OrderStatus.APPROVED)).expectNext("new-1").verifyComplete();
+    }
+}
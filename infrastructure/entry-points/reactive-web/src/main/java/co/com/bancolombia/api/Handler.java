@@ -1,105 +1,153 @@
 package co.com.bancolombia.api;
 
+import co.com.bancolombia.api.conditional.OrderVersion;
+import co.com.bancolombia.api.config.BulkLoanRequestProperties;
+import co.com.bancolombia.api.config.TracingConfig;
+import co.com.bancolombia.api.dto.BulkLoanRequestResultDTO;
 import co.com.bancolombia.api.dto.CreateLoanRequestDTO;
 import co.com.bancolombia.api.dto.LoanRequestResponseDTO;
 import co.com.bancolombia.api.dto.response.AuthResponseDTO;
 import co.com.bancolombia.api.dto.response.PendingRequestResponseDTO;
-import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
 import co.com.bancolombia.api.enums.RolEnum;
-import co.com.bancolombia.api.services.AuthServiceClient;
+import co.com.bancolombia.api.idempotency.IdempotencyKeyInProgressException;
+import co.com.bancolombia.api.idempotency.IdempotencyKeyReusedException;
+import co.com.bancolombia.api.idempotency.IdempotencyService;
+import co.com.bancolombia.api.idempotency.IdempotentResponse;
+import co.com.bancolombia.api.mapper.LoanRequestMapper;
+import co.com.bancolombia.api.metrics.TimedServerResponse;
+import co.com.bancolombia.api.pagination.PendingRequestCursorCodec;
+import co.com.bancolombia.api.services.AuthServiceUnavailableException;
+import co.com.bancolombia.api.services.InvalidTokenException;
+import co.com.bancolombia.api.services.TokenVerifier;
+import co.com.bancolombia.api.services.UserEnrichmentService;
+import co.com.bancolombia.metrics.StageMetrics;
+import co.com.bancolombia.model.orders.EmailSearchMode;
+import co.com.bancolombia.model.orders.LoanApplication;
 import co.com.bancolombia.model.orders.PendingRequest;
+import co.com.bancolombia.model.orders.PendingRequestCursor;
+import co.com.bancolombia.model.orders.exceptions.LoanRequestValidationException;
 import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
-import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 @Tag(name = "Solicitudes de Préstamo", description = "Operaciones relacionadas con la gestión de solicitudes de préstamo")
 public class Handler {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
     
     private final IOrdersUseCase ordersUseCase;
-    private final Validator validator;
-    private final AuthServiceClient authServiceClient;
+    private final TokenVerifier tokenVerifier;
+    private final UserEnrichmentService userEnrichmentService;
+    private final BulkLoanRequestProperties bulkLoanRequestProperties;
+    private final StageMetrics stageMetrics;
+    private final IdempotencyService idempotencyService;
 
     public Mono<ServerResponse> createLoanRequest(ServerRequest request) {
-        String traceId = generateTraceId();
+        String traceId = traceId(request);
         log.info("[{}] Iniciando procesamiento de solicitud de préstamo", traceId);
         
-        return validateUserToken(request, RolEnum.CLIENT.getId())
-                .flatMap(authUser -> request.bodyToMono(CreateLoanRequestDTO.class)
+        return timed("create.token_validation", validateUserToken(request, RolEnum.CLIENT.getId()))
+                .flatMap(authUser -> timed("create.read_body", request.bodyToMono(CreateLoanRequestDTO.class))
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("El cuerpo de la solicitud no puede estar vacío")))
                 .doOnNext(dto -> log.info("[{}] Datos recibidos para documento: {}", traceId, dto.getDocumentId()))
-                .flatMap(this::validateLoanRequest)
-                .flatMap(dto -> processLoanRequest(dto, traceId))
-                .flatMap(this::buildSuccessResponse)
+                .flatMap(dto -> idempotencyKey(request)
+                        .map(key -> timed("create.process", idempotencyService.execute(
+                                        String.valueOf(authUser.getIdUser()), key, dto,
+                                        () -> processLoanRequest(dto, traceId)))
+                                .flatMap(response -> buildIdempotentResponse(response, traceId)))
+                        .orElseGet(() -> timed("create.process", processLoanRequest(dto, traceId))
+                                .flatMap(this::buildSuccessResponse)))
+                .map(response -> timedWrite("create.write_response", response))
                 )
                 .onErrorResume(this::handleError)
                 .doOnSuccess(response -> log.info("[{}] Solicitud procesada exitosamente", traceId))
                 .doOnError(error -> log.error("[{}] Error procesando solicitud: {}", traceId, error.getMessage()));
     }
 
+    public Mono<ServerResponse> createLoanRequests(ServerRequest request) {
+        String traceId = traceId(request);
+        boolean ndjson = request.headers().contentType()
+                .filter(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype)
+                .isPresent()
+                || request.headers().accept().stream().anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        log.info("[{}] Iniciando creación masiva de solicitudes de préstamo", traceId);
+
+        return timed("bulk.token_validation", validateUserToken(request, RolEnum.CLIENT.getId()))
+                .flatMap(authUser -> {
+                    Flux<LoanApplication> applications = request.bodyToFlux(CreateLoanRequestDTO.class)
+                            .map(dto -> new LoanApplication(dto.getDocumentId(), dto.getAmount(), dto.getDeadline(),
+                                    dto.getEmailAddress(), dto.getLoanTypeId()));
+                    Flux<BulkLoanRequestResultDTO> results = timed("bulk.process", ordersUseCase
+                            .createLoanRequests(applications, bulkLoanRequestProperties.chunkSize())
+                            .map(LoanRequestMapper::toBulkResultDTO));
+                    return ServerResponse.ok()
+                            .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                            .body(results, BulkLoanRequestResultDTO.class)
+                            .map(response -> timedWrite("bulk.write_response", response));
+                })
+                .onErrorResume(this::handleError)
+                .doOnError(error -> log.error("[{}] Error en creación masiva de solicitudes: {}", traceId, error.getMessage()));
+    }
+
     public Mono<ServerResponse> getLoanRequest(ServerRequest request) {
         String orderId = request.pathVariable("id");
-        String traceId = generateTraceId();
+        String traceId = traceId(request);
         
         log.info("[{}] Consultando solicitud con ID: {}", traceId, orderId);
         
-        return validateUserToken(request, RolEnum.ADMIN.getId())
-                .flatMap(authUser -> ordersUseCase.findById(orderId)
-                        .map(this::mapToResponseDTO)
-                        .flatMap(response -> ServerResponse.ok()
-                                .contentType(MediaType.APPLICATION_JSON)
-                                .bodyValue(response)))
+        return timed("get.token_validation", validateUserToken(request, RolEnum.ADMIN.getId()))
+                .flatMap(authUser -> notModified(request, orderId)
+                        .switchIfEmpty(Mono.defer(() -> timed("get.find", ordersUseCase.findById(orderId))
+                                .flatMap(order -> withVersion(ServerResponse.ok(), order.getUpdateDate())
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .bodyValue(LoanRequestMapper.toResponseDTO(order)))
+                                .map(response -> timedWrite("get.write_response", response)))))
                 .onErrorResume(this::handleError)
                 .doOnSuccess(response -> log.info("[{}] Consulta exitosa para ID: {}", traceId, orderId))
                 .doOnError(error -> log.error("[{}] Error consultando solicitud {}: {}", traceId, orderId, error.getMessage()));
     }
 
     public Mono<ServerResponse> getPendingRequests(ServerRequest request) {
-        String traceId = generateTraceId();
+        String traceId = traceId(request);
         log.info("[{}] Iniciando consulta de solicitudes pendientes", traceId);
         
-        return validateUserToken(request, RolEnum.ASSESSOR.getId())
+        return timed("pending.token_validation", validateUserToken(request, RolEnum.ASSESSOR.getId()))
                 .flatMap(authUser -> {
-                    String statusParam = request.queryParam("status").orElse(null);
-                    String emailParam = request.queryParam("email").orElse(null);
-                    int page = Integer.parseInt(request.queryParam("page").orElse("0"));
-                    int size = Integer.parseInt(request.queryParam("size").orElse("10"));
-                    
-                    log.info("[{}] Parámetros de consulta - status: {}, email: {}, page: {}, size: {}", 
-                             traceId, statusParam, emailParam, page, size);
-                    
-                    java.util.UUID statusId = statusParam != null ? java.util.UUID.fromString(statusParam) : null;
-                    
-                    return ordersUseCase.findPendingRequests(statusId, emailParam, page, size)
-                            .map(this::convertToDTO)
-                            .flatMap(pendingRequestDTO -> 
-                                    authServiceClient.getUserByEmailAddress(authUser.getToken(), pendingRequestDTO.getEmailAddress())
-                                    .onErrorResume(ex -> {
-                                        log.warn("[{}] No se pudo obtener datos del usuario para email: {}", traceId, pendingRequestDTO.getEmailAddress());
-                                        return Mono.empty();
-                                    })
-                                    .map(user -> enrichPendingRequestWithUserData(pendingRequestDTO, user))
-                                    .defaultIfEmpty(pendingRequestDTO)
-                            )
-                            .collectList()
-                            .flatMap(pendingRequests -> {
-                                log.info("[{}] Se encontraron {} solicitudes pendientes", traceId, pendingRequests.size());
-                                return ServerResponse.ok()
-                                        .contentType(MediaType.APPLICATION_JSON)
-                                        .bodyValue(pendingRequests);
+                    int size = pageSize(request);
+                    return timed("pending.find", findPendingRequests(request, size, traceId).collectList())
+                            .flatMap(pendingPage -> {
+                                String nextCursor = nextCursor(pendingPage, size);
+                                List<PendingRequestResponseDTO> pageDTOs = pendingPage.stream()
+                                        .map(LoanRequestMapper::toPendingRequestDTO)
+                                        .toList();
+                                return timed("pending.enrichment", userEnrichmentService.enrich(authUser.getToken(), pageDTOs))
+                                        .flatMap(enrichedPage -> {
+                                            log.info("[{}] Se encontraron {} solicitudes pendientes", traceId, enrichedPage.size());
+                                            ServerResponse.BodyBuilder response = ServerResponse.ok()
+                                                    .contentType(MediaType.APPLICATION_JSON);
+                                            if (nextCursor != null) {
+                                                response.header(NEXT_CURSOR_HEADER, nextCursor);
+                                            }
+                                            return response.bodyValue(enrichedPage);
+                                        })
+                                        .map(response -> timedWrite("pending.write_response", response));
                             });
                 })
                 .onErrorResume(this::handleError)
@@ -107,54 +155,68 @@ public class Handler {
                 .doOnError(error -> log.error("[{}] Error consultando solicitudes pendientes: {}", traceId, error.getMessage()));
     }
 
-    private PendingRequestResponseDTO convertToDTO(
-            PendingRequest pendingRequest) {
-        
-        return PendingRequestResponseDTO.builder()
-                .amount(pendingRequest.getAmount())
-                .deadline(pendingRequest.getDeadline())
-                .emailAddress(pendingRequest.getEmailAddress())
-                .name(pendingRequest.getName())
-                .loanType(pendingRequest.getLoanType())
-                .interestRate(pendingRequest.getInterestRate())
-                .status(pendingRequest.getStatus())
-                .baseSalary(pendingRequest.getBaseSalary())
-                .monthlyAmount(pendingRequest.getMonthlyAmount())
-                .build();
-    }
-
-    private PendingRequestResponseDTO enrichPendingRequestWithUserData(
-            PendingRequestResponseDTO pendingRequest,
-            UserReportResponseDTO user) {
-        
-        return PendingRequestResponseDTO.builder()
-                .amount(pendingRequest.getAmount())
-                .deadline(pendingRequest.getDeadline())
-                .emailAddress(pendingRequest.getEmailAddress())
-                .name(user.getName() + " " + user.getLastName())
-                .loanType(pendingRequest.getLoanType())
-                .interestRate(pendingRequest.getInterestRate())
-                .status(pendingRequest.getStatus())
-                .baseSalary(user.getBaseSalary())
-                .monthlyAmount(pendingRequest.getMonthlyAmount())
-                .build();
-    }
-
-    private Mono<CreateLoanRequestDTO> validateLoanRequest(CreateLoanRequestDTO dto) {
-        Set<ConstraintViolation<CreateLoanRequestDTO>> violations = validator.validate(dto);
-        
-        if (!violations.isEmpty()) {
-            String errorMessage = violations.stream()
-                    .map(ConstraintViolation::getMessage)
-                    .reduce((a, b) -> a + "; " + b)
-                    .orElse("Errores de validación en la solicitud");
-            
-            log.warn("Validation failed for document {}: {}", dto.getDocumentId(), errorMessage);
-            throw new ConstraintViolationException(violations);
+    public Mono<ServerResponse> streamPendingRequests(ServerRequest request) {
+        String traceId = traceId(request);
+        MediaType streamType = request.headers().accept().stream()
+                .filter(MediaType.TEXT_EVENT_STREAM::equalsTypeAndSubtype)
+                .findFirst()
+                .map(accepted -> MediaType.TEXT_EVENT_STREAM)
+                .orElse(MediaType.APPLICATION_NDJSON);
+        log.info("[{}] Iniciando streaming de solicitudes pendientes como {}", traceId, streamType);
+
+        return timed("stream.token_validation", validateUserToken(request, RolEnum.ASSESSOR.getId()))
+                .flatMap(authUser -> {
+                    Flux<PendingRequestResponseDTO> pendingRequests = timed("stream.process",
+                            userEnrichmentService.enrich(
+                                    authUser.getToken(),
+                                    findPendingRequests(request, pageSize(request), traceId)
+                                            .map(LoanRequestMapper::toPendingRequestDTO)));
+                    return ServerResponse.ok()
+                            .contentType(streamType)
+                            .body(pendingRequests, PendingRequestResponseDTO.class)
+                            .map(response -> timedWrite("stream.write_response", response));
+                })
+                .onErrorResume(this::handleError)
+                .doOnError(error -> log.error("[{}] Error en streaming de solicitudes pendientes: {}", traceId, error.getMessage()));
+    }
+
+    private int pageSize(ServerRequest request) {
+        return Integer.parseInt(request.queryParam("size").orElse("10"));
+    }
+
+    private Flux<PendingRequest> findPendingRequests(ServerRequest request, int size, String traceId) {
+        String statusParam = request.queryParam("status").orElse(null);
+        String emailParam = request.queryParam("email").orElse(null);
+        EmailSearchMode emailMode = request.queryParam("emailMatch")
+                .map(this::emailSearchMode)
+                .orElse(EmailSearchMode.CONTAINS);
+        int page = Integer.parseInt(request.queryParam("page").orElse("0"));
+        String cursorParam = request.queryParam("cursor").orElse(null);
+
+        log.info("[{}] Parámetros de consulta - status: {}, email: {} ({}), page: {}, size: {}, cursor: {}", 
+                 traceId, statusParam, emailParam, emailMode, page, size, cursorParam);
+
+        java.util.UUID statusId = statusParam != null ? java.util.UUID.fromString(statusParam) : null;
+        return cursorParam != null
+                ? ordersUseCase.findPendingRequests(statusId, emailParam, emailMode,
+                        PendingRequestCursorCodec.decode(cursorParam), size)
+                : ordersUseCase.findPendingRequests(statusId, emailParam, emailMode, page, size);
+    }
+
+    private EmailSearchMode emailSearchMode(String mode) {
+        try {
+            return EmailSearchMode.valueOf(mode.toUpperCase(java.util.Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("El modo de búsqueda de correo debe ser EXACT, PREFIX o CONTAINS");
         }
-        
-        log.debug("Validation successful for document: {}", dto.getDocumentId());
-        return Mono.just(dto);
+    }
+
+    private String nextCursor(List<PendingRequest> pendingPage, int size) {
+        if (pendingPage.isEmpty() || pendingPage.size() < size) {
+            return null;
+        }
+        PendingRequest last = pendingPage.get(pendingPage.size() - 1);
+        return PendingRequestCursorCodec.encode(PendingRequestCursor.from(last));
     }
 
     private Mono<LoanRequestResponseDTO> processLoanRequest(CreateLoanRequestDTO dto, String traceId) {
@@ -165,7 +227,7 @@ public class Handler {
                         dto.getEmailAddress(),
                         dto.getLoanTypeId()
                 )
-                .map(this::mapToResponseDTO)
+                .map(LoanRequestMapper::toResponseDTO)
                 .doOnNext(response -> log.info("[{}] Solicitud creada con ID: {}", traceId, response.getId()));
     }
 
@@ -175,22 +237,59 @@ public class Handler {
                 .bodyValue(responseDTO);
     }
 
-    private LoanRequestResponseDTO mapToResponseDTO(co.com.bancolombia.model.orders.Orders order) {
-        return LoanRequestResponseDTO.builder()
-                .id(order.getId())
-                .documentId(order.getDocumentId())
-                .amount(order.getAmount())
-                .deadline(order.getDeadline())
-                .emailAddress(order.getEmailAddress())
-                .status("PENDING")
-                .loanType(order.getIdLoanType())
-                .creationDate(order.getCreationDate())
-                .updateDate(order.getUpdateDate())
-                .build();
+    private Optional<String> idempotencyKey(ServerRequest request) {
+        return idempotencyService.isEnabled()
+                ? Optional.ofNullable(request.headers().firstHeader(IdempotencyService.HEADER))
+                : Optional.empty();
+    }
+
+    /**
+     * Writes the stored JSON as is; a repeat of the request is marked with the replayed header.
+     */
+    private Mono<ServerResponse> buildIdempotentResponse(IdempotentResponse response, String traceId) {
+        ServerResponse.BodyBuilder builder = ServerResponse.ok().contentType(MediaType.APPLICATION_JSON);
+        if (response.replayed()) {
+            log.info("[{}] Solicitud repetida, se devuelve la respuesta original", traceId);
+            builder.header(IdempotencyService.REPLAYED_HEADER, "true");
+        }
+        return builder.bodyValue(response.body().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private <T> Mono<T> timed(String stage, Mono<T> source) {
+        return stageMetrics.time(StageMetrics.LAYER_HANDLER, stage, source);
     }
 
-    private String generateTraceId() {
-        return "TRACE-" + System.currentTimeMillis() + "-" + Thread.currentThread().getId();
+    private <T> Flux<T> timed(String stage, Flux<T> source) {
+        return stageMetrics.time(StageMetrics.LAYER_HANDLER, stage, source);
+    }
+
+    private ServerResponse timedWrite(String stage, ServerResponse response) {
+        return new TimedServerResponse(response, stageMetrics, StageMetrics.LAYER_HANDLER, stage);
+    }
+
+    /**
+     * Answers 304 from the update date of the order alone when the client already holds its
+     * current version, so the order is neither loaded nor serialized. Empty when the request is
+     * not conditional, the order does not exist or it changed.
+     */
+    private Mono<ServerResponse> notModified(ServerRequest request, String orderId) {
+        HttpHeaders headers = request.headers().asHttpHeaders();
+        if (headers.getIfNoneMatch().isEmpty() && headers.getIfModifiedSince() < 0) {
+            return Mono.empty();
+        }
+        return timed("get.version", ordersUseCase.findUpdateDateById(orderId))
+                .flatMap(updateDate -> request.checkNotModified(
+                        OrderVersion.lastModified(updateDate), OrderVersion.eTag(updateDate)));
+    }
+
+    private static ServerResponse.BodyBuilder withVersion(ServerResponse.BodyBuilder builder, LocalDateTime updateDate) {
+        return updateDate == null ? builder : builder
+                .eTag(OrderVersion.eTag(updateDate))
+                .lastModified(OrderVersion.lastModified(updateDate));
+    }
+
+    private String traceId(ServerRequest request) {
+        return TracingConfig.traceContext(request.exchange()).traceId();
     }
 
     private Mono<AuthResponseDTO> validateUserToken(ServerRequest request, java.util.UUID requiredRoleId) {
@@ -202,7 +301,7 @@ public class Handler {
         
         String token = authHeader.substring(7);
         
-        return authServiceClient.validateToken(token)
+        return tokenVerifier.verify(token)
                 .flatMap(user -> {
                     boolean allowed = user.getIdRol().equals(requiredRoleId);
                     if (!allowed) {
@@ -219,10 +318,33 @@ public class Handler {
                     .bodyValue(java.util.Map.of("errors", ve.getConstraintViolations().stream()
                             .map(violation -> violation.getMessage())
                             .toList()));
-        } else if (ex instanceof org.springframework.web.reactive.function.client.WebClientResponseException.Unauthorized) {
+        } else if (ex instanceof LoanRequestValidationException ve) {
+            log.warn("Solicitud inválida: {}", ve.getMessage());
+            return ServerResponse.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(java.util.Map.of("errors", ve.getViolations()));
+        } else if (ex instanceof IllegalArgumentException) {
+            return ServerResponse.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(java.util.Map.of("errors", ex.getMessage() != null ? ex.getMessage() : "Solicitud inválida"));
+        } else if (ex instanceof org.springframework.web.reactive.function.client.WebClientResponseException.Unauthorized
+                || ex instanceof InvalidTokenException) {
             return ServerResponse.status(org.springframework.http.HttpStatus.UNAUTHORIZED)
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(java.util.Map.of("errors", "Token inválido o expirado"));
+        } else if (ex instanceof AuthServiceUnavailableException) {
+            log.warn("Servicio de autenticación no disponible: {}", ex.getMessage());
+            return ServerResponse.status(org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(java.util.Map.of("errors", "Servicio de autenticación no disponible"));
+        } else if (ex instanceof IdempotencyKeyInProgressException) {
+            return ServerResponse.status(org.springframework.http.HttpStatus.CONFLICT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(java.util.Map.of("errors", ex.getMessage()));
+        } else if (ex instanceof IdempotencyKeyReusedException) {
+            return ServerResponse.status(org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(java.util.Map.of("errors", ex.getMessage()));
         } else if (ex instanceof org.springframework.web.reactive.function.client.WebClientResponseException.Forbidden) {
             return ServerResponse.status(org.springframework.http.HttpStatus.FORBIDDEN)
                     .contentType(MediaType.APPLICATION_JSON)
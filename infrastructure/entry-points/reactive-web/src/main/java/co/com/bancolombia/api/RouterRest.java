@@ -1,8 +1,12 @@
 package co.com.bancolombia.api;
 
+import co.com.bancolombia.api.dto.BulkLoanRequestResultDTO;
 import co.com.bancolombia.api.dto.CreateLoanRequestDTO;
 import co.com.bancolombia.api.dto.LoanRequestResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -13,9 +17,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.reactive.function.server.RequestPredicate;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
+import java.util.List;
+
 import static org.springframework.web.reactive.function.server.RequestPredicates.*;
 import static org.springframework.web.reactive.function.server.RouterFunctions.route;
 
@@ -24,6 +31,8 @@ public class RouterRest {
     
     private static final String API_V1 = "/api/v1";
     private static final String SOLICITUD_PATH = API_V1 + "/solicitud";
+    private static final List<MediaType> STREAMING_TYPES = List.of(
+            MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
 
     @Bean
     @RouterOperations({
@@ -36,7 +45,16 @@ public class RouterRest {
                     operation = @Operation(
                             operationId = "createLoanRequest",
                             summary = "Crear solicitud de préstamo",
-                            description = "Endpoint para crear una nueva solicitud de préstamo",
+                            description = "Endpoint para crear una nueva solicitud de préstamo. "
+                                    + "Con el encabezado Idempotency-Key los reintentos de la misma solicitud "
+                                    + "devuelven la respuesta original, marcada con Idempotent-Replayed, "
+                                    + "sin crear otra solicitud",
+                            parameters = @Parameter(
+                                    in = ParameterIn.HEADER,
+                                    name = "Idempotency-Key",
+                                    required = false,
+                                    description = "Llave única de la solicitud, de hasta 255 caracteres"
+                            ),
                             requestBody = @RequestBody(
                                     required = true,
                                     description = "Datos de la solicitud de préstamo",
@@ -51,6 +69,42 @@ public class RouterRest {
                                     @ApiResponse(
                                             responseCode = "400",
                                             description = "Datos de entrada inválidos"
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "409",
+                                            description = "Una solicitud con el mismo Idempotency-Key sigue en proceso"
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "422",
+                                            description = "El Idempotency-Key ya se usó con una solicitud diferente"
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/solicitud/bulk",
+                    produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+                    method = RequestMethod.POST,
+                    beanClass = Handler.class,
+                    beanMethod = "createLoanRequests",
+                    operation = @Operation(
+                            operationId = "createLoanRequests",
+                            summary = "Crear solicitudes de préstamo en lote",
+                            description = "Recibe un arreglo JSON o un flujo application/x-ndjson de solicitudes. " +
+                                    "Cada solicitud se valida por separado y las válidas se guardan por bloques; " +
+                                    "la respuesta contiene un resultado por solicitud, en el mismo orden",
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    description = "Solicitudes de préstamo",
+                                    content = @Content(array = @ArraySchema(
+                                            schema = @Schema(implementation = CreateLoanRequestDTO.class)))
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Resultado de cada solicitud",
+                                            content = @Content(array = @ArraySchema(
+                                                    schema = @Schema(implementation = BulkLoanRequestResultDTO.class)))
                                     )
                             }
                     )
@@ -64,13 +118,19 @@ public class RouterRest {
                     operation = @Operation(
                             operationId = "getLoanRequest",
                             summary = "Consultar solicitud por ID",
-                            description = "Endpoint para consultar una solicitud de préstamo por su ID",
+                            description = "Endpoint para consultar una solicitud de préstamo por su ID. "
+                                    + "Responde con ETag y Last-Modified; con If-None-Match o If-Modified-Since "
+                                    + "responde 304 si la solicitud no cambió",
                             responses = {
                                     @ApiResponse(
                                             responseCode = "200",
                                             description = "Solicitud encontrada",
                                             content = @Content(schema = @Schema(implementation = LoanRequestResponseDTO.class))
                                     ),
+                                    @ApiResponse(
+                                            responseCode = "304",
+                                            description = "La solicitud no cambió desde la versión indicada"
+                                    ),
                                     @ApiResponse(
                                             responseCode = "404",
                                             description = "Solicitud no encontrada"
@@ -80,14 +140,19 @@ public class RouterRest {
             ),
             @RouterOperation(
                     path = "/api/v1/solicitud",
-                    produces = {MediaType.APPLICATION_JSON_VALUE},
+                    produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+                            MediaType.TEXT_EVENT_STREAM_VALUE},
                     method = RequestMethod.GET,
                     beanClass = Handler.class,
                     beanMethod = "getPendingRequests",
                     operation = @Operation(
                             operationId = "getPendingRequests",
                             summary = "Consultar solicitudes pendientes",
-                            description = "Endpoint para consultar solicitudes pendientes con paginación y filtros - Solo rol Asesor",
+                            description = "Endpoint para consultar solicitudes pendientes con paginación y filtros - Solo rol Asesor. " +
+                                    "Admite paginación por page/size o por cursor: cada página completa devuelve el " +
+                                    "encabezado X-Next-Cursor, que se envía en el parámetro cursor para obtener la siguiente. " +
+                                    "Con Accept application/x-ndjson o text/event-stream cada solicitud se envía en cuanto está lista. " +
+                                    "El filtro email se aplica según emailMatch: EXACT, PREFIX o CONTAINS (por defecto)",
                             responses = {
                                     @ApiResponse(
                                             responseCode = "200",
@@ -105,9 +170,22 @@ public class RouterRest {
         return route(POST(SOLICITUD_PATH)
                         .and(accept(MediaType.APPLICATION_JSON)), 
                 handler::createLoanRequest)
+                .andRoute(POST(SOLICITUD_PATH + "/bulk"),
+                        handler::createLoanRequests)
                 .andRoute(GET(SOLICITUD_PATH + "/{id}"), 
                         handler::getLoanRequest)
+                .andRoute(GET(SOLICITUD_PATH).and(acceptsStreaming()), 
+                        handler::streamPendingRequests)
                 .andRoute(GET(SOLICITUD_PATH), 
                         handler::getPendingRequests);
     }
+
+    /**
+     * Matches requests that explicitly ask for a streaming media type; wildcard Accept
+     * headers keep getting the JSON array.
+     */
+    private static RequestPredicate acceptsStreaming() {
+        return request -> request.headers().accept().stream()
+                .anyMatch(accepted -> STREAMING_TYPES.stream().anyMatch(accepted::equalsTypeAndSubtype));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package co.com.bancolombia.api.conditional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Validators of the representation of an order for conditional requests, derived from its last
+ * update: a strong entity tag with microsecond precision, the precision the update date is stored
+ * with, and the {@code Last-Modified} instant.
+ */
+public class OrderVersion {
+
+    private OrderVersion() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String eTag(LocalDateTime updateDate) {
+        return "\"" + Long.toHexString(ChronoUnit.MICROS.between(Instant.EPOCH, lastModified(updateDate))) + "\"";
+    }
+
+    public static Instant lastModified(LocalDateTime updateDate) {
+        return updateDate.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -12,4 +12,5 @@ public class ApiPaths {
 
     public static final String VALIDATE = baseURL + "/auth/validate";
     public static final String USERSBYEMAIL = baseURL + "/users/byEmail/{email}";
+    public static final String USERSBYEMAILS = baseURL + "/users/byEmails";
 }
\ No newline at end of file
@@ -0,0 +1,203 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import reactor.netty.http.HttpProtocol;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration for the outbound client of the authentication service.
+ *
+ * @param baseUrl base URL of the authentication service
+ * @param tokenCache settings of the validated token cache
+ * @param profileCache settings of the user profile cache
+ * @param enrichment settings of the user lookups used to enrich listings
+ * @param verification settings of the verification of bearer tokens
+ * @param resilience settings of the protection of the calls to the authentication service
+ * @param connection settings of the HTTP connections to the authentication service
+ */
+@ConfigurationProperties(prefix = "adapters.auth-service")
+public record AuthServiceProperties(
+        @DefaultValue("http://localhost:8090") String baseUrl,
+        @DefaultValue TokenCache tokenCache,
+        @DefaultValue ProfileCache profileCache,
+        @DefaultValue Enrichment enrichment,
+        @DefaultValue Verification verification,
+        @DefaultValue Resilience resilience,
+        @DefaultValue Connection connection) {
+
+    /**
+     * Cache of tokens already validated by the authentication service.
+     *
+     * @param enabled whether validated tokens are cached
+     * @param maximumSize maximum number of tokens kept in memory
+     * @param maxTtl upper bound for the life of an entry, even if the token expires later
+     */
+    public record TokenCache(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("10000") long maximumSize,
+            @DefaultValue("5m") Duration maxTtl) {
+    }
+
+    /**
+     * Cache of user profiles looked up by email.
+     *
+     * @param enabled whether profiles are cached
+     * @param maximumSize maximum number of profiles kept in memory
+     * @param ttl time a found profile is kept
+     * @param negativeTtl time a failed or empty lookup is remembered before asking again
+     */
+    public record ProfileCache(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("50000") long maximumSize,
+            @DefaultValue("10m") Duration ttl,
+            @DefaultValue("30s") Duration negativeTtl) {
+    }
+
+    /**
+     * User lookups performed to enrich the pending requests listing.
+     *
+     * @param lookupConcurrency maximum concurrent single lookups when the bulk endpoint is unavailable
+     * @param bulkRetryAfter time to wait before trying the bulk endpoint again after it was unavailable
+     * @param streamBatchSize maximum rows enriched together when the listing is streamed
+     * @param streamBatchWait maximum time a streamed row waits for its batch to fill up
+     */
+    public record Enrichment(
+            @DefaultValue("8") int lookupConcurrency,
+            @DefaultValue("5m") Duration bulkRetryAfter,
+            @DefaultValue("50") int streamBatchSize,
+            @DefaultValue("50ms") Duration streamBatchWait) {
+    }
+
+    /**
+     * Verification of the bearer tokens received by the API. In {@code remote} mode every token is
+     * sent to the authentication service; in {@code local} mode signed JWTs are checked in-process
+     * against the configured keys.
+     *
+     * @param mode where tokens are verified
+     * @param jwksLocation path of a JWKS file with the signing keys, used by the local mode
+     * @param publicKeyLocation path of a PEM public key, used by the local mode when no JWKS file is set
+     * @param issuer expected {@code iss} claim, not checked when empty
+     * @param audience expected {@code aud} claim, not checked when empty
+     * @param userIdClaim claim holding the id of the user
+     * @param roleClaim claim holding the id of the role
+     * @param nameClaim claim holding the name of the user
+     * @param clockSkew tolerance applied to the {@code exp} and {@code nbf} claims
+     * @param remoteFallback whether tokens the local mode cannot check, such as tokens signed with an
+     *                       unknown key, are sent to the authentication service instead of rejected
+     * @param keyReloadInterval minimum time between reloads of the key file when a token names an unknown key
+     */
+    public record Verification(
+            @DefaultValue("remote") Mode mode,
+            String jwksLocation,
+            String publicKeyLocation,
+            String issuer,
+            String audience,
+            @DefaultValue("sub") String userIdClaim,
+            @DefaultValue("idRol") String roleClaim,
+            @DefaultValue("name") String nameClaim,
+            @DefaultValue("30s") Duration clockSkew,
+            @DefaultValue("true") boolean remoteFallback,
+            @DefaultValue("1m") Duration keyReloadInterval) {
+
+        public enum Mode {
+            REMOTE,
+            LOCAL
+        }
+    }
+
+    /**
+     * Protection of the calls to the authentication service, so a slow or failing service does not
+     * hold the requests that depend on it.
+     *
+     * @param timeout maximum time a single call may take
+     * @param circuitBreaker settings of the circuit breaker shared by all the calls
+     * @param bulkhead settings of the limit of concurrent calls
+     * @param hedge settings of the hedged lookups
+     */
+    public record Resilience(
+            @DefaultValue("2s") Duration timeout,
+            @DefaultValue CircuitBreaker circuitBreaker,
+            @DefaultValue Bulkhead bulkhead,
+            @DefaultValue Hedge hedge) {
+
+        /**
+         * Circuit breaker that fails calls fast while the service is failing or slow. Client errors
+         * such as an invalid token are answers of a healthy service and do not count as failures.
+         *
+         * @param enabled whether the circuit breaker is applied
+         * @param failureRateThreshold percentage of failed calls that opens the circuit
+         * @param slowCallRateThreshold percentage of slow calls that opens the circuit
+         * @param slowCallDuration duration above which a call is slow
+         * @param slidingWindowSize number of recent calls the rates are computed on
+         * @param minimumNumberOfCalls calls needed before the rates are evaluated
+         * @param waitDurationInOpenState time the circuit stays open before letting trial calls through
+         * @param permittedCallsInHalfOpenState trial calls let through while the circuit is half open
+         */
+        public record CircuitBreaker(
+                @DefaultValue("true") boolean enabled,
+                @DefaultValue("50") float failureRateThreshold,
+                @DefaultValue("80") float slowCallRateThreshold,
+                @DefaultValue("1s") Duration slowCallDuration,
+                @DefaultValue("100") int slidingWindowSize,
+                @DefaultValue("20") int minimumNumberOfCalls,
+                @DefaultValue("10s") Duration waitDurationInOpenState,
+                @DefaultValue("5") int permittedCallsInHalfOpenState) {
+        }
+
+        /**
+         * Limit of calls in flight; calls above it are rejected at once instead of queued.
+         *
+         * @param enabled whether the limit is applied
+         * @param maxConcurrentCalls maximum calls in flight
+         */
+        public record Bulkhead(
+                @DefaultValue("true") boolean enabled,
+                @DefaultValue("200") int maxConcurrentCalls) {
+        }
+
+        /**
+         * Hedged lookups: when a token validation or user lookup has not answered after the delay,
+         * a second identical call is sent and the first answer wins.
+         *
+         * @param enabled whether lookups are hedged
+         * @param delay time to wait for the first call before sending the second one, around its p95
+         */
+        public record Hedge(
+                @DefaultValue("false") boolean enabled,
+                @DefaultValue("150ms") Duration delay) {
+        }
+    }
+
+    /**
+     * HTTP client and connection pool dedicated to the authentication service. The pool publishes
+     * its {@code reactor.netty.connection.provider.*} meters under the name {@code auth-service}.
+     *
+     * @param maxConnections maximum open connections; with HTTP/2 the maximum connections streams are multiplexed on
+     * @param pendingAcquireMaxCount maximum calls waiting for a connection, -1 for no limit
+     * @param pendingAcquireTimeout maximum time a call waits for a connection
+     * @param maxIdleTime time after which an idle connection is closed
+     * @param maxLifeTime maximum life of a connection, so connections are spread again after scaling
+     * @param evictionInterval interval of the background eviction of idle and expired connections
+     * @param connectTimeout maximum time to establish a connection
+     * @param keepAlive whether TCP keep-alive is enabled on the connections
+     * @param compression whether gzip responses are requested
+     * @param protocols HTTP protocols offered: {@code http11}, {@code h2c} (cleartext HTTP/2) or {@code h2}
+     * @param maxConcurrentStreams maximum concurrent streams per HTTP/2 connection
+     */
+    public record Connection(
+            @DefaultValue("200") int maxConnections,
+            @DefaultValue("400") int pendingAcquireMaxCount,
+            @DefaultValue("1s") Duration pendingAcquireTimeout,
+            @DefaultValue("30s") Duration maxIdleTime,
+            @DefaultValue("5m") Duration maxLifeTime,
+            @DefaultValue("30s") Duration evictionInterval,
+            @DefaultValue("1s") Duration connectTimeout,
+            @DefaultValue("true") boolean keepAlive,
+            @DefaultValue("true") boolean compression,
+            @DefaultValue("http11") List<HttpProtocol> protocols,
+            @DefaultValue("100") int maxConcurrentStreams) {
+    }
+}
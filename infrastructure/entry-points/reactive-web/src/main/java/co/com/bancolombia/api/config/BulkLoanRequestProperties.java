@@ -0,0 +1,14 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the bulk loan request creation endpoint.
+ *
+ * @param chunkSize maximum number of valid requests stored together, in one transaction and with one
+ *                  multi-row insert per 1000 requests
+ */
+@ConfigurationProperties(prefix = "api.bulk-loan-request")
+public record BulkLoanRequestProperties(@DefaultValue("200") int chunkSize) {
+}
@@ -53,7 +53,8 @@ public class CorsConfig {
         config.setExposedHeaders(Arrays.asList(
                 "Access-Control-Allow-Origin",
                 "Access-Control-Allow-Methods",
-                "Access-Control-Allow-Headers"
+                "Access-Control-Allow-Headers",
+                "X-Next-Cursor"
         ));
         
         // Cache preflight requests for 1 hour
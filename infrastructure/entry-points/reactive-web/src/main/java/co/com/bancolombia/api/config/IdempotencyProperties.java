@@ -0,0 +1,24 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@code Idempotency-Key} support of loan request creation.
+ *
+ * @param enabled whether the header is honoured; when disabled every request is executed
+ * @param ttl time the response of a key is returned to repeats of the request
+ * @param inProgressTimeout time a key stays held by an execution that has not finished, after
+ *                          which another instance may execute the request again; an execution
+ *                          that takes longer is cut and fails
+ * @param maximumSize responses kept in memory by each instance
+ */
+@ConfigurationProperties(prefix = "api.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("30s") Duration inProgressTimeout,
+        @DefaultValue("10000") long maximumSize) {
+}
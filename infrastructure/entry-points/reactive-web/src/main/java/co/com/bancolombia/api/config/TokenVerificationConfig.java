@@ -0,0 +1,26 @@
+package co.com.bancolombia.api.config;
+
+import co.com.bancolombia.api.services.AuthServiceClient;
+import co.com.bancolombia.api.services.LocalTokenVerifier;
+import co.com.bancolombia.api.services.TokenVerifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects how bearer tokens are verified. The remote mode asks the authentication service, through
+ * the validated token cache; the local mode checks signed JWTs in-process and, when
+ * {@code remote-fallback} is on, sends the tokens it cannot check to the authentication service.
+ */
+@Configuration
+public class TokenVerificationConfig {
+
+    @Bean
+    public TokenVerifier tokenVerifier(AuthServiceProperties properties, AuthServiceClient authServiceClient) {
+        AuthServiceProperties.Verification verification = properties.verification();
+        TokenVerifier remote = authServiceClient::validateToken;
+        if (verification.mode() == AuthServiceProperties.Verification.Mode.REMOTE) {
+            return remote;
+        }
+        return new LocalTokenVerifier(verification, verification.remoteFallback() ? remote : null);
+    }
+}
@@ -0,0 +1,65 @@
+package co.com.bancolombia.api.config;
+
+import co.com.bancolombia.tracing.TraceContext;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * W3C trace context propagation. The web filter continues the {@code traceparent} of the incoming
+ * request, or starts a trace, and carries it in the Reactor context of the whole exchange; the
+ * WebClient filter forwards it on every outgoing call.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public WebFilter traceContextWebFilter() {
+        return (exchange, chain) -> {
+            TraceContext trace = TraceContext.continueOrGenerate(
+                    exchange.getRequest().getHeaders().getFirst(TraceContext.HEADER));
+            exchange.getAttributes().put(TraceContext.CONTEXT_KEY.getName(), trace);
+            exchange.getResponse().getHeaders().set(TraceContext.HEADER, trace.toHeader());
+            return chain.filter(exchange)
+                    .contextWrite(Context.of(TraceContext.CONTEXT_KEY, trace));
+        };
+    }
+
+    @Bean
+    public WebClientCustomizer traceparentWebClientCustomizer() {
+        return builder -> builder.filter(traceparentPropagation());
+    }
+
+    /**
+     * Adds the {@code traceparent} of the current request to an outgoing call.
+     */
+    public static ExchangeFilterFunction traceparentPropagation() {
+        return (request, next) -> Mono.deferContextual(context -> {
+            TraceContext trace = context.getOrDefault(TraceContext.CONTEXT_KEY, null);
+            if (trace == null) {
+                return next.exchange(request);
+            }
+            return next.exchange(ClientRequest.from(request)
+                    .header(TraceContext.HEADER, trace.toHeader())
+                    .build());
+        });
+    }
+
+    /**
+     * @return the trace context the web filter stored in the exchange, or a new one when the
+     * request did not go through it
+     */
+    public static TraceContext traceContext(ServerWebExchange exchange) {
+        TraceContext trace = exchange.getAttribute(TraceContext.CONTEXT_KEY.getName());
+        return trace != null ? trace : TraceContext.generate();
+    }
+}
@@ -0,0 +1,31 @@
+package co.com.bancolombia.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkLoanRequestResultDTO {
+
+    @JsonProperty("indice")
+    private long index;
+
+    @JsonProperty("creada")
+    private boolean created;
+
+    @JsonProperty("solicitud")
+    private LoanRequestResponseDTO request;
+
+    @JsonProperty("codigo_error")
+    private String errorCode;
+
+    @JsonProperty("mensaje")
+    private String message;
+}
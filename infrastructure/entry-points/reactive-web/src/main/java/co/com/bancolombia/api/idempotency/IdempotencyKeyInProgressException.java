@@ -0,0 +1,13 @@
+package co.com.bancolombia.api.idempotency;
+
+/**
+ * A request whose idempotency key is held by an execution still running on another instance.
+ *
+ * @author Crediya Development Team
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException() {
+        super("Ya hay una solicitud en proceso con el mismo Idempotency-Key");
+    }
+}
@@ -0,0 +1,13 @@
+package co.com.bancolombia.api.idempotency;
+
+/**
+ * A request that reuses the idempotency key of a different request.
+ *
+ * @author Crediya Development Team
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException() {
+        super("El Idempotency-Key ya se usó con una solicitud diferente");
+    }
+}
@@ -0,0 +1,256 @@
+package co.com.bancolombia.api.idempotency;
+
+import co.com.bancolombia.api.config.IdempotencyProperties;
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import co.com.bancolombia.model.idempotency.gateways.IdempotencyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Executes a request at most once per {@code Idempotency-Key}. The first request with a key claims
+ * it in the {@link IdempotencyRepository}, runs and stores its JSON response; repeats of the request
+ * get that response back without running it again. Concurrent repeats on this instance wait for the
+ * first execution instead of claiming the key; a repeat that finds the key held by an execution on
+ * another instance fails with {@link IdempotencyKeyInProgressException}, and a key reused with a
+ * different body fails with {@link IdempotencyKeyReusedException}. Completed responses are also kept
+ * in memory, so repeats served by the same instance do not reach the database. An execution is
+ * bounded by its claim: it fails once {@link IdempotencyProperties#inProgressTimeout()} passes. An
+ * execution rejected by validation releases its key; any other failure, a timeout included, may
+ * have stored the request already, so the key stays held until its claim expires. Outcomes are
+ * counted in {@value #REQUESTS}.
+ *
+ * @author Crediya Development Team
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final String REQUESTS = "idempotency.requests";
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRepository repository;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, StoredResponse> responses;
+    private final Map<String, CompletableFuture<Execution>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRepository repository, IdempotencyProperties properties,
+                              ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(new ResponseExpiry())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Executes the request unless the key already has a response.
+     *
+     * @param scope owner of the key, e.g. the authenticated user, so keys of different users never meet
+     * @param key value of the {@value #HEADER} header
+     * @param request body of the request, hashed to detect a key reused with another request
+     * @param action executes the request; its result is serialized as the response
+     * @return the JSON response, marked as replayed when an earlier execution produced it
+     */
+    public Mono<IdempotentResponse> execute(String scope, String key, Object request, Supplier<Mono<?>> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return Mono.error(new IllegalArgumentException(
+                    "El encabezado " + HEADER + " debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres"));
+        }
+        String scopedKey = scope + ":" + key;
+        return Mono.deferContextual(context -> {
+            String requestHash = hash(request);
+            StoredResponse stored = responses.getIfPresent(scopedKey);
+            if (stored != null) {
+                return Mono.fromCallable(() -> replay(stored, requestHash));
+            }
+            CompletableFuture<Execution> flight = new CompletableFuture<>();
+            CompletableFuture<Execution> running = inFlight.putIfAbsent(scopedKey, flight);
+            if (running != null) {
+                return Mono.fromFuture(running, true).map(execution -> replay(execution.response(), requestHash));
+            }
+            // Detached from the caller: a client that disconnects does not cancel the execution its
+            // retries and the waiting duplicates depend on
+            claimAndRun(scopedKey, requestHash, action)
+                    .contextWrite(context)
+                    .doFinally(signal -> inFlight.remove(scopedKey, flight))
+                    .subscribe(flight::complete, flight::completeExceptionally);
+            return Mono.fromFuture(flight, true).map(execution -> execution.executed()
+                    ? new IdempotentResponse(execution.response().body(), false)
+                    : replay(execution.response(), requestHash));
+        });
+    }
+
+    private Mono<Execution> claimAndRun(String key, String requestHash, Supplier<Mono<?>> action) {
+        // The column keeps microseconds and completing or releasing the claim matches its creation time
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        IdempotencyRecord claim = IdempotencyRecord.inProgress(key, requestHash, now,
+                now.plus(properties.inProgressTimeout()));
+        return repository.claim(claim)
+                .flatMap(claimed -> claimed ? run(claim, action) : storedExecution(key));
+    }
+
+    /**
+     * Runs the action while the claim holds the key. Once the claim expires another instance may take
+     * the key over and execute the request, so the action is not allowed to run past it.
+     */
+    private Mono<Execution> run(IdempotencyRecord claim, Supplier<Mono<?>> action) {
+        Duration lease = Duration.between(LocalDateTime.now(), claim.expiresAt());
+        return Mono.defer(action)
+                .timeout(lease.isNegative() ? Duration.ZERO : lease)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("La solicitud no produjo respuesta")))
+                .map(this::toJson)
+                .onErrorResume(IdempotencyService::isRejected, ex -> repository.release(claim)
+                        .onErrorResume(releaseError -> {
+                            log.warn("No se pudo liberar la llave de idempotencia: {}", releaseError.getMessage());
+                            return Mono.empty();
+                        })
+                        .then(Mono.<String>error(ex)))
+                .doOnError(ex -> !isRejected(ex), ex -> log.warn(
+                        "La llave de idempotencia {} queda reservada hasta {}: la ejecución falló sin saberse "
+                                + "si guardó la solicitud ({})", claim.key(), claim.expiresAt(), ex.toString()))
+                .flatMap(body -> {
+                    LocalDateTime expiresAt = LocalDateTime.now().plus(properties.ttl());
+                    StoredResponse stored = new StoredResponse(claim.requestHash(), body, expiresAt);
+                    count("executed");
+                    return repository.complete(claim, body, expiresAt)
+                            .onErrorResume(ex -> {
+                                log.warn("No se pudo guardar la respuesta de la llave de idempotencia: {}",
+                                        ex.getMessage());
+                                // Outcome unknown: the claim is taken as held so this instance still replays it
+                                return Mono.just(true);
+                            })
+                            .doOnNext(held -> {
+                                if (held) {
+                                    responses.put(claim.key(), stored);
+                                } else {
+                                    log.warn("La llave de idempotencia {} fue tomada por otra ejecución antes de "
+                                            + "guardar su respuesta", claim.key());
+                                }
+                            })
+                            .thenReturn(new Execution(stored, true));
+                });
+    }
+
+    /**
+     * The key is held by an earlier execution: its response when it completed, otherwise it is
+     * still running on another instance.
+     */
+    private Mono<Execution> storedExecution(String key) {
+        return repository.findByKey(key)
+                .filter(IdempotencyRecord::isCompleted)
+                .map(record -> {
+                    StoredResponse stored = new StoredResponse(record.requestHash(), record.response(),
+                            record.expiresAt());
+                    responses.put(key, stored);
+                    return new Execution(stored, false);
+                })
+                .switchIfEmpty(Mono.error(() -> {
+                    count("in_progress");
+                    return new IdempotencyKeyInProgressException();
+                }));
+    }
+
+    /**
+     * Failures that certainly stored nothing: the request was rejected by validation before any
+     * write. Timeouts and errors of the database or of other services may come after the write.
+     */
+    private static boolean isRejected(Throwable ex) {
+        return ex instanceof IllegalArgumentException || ex instanceof ConstraintViolationException;
+    }
+
+    private IdempotentResponse replay(StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            count("reused");
+            throw new IdempotencyKeyReusedException();
+        }
+        count("replayed");
+        return new IdempotentResponse(stored.body(), true);
+    }
+
+    private void count(String outcome) {
+        Counter.builder(REQUESTS)
+                .description("Requests received with an idempotency key, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo serializar la respuesta", ex);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsString(request)
+                    .getBytes(StandardCharsets.UTF_8)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("No se pudo calcular el hash de la solicitud", ex);
+        }
+    }
+
+    private record StoredResponse(String requestHash, String body, LocalDateTime expiresAt) {
+    }
+
+    private record Execution(StoredResponse response, boolean executed) {
+    }
+
+    /**
+     * Keeps a response in memory only while its record is valid, so an instance never replays a key
+     * the cleanup may already have deleted.
+     */
+    private static final class ResponseExpiry implements Expiry<String, StoredResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, StoredResponse value, long currentTime) {
+            return Math.max(0, Duration.between(LocalDateTime.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, StoredResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, StoredResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
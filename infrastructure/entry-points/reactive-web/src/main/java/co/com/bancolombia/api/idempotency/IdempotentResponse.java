@@ -0,0 +1,10 @@
+package co.com.bancolombia.api.idempotency;
+
+/**
+ * Response of a request executed under an idempotency key.
+ *
+ * @param body JSON body of the response
+ * @param replayed whether the body was stored by an earlier execution of the request
+ */
+public record IdempotentResponse(String body, boolean replayed) {
+}
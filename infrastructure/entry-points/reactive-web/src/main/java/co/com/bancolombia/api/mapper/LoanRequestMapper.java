@@ -0,0 +1,53 @@
+package co.com.bancolombia.api.mapper;
+
+import co.com.bancolombia.api.dto.BulkLoanRequestResultDTO;
+import co.com.bancolombia.api.dto.LoanRequestResponseDTO;
+import co.com.bancolombia.api.dto.response.PendingRequestResponseDTO;
+import co.com.bancolombia.model.orders.BulkCreationResult;
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.PendingRequest;
+
+public class LoanRequestMapper {
+
+    private LoanRequestMapper(){
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static LoanRequestResponseDTO toResponseDTO(Orders order) {
+        return LoanRequestResponseDTO.builder()
+                .id(order.getId())
+                .documentId(order.getDocumentId())
+                .amount(order.getAmount())
+                .deadline(order.getDeadline())
+                .emailAddress(order.getEmailAddress())
+                .status("PENDING")
+                .loanType(order.getIdLoanType())
+                .creationDate(order.getCreationDate())
+                .updateDate(order.getUpdateDate())
+                .build();
+    }
+
+    public static PendingRequestResponseDTO toPendingRequestDTO(PendingRequest pendingRequest) {
+        return PendingRequestResponseDTO.builder()
+                .amount(pendingRequest.getAmount())
+                .deadline(pendingRequest.getDeadline())
+                .emailAddress(pendingRequest.getEmailAddress())
+                .name(pendingRequest.getName())
+                .loanType(pendingRequest.getLoanType())
+                .interestRate(pendingRequest.getInterestRate())
+                .status(pendingRequest.getStatus())
+                .baseSalary(pendingRequest.getBaseSalary())
+                .monthlyAmount(pendingRequest.getMonthlyAmount())
+                .build();
+    }
+
+    public static BulkLoanRequestResultDTO toBulkResultDTO(BulkCreationResult result) {
+        return BulkLoanRequestResultDTO.builder()
+                .index(result.index())
+                .created(result.isCreated())
+                .request(result.isCreated() ? toResponseDTO(result.order()) : null)
+                .errorCode(result.errorCode())
+                .message(result.message())
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package co.com.bancolombia.api.metrics;
+
+import co.com.bancolombia.metrics.StageMetrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseCookie;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Response that records how long its body takes to be serialized and written, which happens after
+ * the handler has returned and is therefore not covered by the handler stages.
+ *
+ * @author Crediya Development Team
+ */
+public class TimedServerResponse implements ServerResponse {
+
+    private final ServerResponse delegate;
+    private final StageMetrics stageMetrics;
+    private final String layer;
+    private final String stage;
+
+    public TimedServerResponse(ServerResponse delegate, StageMetrics stageMetrics, String layer, String stage) {
+        this.delegate = delegate;
+        this.stageMetrics = stageMetrics;
+        this.layer = layer;
+        this.stage = stage;
+    }
+
+    @Override
+    public HttpStatusCode statusCode() {
+        return delegate.statusCode();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public int rawStatusCode() {
+        return delegate.rawStatusCode();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return delegate.headers();
+    }
+
+    @Override
+    public MultiValueMap<String, ResponseCookie> cookies() {
+        return delegate.cookies();
+    }
+
+    @Override
+    public Mono<Void> writeTo(ServerWebExchange exchange, Context context) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return delegate.writeTo(exchange, context)
+                    .doOnSuccess(done -> stageMetrics.record(layer, stage, start, false))
+                    .doOnError(ex -> stageMetrics.record(layer, stage, start, true));
+        });
+    }
+}
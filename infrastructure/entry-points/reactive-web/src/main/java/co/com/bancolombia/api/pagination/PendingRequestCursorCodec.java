@@ -0,0 +1,40 @@
+package co.com.bancolombia.api.pagination;
+
+import co.com.bancolombia.model.orders.PendingRequestCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes {@link PendingRequestCursor} values as opaque URL-safe tokens for the listing endpoint.
+ */
+public class PendingRequestCursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private PendingRequestCursorCodec() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String encode(PendingRequestCursor cursor) {
+        String raw = cursor.creationDate() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PendingRequestCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("El cursor de paginación no es válido");
+            }
+            return new PendingRequestCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    raw.substring(separator + 1));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("El cursor de paginación no es válido", ex);
+        }
+    }
+}
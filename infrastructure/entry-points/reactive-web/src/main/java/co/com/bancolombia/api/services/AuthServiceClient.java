@@ -1,36 +1,86 @@
 package co.com.bancolombia.api.services;
 
 import co.com.bancolombia.api.config.ApiPaths;
+import co.com.bancolombia.api.config.AuthServiceProperties;
 import co.com.bancolombia.api.dto.response.AuthResponseDTO;
 import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
+import co.com.bancolombia.metrics.StageMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Collection;
 
 @Service
-public class AuthServiceClient {
+public class AuthServiceClient implements DisposableBean {
 
+    private final ConnectionProvider connectionProvider;
     private final WebClient webClient;
+    private final TokenValidationCache tokenValidationCache;
+    private final UserProfileCache userProfileCache;
+    private final StageMetrics stageMetrics;
+    private final AuthServiceResilience resilience;
+
+    public AuthServiceClient(WebClient.Builder builder, AuthServiceProperties properties,
+                             TokenValidationCache tokenValidationCache, UserProfileCache userProfileCache,
+                             StageMetrics stageMetrics, AuthServiceResilience resilience) {
+        this.connectionProvider = AuthServiceHttpClient.connectionProvider(properties.connection());
+        this.webClient = builder.baseUrl(properties.baseUrl())
+                .clientConnector(new ReactorClientHttpConnector(
+                        AuthServiceHttpClient.create(properties.connection(), connectionProvider)))
+                .build();
+        this.tokenValidationCache = tokenValidationCache;
+        this.userProfileCache = userProfileCache;
+        this.stageMetrics = stageMetrics;
+        this.resilience = resilience;
+    }
 
-    public AuthServiceClient(WebClient.Builder builder) {
-        this.webClient = builder.baseUrl("http://localhost:8090").build();
+    @Override
+    public void destroy() {
+        connectionProvider.dispose();
     }
 
     public Mono<AuthResponseDTO> validateToken(String token) {
-        return webClient.get()
-                .uri(ApiPaths.VALIDATE)
-                .header("Authorization", "Bearer " + token)
-                .retrieve()
-                .bodyToMono(AuthResponseDTO.class);
+        return tokenValidationCache.get(token, this::requestTokenValidation);
     }
 
     public Mono<UserReportResponseDTO> getUserByEmailAddress(String token, String email) {
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path(ApiPaths.USERSBYEMAIL)
-                        .build(email))
-                .header("Authorization", "Bearer " + token)
-                .retrieve()
-                .bodyToMono(UserReportResponseDTO.class);
+        return userProfileCache.get(email, key -> requestUserByEmailAddress(token, key));
+    }
+
+    Mono<UserReportResponseDTO> requestUserByEmailAddress(String token, String email) {
+        return stageMetrics.time(StageMetrics.LAYER_AUTH_CLIENT, "user_by_email",
+                resilience.lookup("user_by_email", () -> webClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path(ApiPaths.USERSBYEMAIL)
+                                .build(email))
+                        .header("Authorization", "Bearer " + token)
+                        .retrieve()
+                        .bodyToMono(UserReportResponseDTO.class)));
+    }
+
+    public Flux<UserReportResponseDTO> getUsersByEmailAddresses(String token, Collection<String> emails) {
+        return stageMetrics.time(StageMetrics.LAYER_AUTH_CLIENT, "users_by_emails",
+                resilience.stream("users_by_emails", () -> webClient.post()
+                        .uri(ApiPaths.USERSBYEMAILS)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(emails)
+                        .retrieve()
+                        .bodyToFlux(UserReportResponseDTO.class)));
+    }
+
+    private Mono<AuthResponseDTO> requestTokenValidation(String token) {
+        return stageMetrics.time(StageMetrics.LAYER_AUTH_CLIENT, "validate_token",
+                resilience.lookup("validate_token", () -> webClient.get()
+                        .uri(ApiPaths.VALIDATE)
+                        .header("Authorization", "Bearer " + token)
+                        .retrieve()
+                        .bodyToMono(AuthResponseDTO.class)));
     }
-}
\ No newline at end of file
+}
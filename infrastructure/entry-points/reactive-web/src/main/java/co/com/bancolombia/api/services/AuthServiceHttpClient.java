@@ -0,0 +1,57 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.AuthServiceProperties;
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.Http2AllocationStrategy;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Builds the connection pool and the HTTP client of the authentication service from
+ * {@link AuthServiceProperties.Connection}, instead of sharing the default pool of the application.
+ *
+ * @author Crediya Development Team
+ */
+final class AuthServiceHttpClient {
+
+    static final String POOL_NAME = "auth-service";
+
+    private AuthServiceHttpClient() {
+    }
+
+    /**
+     * Pool of connections to the authentication service, with its meters enabled. When HTTP/2 is
+     * offered the pool multiplexes up to {@code maxConcurrentStreams} calls on each connection.
+     */
+    static ConnectionProvider connectionProvider(AuthServiceProperties.Connection config) {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(config.maxConnections())
+                .pendingAcquireMaxCount(config.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(config.pendingAcquireTimeout())
+                .maxIdleTime(config.maxIdleTime())
+                .maxLifeTime(config.maxLifeTime())
+                .evictInBackground(config.evictionInterval())
+                .metrics(true);
+        if (offersHttp2(config)) {
+            builder.allocationStrategy(Http2AllocationStrategy.builder()
+                    .maxConnections(config.maxConnections())
+                    .maxConcurrentStreams(config.maxConcurrentStreams())
+                    .build());
+        }
+        return builder.build();
+    }
+
+    static HttpClient create(AuthServiceProperties.Connection config, ConnectionProvider connectionProvider) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol(config.protocols().toArray(HttpProtocol[]::new))
+                .compress(config.compression())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(config.connectTimeout().toMillis()))
+                .option(ChannelOption.SO_KEEPALIVE, config.keepAlive());
+        return config.protocols().contains(HttpProtocol.H2) ? httpClient.secure() : httpClient;
+    }
+
+    private static boolean offersHttp2(AuthServiceProperties.Connection config) {
+        return config.protocols().contains(HttpProtocol.H2) || config.protocols().contains(HttpProtocol.H2C);
+    }
+}
@@ -0,0 +1,201 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.AuthServiceProperties;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Protects the calls to the authentication service. Every call has a timeout, a circuit breaker
+ * fails calls fast while the service is failing or slow, and a bulkhead caps the calls in flight;
+ * calls refused or cut by any of them, or refused by the saturated connection pool, fail with
+ * {@link AuthServiceUnavailableException}. Lookups
+ * can be hedged: when the first call has not answered after the hedge delay a second one is sent
+ * and the first answer wins. Circuit breaker and bulkhead state is published as
+ * {@code resilience4j.*} meters, hedged calls as {@value #HEDGES}.
+ *
+ * @author Crediya Development Team
+ */
+@Slf4j
+@Component
+public class AuthServiceResilience {
+
+    public static final String NAME = "auth-service";
+    public static final String HEDGES = "auth.client.hedges";
+
+    private final Duration timeout;
+    private final boolean hedgeEnabled;
+    private final Duration hedgeDelay;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    public AuthServiceResilience(AuthServiceProperties properties, MeterRegistry meterRegistry) {
+        AuthServiceProperties.Resilience config = properties.resilience();
+        this.timeout = config.timeout();
+        this.hedgeEnabled = config.hedge().enabled();
+        this.hedgeDelay = config.hedge().delay();
+        this.meterRegistry = meterRegistry;
+
+        if (config.circuitBreaker().enabled()) {
+            CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                    .failureRateThreshold(config.circuitBreaker().failureRateThreshold())
+                    .slowCallRateThreshold(config.circuitBreaker().slowCallRateThreshold())
+                    .slowCallDurationThreshold(config.circuitBreaker().slowCallDuration())
+                    .slidingWindowSize(config.circuitBreaker().slidingWindowSize())
+                    .minimumNumberOfCalls(config.circuitBreaker().minimumNumberOfCalls())
+                    .waitDurationInOpenState(config.circuitBreaker().waitDurationInOpenState())
+                    .permittedNumberOfCallsInHalfOpenState(config.circuitBreaker().permittedCallsInHalfOpenState())
+                    .recordException(AuthServiceResilience::isServiceFailure)
+                    .build());
+            this.circuitBreaker = circuitBreakers.circuitBreaker(NAME);
+            this.circuitBreaker.getEventPublisher().onStateTransition(event ->
+                    log.warn("Circuito del servicio de autenticación: {}", event.getStateTransition()));
+            TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        } else {
+            this.circuitBreaker = null;
+        }
+
+        if (config.bulkhead().enabled()) {
+            BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                    .maxConcurrentCalls(config.bulkhead().maxConcurrentCalls())
+                    .maxWaitDuration(Duration.ZERO)
+                    .build());
+            this.bulkhead = bulkheads.bulkhead(NAME);
+            TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+        } else {
+            this.bulkhead = null;
+        }
+    }
+
+    /**
+     * Protects a lookup, hedging it when hedging is enabled. The request must be idempotent, it
+     * may be sent twice.
+     *
+     * @param call name of the call, used in errors and metrics
+     * @param request builds the call; invoked once per attempt
+     */
+    public <T> Mono<T> lookup(String call, Supplier<Mono<T>> request) {
+        Mono<T> attempt = protect(Mono.defer(request));
+        Mono<T> result = hedgeEnabled ? hedged(call, attempt) : attempt;
+        return result.onErrorMap(AuthServiceResilience::isRejection,
+                ex -> new AuthServiceUnavailableException(call, ex));
+    }
+
+    /**
+     * Protects a streamed call. It is never hedged; the timeout applies to every element.
+     *
+     * @param call name of the call, used in errors
+     * @param request builds the call
+     */
+    public <T> Flux<T> stream(String call, Supplier<Flux<T>> request) {
+        Flux<T> attempt = Flux.defer(request).timeout(timeout);
+        if (circuitBreaker != null) {
+            attempt = attempt.transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+        }
+        if (bulkhead != null) {
+            attempt = attempt.transformDeferred(BulkheadOperator.of(bulkhead));
+        }
+        return attempt.onErrorMap(AuthServiceResilience::isRejection,
+                ex -> new AuthServiceUnavailableException(call, ex));
+    }
+
+    /**
+     * @return the state of the circuit, or {@code null} when the circuit breaker is disabled
+     */
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker != null ? circuitBreaker.getState() : null;
+    }
+
+    private <T> Mono<T> protect(Mono<T> request) {
+        Mono<T> attempt = request.timeout(timeout);
+        if (circuitBreaker != null) {
+            attempt = attempt.transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+        }
+        if (bulkhead != null) {
+            attempt = attempt.transformDeferred(BulkheadOperator.of(bulkhead));
+        }
+        return attempt;
+    }
+
+    /**
+     * Sends a second attempt when the first one has not finished after the hedge delay. The first
+     * value wins and the other attempt is cancelled; when the first attempt fails before the delay
+     * its error is returned at once, and when both fail the last error is returned.
+     */
+    private <T> Mono<T> hedged(String call, Mono<T> attempt) {
+        return Mono.defer(() -> {
+            Sinks.One<Boolean> firstDone = Sinks.one();
+            Mono<Signal<T>> first = attempt.materialize()
+                    .doFinally(signal -> firstDone.tryEmitValue(true));
+            Mono<Signal<T>> second = Mono.delay(hedgeDelay)
+                    .takeUntilOther(firstDone.asMono())
+                    .flatMap(tick -> {
+                        hedges(call).increment();
+                        return attempt.materialize();
+                    });
+            return Flux.merge(first, second)
+                    .takeUntil(Signal::hasValue)
+                    .last()
+                    .dematerialize();
+        });
+    }
+
+    private Counter hedges(String call) {
+        return Counter.builder(HEDGES)
+                .description("Second calls sent to the authentication service because the first one was slow")
+                .tag("call", call)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Client errors are answers of a healthy service, e.g. an invalid token, and so is a 501 of an
+     * endpoint the service does not implement, e.g. the bulk user lookup probed by
+     * {@link UserEnrichmentService}; they do not count against the circuit.
+     */
+    private static boolean isServiceFailure(Throwable ex) {
+        return !(ex instanceof WebClientResponseException response
+                && (response.getStatusCode().is4xxClientError()
+                || response.getStatusCode().isSameCodeAs(HttpStatus.NOT_IMPLEMENTED)));
+    }
+
+    /**
+     * Calls refused by the protections or by the connection pool, which arrive wrapped by the
+     * WebClient. The pool of reactor-netty is shaded, so its acquire errors are matched by name; an
+     * acquire timeout is also a {@link TimeoutException}.
+     */
+    private static boolean isRejection(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CallNotPermittedException
+                    || cause instanceof BulkheadFullException
+                    || cause instanceof TimeoutException
+                    || cause.getClass().getSimpleName().startsWith("PoolAcquire")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,14 @@
+package co.com.bancolombia.api.services;
+
+/**
+ * A call to the authentication service that was not answered in time or not sent at all, because
+ * its circuit is open or too many calls are in flight.
+ *
+ * @author Crediya Development Team
+ */
+public class AuthServiceUnavailableException extends RuntimeException {
+
+    public AuthServiceUnavailableException(String call, Throwable cause) {
+        super("Servicio de autenticación no disponible (" + call + "): " + cause.getMessage(), cause);
+    }
+}
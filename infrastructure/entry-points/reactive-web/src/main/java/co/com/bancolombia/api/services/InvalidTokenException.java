@@ -0,0 +1,14 @@
+package co.com.bancolombia.api.services;
+
+/**
+ * A bearer token rejected by the local verification: bad signature, expired, or missing claims.
+ * The stack trace is not filled in, rejecting a token is an expected outcome.
+ *
+ * @author Crediya Development Team
+ */
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message, null, false, false);
+    }
+}
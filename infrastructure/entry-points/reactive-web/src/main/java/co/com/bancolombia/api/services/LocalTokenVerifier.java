@@ -0,0 +1,368 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.AuthServiceProperties;
+import co.com.bancolombia.api.dto.response.AuthResponseDTO;
+import co.com.bancolombia.api.enums.RolEnum;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Verifies signed JWTs in-process, so a request does not wait for the authentication service.
+ * Signature, expiry, not-before, issuer, audience and role are checked against the keys of a JWKS
+ * file or a PEM public key, which are parsed once and kept by {@code kid}. Tokens that cannot be
+ * checked locally, because they are not JWTs, use an unsupported algorithm or name an unknown key,
+ * are handed to the fallback verifier when there is one and rejected otherwise. An unknown key
+ * reloads the key file on the bounded elastic scheduler, so the event loop never waits on the disk.
+ *
+ * @author Crediya Development Team
+ */
+@Slf4j
+public class LocalTokenVerifier implements TokenVerifier {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static final Map<String, String> SIGNATURE_ALGORITHMS = Map.of(
+            "RS256", "SHA256withRSA",
+            "RS384", "SHA384withRSA",
+            "RS512", "SHA512withRSA",
+            "ES256", "SHA256withECDSAinP1363Format",
+            "ES384", "SHA384withECDSAinP1363Format",
+            "ES512", "SHA512withECDSAinP1363Format");
+
+    private static final Map<String, String> CURVES = Map.of(
+            "P-256", "secp256r1",
+            "P-384", "secp384r1",
+            "P-521", "secp521r1");
+
+    private static final Set<UUID> ROLES = Arrays.stream(RolEnum.values())
+            .map(RolEnum::getId)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final AuthServiceProperties.Verification config;
+    private final TokenVerifier fallback;
+    private final Clock clock;
+    private volatile Keys keys;
+    private volatile long nextReloadMillis;
+    private final AtomicReference<Mono<Keys>> pendingReload = new AtomicReference<>();
+
+    /**
+     * @param config settings of the verification; a JWKS file or a public key must be configured
+     * @param fallback verifier of the tokens that cannot be checked locally, or {@code null} to reject them
+     * @throws IllegalStateException when the keys cannot be loaded
+     */
+    public LocalTokenVerifier(AuthServiceProperties.Verification config, TokenVerifier fallback) {
+        this(config, fallback, Clock.systemUTC());
+    }
+
+    LocalTokenVerifier(AuthServiceProperties.Verification config, TokenVerifier fallback, Clock clock) {
+        this.config = config;
+        this.fallback = fallback;
+        this.clock = clock;
+        this.keys = loadKeys();
+        this.nextReloadMillis = clock.millis() + config.keyReloadInterval().toMillis();
+        log.info("Verificación local de tokens habilitada con {} llave(s)", keys.size());
+    }
+
+    @Override
+    public Mono<AuthResponseDTO> verify(String token) {
+        return Mono.fromCallable(() -> verifyLocally(token, keys))
+                .onErrorResume(UnknownKeyException.class, ex -> reloadKeys()
+                        .flatMap(reloaded -> Mono.fromCallable(() -> verifyLocally(token, reloaded))))
+                .onErrorResume(UnverifiableTokenException.class, ex -> {
+                    if (fallback == null) {
+                        return Mono.error(new InvalidTokenException(ex.getMessage()));
+                    }
+                    log.debug("Token no verificable localmente ({}), se valida con el servicio de autenticación",
+                            ex.getMessage());
+                    return fallback.verify(token);
+                });
+    }
+
+    private AuthResponseDTO verifyLocally(String token, Keys keys) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd > 0 ? token.indexOf('.', headerEnd + 1) : -1;
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new UnverifiableTokenException("el token no es un JWT");
+        }
+
+        JsonNode header;
+        try {
+            header = readJson(token.substring(0, headerEnd));
+        } catch (IllegalArgumentException | IOException ex) {
+            throw new UnverifiableTokenException("cabecera ilegible");
+        }
+        String algorithm = SIGNATURE_ALGORITHMS.get(header.path("alg").asText());
+        if (algorithm == null) {
+            throw new UnverifiableTokenException("algoritmo no soportado " + header.path("alg").asText());
+        }
+        String kid = header.path("kid").textValue();
+        PublicKey key = keys.find(kid);
+        if (key == null) {
+            throw kid != null ? new UnknownKeyException(kid) : new UnverifiableTokenException("llave desconocida");
+        }
+
+        verifySignature(algorithm, key, token, payloadEnd);
+
+        JsonNode claims;
+        try {
+            claims = readJson(token.substring(headerEnd + 1, payloadEnd));
+        } catch (IllegalArgumentException | IOException ex) {
+            throw new InvalidTokenException("Claims ilegibles");
+        }
+        checkValidity(claims);
+        checkIssuerAndAudience(claims);
+
+        UUID idRol = uuidClaim(claims, config.roleClaim());
+        if (!ROLES.contains(idRol)) {
+            throw new InvalidTokenException("Rol desconocido");
+        }
+        return AuthResponseDTO.builder()
+                .idUser(uuidClaim(claims, config.userIdClaim()))
+                .idRol(idRol)
+                .nameUser(claims.path(config.nameClaim()).textValue())
+                .token(token)
+                .build();
+    }
+
+    private static void verifySignature(String algorithm, PublicKey key, String token, int payloadEnd) {
+        try {
+            Signature signature = Signature.getInstance(algorithm);
+            signature.initVerify(key);
+            signature.update(token.substring(0, payloadEnd).getBytes(StandardCharsets.US_ASCII));
+            if (!signature.verify(Base64.getUrlDecoder().decode(token.substring(payloadEnd + 1)))) {
+                throw new InvalidTokenException("Firma inválida");
+            }
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(algorithm + " no disponible", ex);
+        } catch (InvalidKeyException | SignatureException | IllegalArgumentException ex) {
+            throw new InvalidTokenException("Firma inválida");
+        }
+    }
+
+    private void checkValidity(JsonNode claims) {
+        long now = clock.millis() / 1000;
+        long skew = config.clockSkew().toSeconds();
+        JsonNode exp = claims.path("exp");
+        if (!exp.canConvertToLong()) {
+            throw new InvalidTokenException("El token no tiene expiración");
+        }
+        if (now - skew >= exp.asLong()) {
+            throw new InvalidTokenException("El token expiró");
+        }
+        JsonNode nbf = claims.path("nbf");
+        if (nbf.canConvertToLong() && now + skew < nbf.asLong()) {
+            throw new InvalidTokenException("El token aún no es válido");
+        }
+    }
+
+    private void checkIssuerAndAudience(JsonNode claims) {
+        if (hasText(config.issuer()) && !config.issuer().equals(claims.path("iss").textValue())) {
+            throw new InvalidTokenException("Emisor inválido");
+        }
+        if (hasText(config.audience())) {
+            JsonNode aud = claims.path("aud");
+            boolean matches = aud.isArray()
+                    ? containsText(aud, config.audience())
+                    : config.audience().equals(aud.textValue());
+            if (!matches) {
+                throw new InvalidTokenException("Audiencia inválida");
+            }
+        }
+    }
+
+    /**
+     * Reads the key file again, at most once per reload interval, so a rotated key is picked up
+     * without a restart. The file is read on the bounded elastic scheduler and requests that arrive
+     * meanwhile wait on the same reload. The current keys are kept when the file cannot be read.
+     */
+    private Mono<Keys> reloadKeys() {
+        Mono<Keys> pending = pendingReload.get();
+        if (pending != null) {
+            return pending;
+        }
+        long now = clock.millis();
+        if (now < nextReloadMillis) {
+            return Mono.just(keys);
+        }
+        Mono<Keys> reload = Mono.fromCallable(this::loadKeys)
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(loaded -> {
+                    keys = loaded;
+                    log.info("Llaves de verificación de tokens recargadas: {}", loaded.size());
+                })
+                .onErrorResume(IllegalStateException.class, ex -> {
+                    log.warn("No se pudieron recargar las llaves de verificación de tokens: {}", ex.getMessage());
+                    return Mono.fromSupplier(() -> keys);
+                })
+                .doFinally(signal -> pendingReload.set(null))
+                .cache();
+        if (!pendingReload.compareAndSet(null, reload)) {
+            pending = pendingReload.get();
+            return pending != null ? pending : Mono.fromSupplier(() -> keys);
+        }
+        nextReloadMillis = now + config.keyReloadInterval().toMillis();
+        return reload;
+    }
+
+    private Keys loadKeys() {
+        try {
+            if (hasText(config.jwksLocation())) {
+                return parseJwks(Files.readAllBytes(Path.of(config.jwksLocation())));
+            }
+            if (hasText(config.publicKeyLocation())) {
+                return new Keys(Map.of(), parsePem(Files.readString(Path.of(config.publicKeyLocation()))));
+            }
+        } catch (IOException | GeneralSecurityException | IllegalArgumentException ex) {
+            throw new IllegalStateException("No se pudieron cargar las llaves de verificación de tokens: "
+                    + ex.getMessage(), ex);
+        }
+        throw new IllegalStateException(
+                "La verificación local de tokens requiere jwks-location o public-key-location");
+    }
+
+    private static Keys parseJwks(byte[] content) throws IOException, GeneralSecurityException {
+        Map<String, PublicKey> byId = new HashMap<>();
+        for (JsonNode jwk : JSON.readTree(content).path("keys")) {
+            if (!"sig".equals(jwk.path("use").asText("sig"))) {
+                continue;
+            }
+            PublicKey key = switch (jwk.path("kty").asText()) {
+                case "RSA" -> KeyFactory.getInstance("RSA").generatePublic(
+                        new RSAPublicKeySpec(unsigned(jwk, "n"), unsigned(jwk, "e")));
+                case "EC" -> ecKey(jwk);
+                default -> null;
+            };
+            if (key != null) {
+                byId.put(jwk.path("kid").asText(""), key);
+            }
+        }
+        if (byId.isEmpty()) {
+            throw new IllegalArgumentException("el JWKS no tiene llaves de firma RSA o EC");
+        }
+        return new Keys(Map.copyOf(byId), byId.size() == 1 ? byId.values().iterator().next() : null);
+    }
+
+    private static PublicKey ecKey(JsonNode jwk) throws GeneralSecurityException {
+        String curve = CURVES.get(jwk.path("crv").asText());
+        if (curve == null) {
+            throw new InvalidKeySpecException("curva no soportada " + jwk.path("crv").asText());
+        }
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec(curve));
+        ECPoint point = new ECPoint(unsigned(jwk, "x"), unsigned(jwk, "y"));
+        return KeyFactory.getInstance("EC").generatePublic(
+                new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+    }
+
+    private static PublicKey parsePem(String pem) throws GeneralSecurityException {
+        String base64 = pem.replaceAll("-----(BEGIN|END) PUBLIC KEY-----", "").replaceAll("\\s", "");
+        X509EncodedKeySpec spec = new X509EncodedKeySpec(Base64.getDecoder().decode(base64));
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(spec);
+        } catch (InvalidKeySpecException notRsa) {
+            return KeyFactory.getInstance("EC").generatePublic(spec);
+        }
+    }
+
+    private static BigInteger unsigned(JsonNode jwk, String field) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path(field).asText()));
+    }
+
+    private static JsonNode readJson(String base64Url) throws IOException {
+        return JSON.readTree(Base64.getUrlDecoder().decode(base64Url));
+    }
+
+    private static UUID uuidClaim(JsonNode claims, String name) {
+        String value = claims.path(name).textValue();
+        if (value == null) {
+            throw new InvalidTokenException("Falta el claim " + name);
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidTokenException("Claim " + name + " inválido");
+        }
+    }
+
+    private static boolean containsText(JsonNode array, String value) {
+        for (JsonNode element : array) {
+            if (value.equals(element.textValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * Parsed keys. A token without {@code kid}, or any token when the keys come from a PEM file,
+     * is checked with the only key available.
+     */
+    private record Keys(Map<String, PublicKey> byId, PublicKey single) {
+
+        PublicKey find(String kid) {
+            PublicKey key = kid != null ? byId.get(kid) : null;
+            return key != null || (kid != null && !byId.isEmpty()) ? key : single;
+        }
+
+        int size() {
+            return byId.isEmpty() ? 1 : byId.size();
+        }
+    }
+
+    /**
+     * A token this verifier cannot judge, as opposed to one it rejects.
+     */
+    private static class UnverifiableTokenException extends RuntimeException {
+
+        UnverifiableTokenException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * A token signed with a key that is not loaded, which a reload of the key file may resolve.
+     */
+    private static final class UnknownKeyException extends UnverifiableTokenException {
+
+        UnknownKeyException(String kid) {
+            super("llave desconocida " + kid);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.AuthServiceProperties;
+import co.com.bancolombia.api.dto.response.AuthResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of tokens already validated by the authentication service.
+ * Entries are keyed by the SHA-256 hash of the token, live no longer than the
+ * token's own {@code exp} claim nor the configured max TTL, and concurrent
+ * validations of the same token share a single in-flight call.
+ *
+ * @author Crediya Development Team
+ */
+@Slf4j
+@Component
+public class TokenValidationCache {
+
+    public static final String CACHE_NAME = "auth.token.validation";
+
+    private static final ObjectMapper CLAIMS_READER = new ObjectMapper();
+
+    private final boolean enabled;
+    private final Duration maxTtl;
+    private final AsyncCache<String, CachedToken> cache;
+
+    public TokenValidationCache(AuthServiceProperties properties, MeterRegistry meterRegistry) {
+        AuthServiceProperties.TokenCache config = properties.tokenCache();
+        this.enabled = config.enabled();
+        this.maxTtl = config.maxTtl();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.maximumSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached validation of the token or loads it with the given function.
+     *
+     * @param token the raw bearer token
+     * @param loader remote validation, invoked at most once per token while it is in flight
+     * @return the authenticated user
+     */
+    public Mono<AuthResponseDTO> get(String token, Function<String, Mono<AuthResponseDTO>> loader) {
+        if (!enabled) {
+            return loader.apply(token);
+        }
+        String key = hash(token);
+        // The loader runs detached from the caller, so it gets the caller's context explicitly;
+        // otherwise the outgoing call would lose the trace of the request
+        return Mono.deferContextual(context -> Mono.fromFuture(() -> cache.get(key,
+                        (k, executor) -> loader.apply(token)
+                                .map(user -> new CachedToken(user, resolveExpiry(token)))
+                                .contextWrite(context)
+                                .toFuture()), true))
+                .map(CachedToken::user);
+    }
+
+    /**
+     * Removes a token from the cache, e.g. after a logout notification.
+     *
+     * @param token the raw bearer token
+     */
+    public void invalidate(String token) {
+        cache.synchronous().invalidate(hash(token));
+    }
+
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    private Instant resolveExpiry(String token) {
+        Instant ceiling = Instant.now().plus(maxTtl);
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return ceiling;
+        }
+        try {
+            JsonNode exp = CLAIMS_READER.readTree(Base64.getUrlDecoder().decode(parts[1])).path("exp");
+            if (exp.canConvertToLong()) {
+                Instant tokenExpiry = Instant.ofEpochSecond(exp.asLong());
+                return tokenExpiry.isBefore(ceiling) ? tokenExpiry : ceiling;
+            }
+        } catch (IllegalArgumentException | IOException ex) {
+            log.debug("No se pudo leer la expiración del token, se usa el TTL máximo: {}", ex.getMessage());
+        }
+        return ceiling;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+
+    private record CachedToken(AuthResponseDTO user, Instant expiresAt) {
+    }
+
+    private static final class TokenExpiry implements Expiry<String, CachedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.dto.response.AuthResponseDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resolves the user behind a bearer token.
+ *
+ * @author Crediya Development Team
+ */
+@FunctionalInterface
+public interface TokenVerifier {
+
+    /**
+     * Verifies the token and returns the user it was issued to.
+     *
+     * @param token the raw bearer token
+     * @return the authenticated user, or an error when the token is not valid
+     */
+    Mono<AuthResponseDTO> verify(String token);
+}
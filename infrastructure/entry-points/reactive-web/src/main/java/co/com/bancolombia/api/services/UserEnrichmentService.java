@@ -0,0 +1,153 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.AuthServiceProperties;
+import co.com.bancolombia.api.dto.response.PendingRequestResponseDTO;
+import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
+import co.com.bancolombia.tracing.TraceLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Enriches pages of pending requests with the client data held by the authentication service.
+ * Each page is resolved through the {@link UserProfileCache}, and the distinct emails it does not
+ * hold are fetched with a single bulk lookup; when the bulk endpoint is not available they are
+ * looked up one by one with bounded concurrency.
+ *
+ * @author Crediya Development Team
+ */
+@Slf4j
+@Service
+public class UserEnrichmentService {
+
+    private static final Set<HttpStatusCode> BULK_UNAVAILABLE = Set.of(
+            HttpStatus.NOT_FOUND, HttpStatus.METHOD_NOT_ALLOWED, HttpStatus.NOT_IMPLEMENTED);
+
+    private final AuthServiceClient authServiceClient;
+    private final UserProfileCache userProfileCache;
+    private final int lookupConcurrency;
+    private final Duration bulkRetryAfter;
+    private final int streamBatchSize;
+    private final Duration streamBatchWait;
+    private volatile long bulkUnavailableUntilMillis;
+
+    public UserEnrichmentService(AuthServiceClient authServiceClient, UserProfileCache userProfileCache,
+                                 AuthServiceProperties properties) {
+        this.authServiceClient = authServiceClient;
+        this.userProfileCache = userProfileCache;
+        this.lookupConcurrency = properties.enrichment().lookupConcurrency();
+        this.bulkRetryAfter = properties.enrichment().bulkRetryAfter();
+        this.streamBatchSize = properties.enrichment().streamBatchSize();
+        this.streamBatchWait = properties.enrichment().streamBatchWait();
+    }
+
+    /**
+     * Enriches a stream of pending requests in small batches, keeping their order. Rows are
+     * grouped until the batch is full or the batch wait elapses, so the first rows are emitted
+     * early, and upstream demand follows downstream demand.
+     *
+     * @param token bearer token of the caller, forwarded to the authentication service
+     * @param pendingRequests the pending requests to enrich
+     * @return the enriched pending requests
+     */
+    public Flux<PendingRequestResponseDTO> enrich(String token, Flux<PendingRequestResponseDTO> pendingRequests) {
+        return pendingRequests
+                .bufferTimeout(streamBatchSize, streamBatchWait, true)
+                .concatMap(batch -> enrich(token, batch))
+                .concatMapIterable(batch -> batch);
+    }
+
+    /**
+     * Replaces name and base salary of every request with the data of its client.
+     * Requests whose client could not be resolved are returned unchanged.
+     *
+     * @param token bearer token of the caller, forwarded to the authentication service
+     * @param page the page of pending requests
+     * @return the enriched page, in the original order
+     */
+    public Mono<List<PendingRequestResponseDTO>> enrich(String token, List<PendingRequestResponseDTO> page) {
+        Set<String> emails = new LinkedHashSet<>();
+        page.stream()
+                .map(PendingRequestResponseDTO::getEmailAddress)
+                .filter(Objects::nonNull)
+                .forEach(emails::add);
+        if (emails.isEmpty()) {
+            return Mono.just(page);
+        }
+
+        return userProfileCache.getAll(emails, missing -> findUsers(token, missing)
+                        .collectMap(Map.Entry::getKey, Map.Entry::getValue))
+                .onErrorResume(ex -> Mono.deferContextual(context -> {
+                    TraceLog.warn(log, context, "No se pudo obtener datos de {} usuarios: {}",
+                            emails.size(), ex.getMessage());
+                    return Mono.just(Collections.<String, UserReportResponseDTO>emptyMap());
+                }))
+                .map(users -> page.stream()
+                        .map(pendingRequest -> {
+                            UserReportResponseDTO user = users.get(pendingRequest.getEmailAddress());
+                            return user != null ? enrichPendingRequestWithUserData(pendingRequest, user) : pendingRequest;
+                        })
+                        .toList());
+    }
+
+    private Flux<Map.Entry<String, UserReportResponseDTO>> findUsers(String token, Collection<String> emails) {
+        if (System.currentTimeMillis() < bulkUnavailableUntilMillis) {
+            return findUsersOneByOne(token, emails);
+        }
+        return authServiceClient.getUsersByEmailAddresses(token, emails)
+                .filter(user -> user.getEmailAddress() != null)
+                .map(user -> Map.entry(user.getEmailAddress(), user))
+                .onErrorResume(this::isBulkUnavailable, ex -> Flux.deferContextual(context -> {
+                    TraceLog.warn(log, context,
+                            "Consulta masiva de usuarios no disponible ({}), se consultan de forma individual",
+                            ex.getMessage());
+                    bulkUnavailableUntilMillis = System.currentTimeMillis() + bulkRetryAfter.toMillis();
+                    return findUsersOneByOne(token, emails);
+                }));
+    }
+
+    private Flux<Map.Entry<String, UserReportResponseDTO>> findUsersOneByOne(String token, Collection<String> emails) {
+        return Flux.fromIterable(emails)
+                .flatMap(email -> authServiceClient.requestUserByEmailAddress(token, email)
+                        .map(user -> Map.entry(email, user))
+                        .onErrorResume(ex -> Mono.deferContextual(context -> {
+                            TraceLog.warn(log, context, "No se pudo obtener datos del usuario para email: {}", email);
+                            return Mono.empty();
+                        })), lookupConcurrency);
+    }
+
+    private boolean isBulkUnavailable(Throwable ex) {
+        return ex instanceof WebClientResponseException response
+                && BULK_UNAVAILABLE.contains(response.getStatusCode());
+    }
+
+    private PendingRequestResponseDTO enrichPendingRequestWithUserData(
+            PendingRequestResponseDTO pendingRequest,
+            UserReportResponseDTO user) {
+
+        return PendingRequestResponseDTO.builder()
+                .amount(pendingRequest.getAmount())
+                .deadline(pendingRequest.getDeadline())
+                .emailAddress(pendingRequest.getEmailAddress())
+                .name(user.getName() + " " + user.getLastName())
+                .loanType(pendingRequest.getLoanType())
+                .interestRate(pendingRequest.getInterestRate())
+                .status(pendingRequest.getStatus())
+                .baseSalary(user.getBaseSalary())
+                .monthlyAmount(pendingRequest.getMonthlyAmount())
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.AuthServiceProperties;
+import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
+import co.com.bancolombia.tracing.TraceLog;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * In-process cache of user profiles keyed by email, bounded by size (W-TinyLFU eviction)
+ * and time. Lookups that fail or find no user are remembered for a shorter negative TTL
+ * so a missing profile does not hit the authentication service on every page view.
+ *
+ * @author Crediya Development Team
+ */
+@Slf4j
+@Component
+public class UserProfileCache {
+
+    public static final String CACHE_NAME = "auth.user.profile";
+
+    private static final CachedProfile NOT_FOUND = new CachedProfile(null);
+
+    private final boolean enabled;
+    private final AsyncCache<String, CachedProfile> cache;
+
+    public UserProfileCache(AuthServiceProperties properties, MeterRegistry meterRegistry) {
+        AuthServiceProperties.ProfileCache config = properties.profileCache();
+        this.enabled = config.enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.maximumSize())
+                .expireAfter(new ProfileExpiry(config.ttl(), config.negativeTtl()))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.synchronous().stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("Fraction of lookups served from the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the profile of the given email, loading it when it is not cached.
+     * A failed or empty load completes empty and is remembered for the negative TTL.
+     *
+     * @param email the user email
+     * @param loader remote lookup, invoked at most once per email while it is in flight
+     * @return the profile, or empty when the user could not be resolved
+     */
+    public Mono<UserReportResponseDTO> get(String email, Function<String, Mono<UserReportResponseDTO>> loader) {
+        if (!enabled) {
+            return loader.apply(email);
+        }
+        return Mono.deferContextual(context -> Mono.fromFuture(() -> cache.get(email,
+                        (key, executor) -> loader.apply(key)
+                                .map(CachedProfile::new)
+                                .defaultIfEmpty(NOT_FOUND)
+                                .onErrorResume(ex -> {
+                                    TraceLog.warn(log, context,
+                                            "No se pudo obtener datos del usuario para email: {}", key);
+                                    return Mono.just(NOT_FOUND);
+                                })
+                                .contextWrite(context)
+                                .toFuture()), true))
+                .mapNotNull(CachedProfile::user);
+    }
+
+    /**
+     * Returns the profiles of the given emails, loading all the missing ones with a single call.
+     * Emails the loader does not return are remembered for the negative TTL.
+     *
+     * @param emails the user emails
+     * @param loader bulk lookup that receives only the emails not present in the cache
+     * @return the resolved profiles keyed by email
+     */
+    public Mono<Map<String, UserReportResponseDTO>> getAll(
+            Set<String> emails, Function<Set<String>, Mono<Map<String, UserReportResponseDTO>>> loader) {
+        if (!enabled) {
+            return loader.apply(emails);
+        }
+        return Mono.deferContextual(context -> Mono.fromFuture(() -> cache.getAll(emails, (missing, executor) -> {
+                    Set<String> keys = Set.copyOf(missing);
+                    return loader.apply(keys)
+                            .onErrorResume(ex -> {
+                                TraceLog.warn(log, context, "No se pudo obtener datos de {} usuarios: {}",
+                                        keys.size(), ex.getMessage());
+                                return Mono.just(Collections.<String, UserReportResponseDTO>emptyMap());
+                            })
+                            .map(found -> toEntries(keys, found))
+                            .contextWrite(context)
+                            .toFuture();
+                }), true))
+                .map(UserProfileCache::foundProfiles);
+    }
+
+    public void invalidate(String email) {
+        cache.synchronous().invalidate(email);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    private static Map<String, CachedProfile> toEntries(Set<String> keys, Map<String, UserReportResponseDTO> found) {
+        Map<String, CachedProfile> entries = new HashMap<>();
+        keys.forEach(key -> {
+            UserReportResponseDTO user = found.get(key);
+            entries.put(key, user != null ? new CachedProfile(user) : NOT_FOUND);
+        });
+        return entries;
+    }
+
+    private static Map<String, UserReportResponseDTO> foundProfiles(Map<String, CachedProfile> entries) {
+        Map<String, UserReportResponseDTO> profiles = new HashMap<>();
+        entries.forEach((email, profile) -> {
+            if (profile.user() != null) {
+                profiles.put(email, profile.user());
+            }
+        });
+        return profiles;
+    }
+
+    private record CachedProfile(UserReportResponseDTO user) {
+    }
+
+    private record ProfileExpiry(Duration ttl, Duration negativeTtl) implements Expiry<String, CachedProfile> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedProfile value, long currentTime) {
+            return value.user() != null ? ttl.toNanos() : negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedProfile value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedProfile value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,12 +1,27 @@
 package co.com.bancolombia.api;
 
+import co.com.bancolombia.api.conditional.OrderVersion;
+import co.com.bancolombia.api.config.BulkLoanRequestProperties;
+import co.com.bancolombia.api.config.IdempotencyProperties;
 import co.com.bancolombia.api.dto.CreateLoanRequestDTO;
 import co.com.bancolombia.api.dto.response.AuthResponseDTO;
+import co.com.bancolombia.api.dto.response.PendingRequestResponseDTO;
+import co.com.bancolombia.api.idempotency.IdempotencyService;
 import co.com.bancolombia.api.services.AuthServiceClient;
+import co.com.bancolombia.api.services.InvalidTokenException;
+import co.com.bancolombia.api.services.UserEnrichmentService;
+import co.com.bancolombia.api.pagination.PendingRequestCursorCodec;
+import co.com.bancolombia.metrics.StageMetrics;
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import co.com.bancolombia.model.idempotency.gateways.IdempotencyRepository;
+import co.com.bancolombia.model.orders.BulkCreationResult;
+import co.com.bancolombia.model.orders.EmailSearchMode;
 import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.PendingRequest;
+import co.com.bancolombia.model.orders.PendingRequestCursor;
+import co.com.bancolombia.model.orders.exceptions.LoanRequestValidationException;
 import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,31 +30,46 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Set;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class RouterRestTest {
 
+    private static final UUID CLIENT_USER_ID = UUID.randomUUID();
+
     private WebTestClient webTestClient;
     private IOrdersUseCase ordersUseCase;
-    private Validator validator;
     private AuthServiceClient authServiceClient;
+    private UserEnrichmentService userEnrichmentService;
+    private IdempotencyRepository idempotencyRepository;
+    private SimpleMeterRegistry meterRegistry;
 
     private CreateLoanRequestDTO buildLoanRequest() {
         return CreateLoanRequestDTO.builder()
@@ -65,13 +95,28 @@ class RouterRestTest {
                 .build();
     }
 
+    private AuthResponseDTO clientUser() {
+        return AuthResponseDTO.builder()
+                .idUser(CLIENT_USER_ID)
+                .idRol(UUID.fromString("b71ed6c9-1dd9-4c14-8a4a-fe06166d5cdb")) // CLIENT
+                .nameUser("Test Client User")
+                .token("mock-token")
+                .build();
+    }
+
     @BeforeEach
     void setup() {
         ordersUseCase = mock(IOrdersUseCase.class);
-        validator = mock(Validator.class);
         authServiceClient = mock(AuthServiceClient.class);
+        userEnrichmentService = mock(UserEnrichmentService.class);
+        idempotencyRepository = mock(IdempotencyRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
 
-        Handler handler = new Handler(ordersUseCase, validator, authServiceClient);
+        IdempotencyService idempotencyService = new IdempotencyService(idempotencyRepository,
+                new IdempotencyProperties(true, Duration.ofHours(24), Duration.ofSeconds(30), 100),
+                Jackson2ObjectMapperBuilder.json().build(), meterRegistry);
+        Handler handler = new Handler(ordersUseCase, authServiceClient::validateToken, userEnrichmentService,
+                new BulkLoanRequestProperties(200), new StageMetrics(meterRegistry), idempotencyService);
         RouterRest routerRest = new RouterRest();
         RouterFunction<ServerResponse> router = routerRest.routerFunction(handler);
 
@@ -93,8 +138,6 @@ class RouterRestTest {
         when(authServiceClient.validateToken(anyString()))
                 .thenReturn(Mono.just(mockClientResponse));
 
-        when(validator.validate(any(CreateLoanRequestDTO.class))).thenReturn(Set.of());
-
         when(ordersUseCase.createLoanRequest(
                 anyString(), any(BigDecimal.class), any(Integer.class), anyString(), anyString()
         )).thenReturn(Mono.just(savedOrder));
@@ -112,6 +155,188 @@ class RouterRestTest {
                 .jsonPath("$.documento_identidad").isEqualTo(savedOrder.getDocumentId())
                 .jsonPath("$.amount").isEqualTo(savedOrder.getAmount().doubleValue())
                 .jsonPath("$.status").isEqualTo("PENDING");
+
+        for (String stage : new String[]{"create.token_validation", "create.read_body", "create.process"}) {
+            assertEquals(1, meterRegistry.get(StageMetrics.METRIC_NAME)
+                    .tags("layer", StageMetrics.LAYER_HANDLER, "stage", stage, "outcome", "success")
+                    .timer().count(), stage);
+        }
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/solicitud - every violated rule is reported")
+    void createLoanRequestReportsAllViolations() {
+        CreateLoanRequestDTO request = buildLoanRequest();
+        request.setDocumentId("123");
+        request.setEmailAddress("invalid");
+
+        when(authServiceClient.validateToken(anyString()))
+                .thenReturn(Mono.just(AuthResponseDTO.builder()
+                        .idUser(UUID.randomUUID())
+                        .idRol(UUID.fromString("b71ed6c9-1dd9-4c14-8a4a-fe06166d5cdb")) // CLIENT
+                        .token("mock-token")
+                        .build()));
+        when(ordersUseCase.createLoanRequest(
+                anyString(), any(BigDecimal.class), any(Integer.class), anyString(), anyString()
+        )).thenReturn(Mono.error(new LoanRequestValidationException(java.util.List.of(
+                "El documento de identidad debe tener entre 8 y 12 dígitos",
+                "El formato del correo electrónico no es válido"))));
+
+        webTestClient.post()
+                .uri("/api/v1/solicitud")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.length()").isEqualTo(2)
+                .jsonPath("$.errors[1]").isEqualTo("El formato del correo electrónico no es válido");
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/solicitud - a retry with the same Idempotency-Key gets the first response")
+    void createLoanRequestReplaysIdempotentRetry() {
+        CreateLoanRequestDTO request = buildLoanRequest();
+        Orders savedOrder = buildOrdersFromRequest(request);
+
+        when(authServiceClient.validateToken(anyString()))
+                .thenReturn(Mono.just(clientUser()));
+        when(ordersUseCase.createLoanRequest(
+                anyString(), any(BigDecimal.class), any(Integer.class), anyString(), anyString()
+        )).thenReturn(Mono.just(savedOrder));
+        when(idempotencyRepository.claim(any())).thenReturn(Mono.just(true));
+        when(idempotencyRepository.complete(any(), anyString(), any())).thenReturn(Mono.just(true));
+
+        webTestClient.post()
+                .uri("/api/v1/solicitud")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .header(IdempotencyService.HEADER, "retry-1")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(IdempotencyService.REPLAYED_HEADER)
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(savedOrder.getId());
+
+        webTestClient.post()
+                .uri("/api/v1/solicitud")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .header(IdempotencyService.HEADER, "retry-1")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(IdempotencyService.REPLAYED_HEADER, "true")
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(savedOrder.getId())
+                .jsonPath("$.documento_identidad").isEqualTo(savedOrder.getDocumentId());
+
+        verify(ordersUseCase, times(1)).createLoanRequest(
+                anyString(), any(BigDecimal.class), any(Integer.class), anyString(), anyString());
+        verify(idempotencyRepository, times(1)).claim(any());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/solicitud - an Idempotency-Key reused with another body is rejected")
+    void createLoanRequestRejectsReusedIdempotencyKey() {
+        CreateLoanRequestDTO request = buildLoanRequest();
+        CreateLoanRequestDTO otherRequest = buildLoanRequest();
+        otherRequest.setAmount(new BigDecimal("90000.00"));
+
+        when(authServiceClient.validateToken(anyString()))
+                .thenReturn(Mono.just(clientUser()));
+        when(ordersUseCase.createLoanRequest(
+                anyString(), any(BigDecimal.class), any(Integer.class), anyString(), anyString()
+        )).thenReturn(Mono.just(buildOrdersFromRequest(request)));
+        when(idempotencyRepository.claim(any())).thenReturn(Mono.just(true));
+        when(idempotencyRepository.complete(any(), anyString(), any())).thenReturn(Mono.just(true));
+
+        webTestClient.post()
+                .uri("/api/v1/solicitud")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .header(IdempotencyService.HEADER, "retry-2")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.post()
+                .uri("/api/v1/solicitud")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .header(IdempotencyService.HEADER, "retry-2")
+                .bodyValue(otherRequest)
+                .exchange()
+                .expectStatus().isEqualTo(422);
+
+        verify(ordersUseCase, times(1)).createLoanRequest(
+                anyString(), any(BigDecimal.class), any(Integer.class), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/solicitud - an Idempotency-Key still running elsewhere answers 409")
+    void createLoanRequestConflictsWithRunningExecution() {
+        CreateLoanRequestDTO request = buildLoanRequest();
+        LocalDateTime now = LocalDateTime.now();
+
+        when(authServiceClient.validateToken(anyString()))
+                .thenReturn(Mono.just(clientUser()));
+        when(idempotencyRepository.claim(any())).thenReturn(Mono.just(false));
+        when(idempotencyRepository.findByKey(anyString())).thenReturn(Mono.just(
+                IdempotencyRecord.inProgress("key", "hash", now, now.plusSeconds(30))));
+
+        webTestClient.post()
+                .uri("/api/v1/solicitud")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .header(IdempotencyService.HEADER, "retry-3")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        verify(ordersUseCase, never()).createLoanRequest(
+                anyString(), any(BigDecimal.class), any(Integer.class), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/solicitud/bulk - one result per item")
+    void createLoanRequestsReturnsResultPerItem() {
+        CreateLoanRequestDTO request = buildLoanRequest();
+        Orders savedOrder = buildOrdersFromRequest(request);
+
+        when(authServiceClient.validateToken(anyString()))
+                .thenReturn(Mono.just(AuthResponseDTO.builder()
+                        .idUser(UUID.randomUUID())
+                        .idRol(UUID.fromString("b71ed6c9-1dd9-4c14-8a4a-fe06166d5cdb")) // CLIENT
+                        .token("mock-token")
+                        .build()));
+        when(ordersUseCase.createLoanRequests(any(), eq(200))).thenAnswer(invocation -> {
+            Flux<?> applications = invocation.getArgument(0);
+            return applications.index().map(item -> item.getT1() == 0
+                    ? BulkCreationResult.created(0, savedOrder)
+                    : BulkCreationResult.rejected(item.getT1(), "LOAN_TYPE_NOT_FOUND", "No existe"));
+        });
+
+        webTestClient.post()
+                .uri("/api/v1/solicitud/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .bodyValue(java.util.List.of(request, request))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].creada").isEqualTo(true)
+                .jsonPath("$[0].solicitud.id").isEqualTo(savedOrder.getId())
+                .jsonPath("$[1].creada").isEqualTo(false)
+                .jsonPath("$[1].codigo_error").isEqualTo("LOAN_TYPE_NOT_FOUND");
+
+        assertEquals(1, meterRegistry.get(StageMetrics.METRIC_NAME)
+                .tags("layer", StageMetrics.LAYER_HANDLER, "stage", "bulk.token_validation", "outcome", "success")
+                .timer().count());
     }
 
     @Test
@@ -147,6 +372,8 @@ class RouterRestTest {
                 .exchange()
                 .expectStatus().isOk()
                 .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals(HttpHeaders.ETAG, OrderVersion.eTag(existingOrder.getUpdateDate()))
+                .expectHeader().exists(HttpHeaders.LAST_MODIFIED)
                 .expectBody()
                 .jsonPath("$.id").isEqualTo(existingOrder.getId())
                 .jsonPath("$.documento_identidad").isEqualTo(existingOrder.getDocumentId())
@@ -154,6 +381,214 @@ class RouterRestTest {
                 .jsonPath("$.status").isEqualTo("PENDING");
     }
 
+    @Test
+    @DisplayName("GET /api/v1/solicitud/{id} - unchanged order answers 304 without loading it")
+    void getLoanRequestNotModified() {
+        String orderId = "order-123";
+        LocalDateTime updateDate = LocalDateTime.of(2026, 3, 1, 10, 15, 30, 123456000);
+        when(authServiceClient.validateToken(anyString()))
+                .thenReturn(Mono.just(AuthResponseDTO.builder()
+                        .idUser(UUID.randomUUID())
+                        .idRol(UUID.fromString("80e86d27-20a4-44be-b90d-44eeb378d409")) // ADMIN
+                        .build()));
+        when(ordersUseCase.findUpdateDateById(orderId)).thenReturn(Mono.just(updateDate));
+
+        webTestClient.get()
+                .uri("/api/v1/solicitud/{id}", orderId)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .header(HttpHeaders.IF_NONE_MATCH, OrderVersion.eTag(updateDate))
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, OrderVersion.eTag(updateDate))
+                .expectBody().isEmpty();
+        verify(ordersUseCase, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/solicitud/{id} - changed order is returned with its new ETag")
+    void getLoanRequestModified() {
+        String orderId = "order-123";
+        LocalDateTime previous = LocalDateTime.of(2026, 3, 1, 10, 15, 30, 123456000);
+        LocalDateTime current = previous.plusNanos(1000);
+        Orders order = Orders.builder()
+                .id(orderId)
+                .documentId("12345678")
+                .amount(new BigDecimal("50000.00"))
+                .deadline(24)
+                .emailAddress("test@example.com")
+                .idLoanType("550e8400-e29b-41d4-a716-446655441003")
+                .idStatus("pending-status-id")
+                .creationDate(previous)
+                .updateDate(current)
+                .build();
+        when(authServiceClient.validateToken(anyString()))
+                .thenReturn(Mono.just(AuthResponseDTO.builder()
+                        .idUser(UUID.randomUUID())
+                        .idRol(UUID.fromString("80e86d27-20a4-44be-b90d-44eeb378d409")) // ADMIN
+                        .build()));
+        when(ordersUseCase.findUpdateDateById(orderId)).thenReturn(Mono.just(current));
+        when(ordersUseCase.findById(orderId)).thenReturn(Mono.just(order));
+
+        webTestClient.get()
+                .uri("/api/v1/solicitud/{id}", orderId)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .header(HttpHeaders.IF_NONE_MATCH, OrderVersion.eTag(previous))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, OrderVersion.eTag(current))
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(orderId);
+    }
+
+
+    @Test
+    @DisplayName("GET /api/v1/solicitud - cursor pagination returns the next cursor")
+    void getPendingRequestsWithCursor() {
+        LocalDateTime lastCreation = LocalDateTime.of(2025, 9, 1, 10, 30);
+        PendingRequestCursor requestedCursor = new PendingRequestCursor(LocalDateTime.of(2025, 9, 2, 8, 0), "order-900");
+        PendingRequest pendingRequest = PendingRequest.builder()
+                .id("order-850")
+                .creationDate(lastCreation)
+                .amount(new BigDecimal("50000.00"))
+                .deadline(24)
+                .emailAddress("test@example.com")
+                .status("PENDING")
+                .build();
+
+        AuthResponseDTO mockAssessorResponse = AuthResponseDTO.builder()
+                .idUser(UUID.randomUUID())
+                .idRol(UUID.fromString("3a371249-a1f0-4eb3-b06c-5a670ab6eca9")) // ASSESSOR
+                .nameUser("Test Assessor User")
+                .token("mock-token")
+                .build();
+        when(authServiceClient.validateToken(anyString()))
+                .thenReturn(Mono.just(mockAssessorResponse));
+        when(ordersUseCase.findPendingRequests(isNull(), isNull(), eq(EmailSearchMode.CONTAINS), eq(requestedCursor), eq(1)))
+                .thenReturn(Flux.just(pendingRequest));
+        when(userEnrichmentService.enrich(anyString(), anyList()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(1)));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/solicitud")
+                        .queryParam("size", 1)
+                        .queryParam("cursor", PendingRequestCursorCodec.encode(requestedCursor))
+                        .build())
+                .header("Authorization", "Bearer mock-jwt-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(Handler.NEXT_CURSOR_HEADER,
+                        PendingRequestCursorCodec.encode(new PendingRequestCursor(lastCreation, "order-850")))
+                .expectBody()
+                .jsonPath("$[0].emailAddress").isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/solicitud - NDJSON streams one request per line")
+    @SuppressWarnings("unchecked")
+    void streamPendingRequestsAsNdjson() {
+        PendingRequest first = PendingRequest.builder()
+                .id("order-1").creationDate(LocalDateTime.now())
+                .amount(new BigDecimal("50000.00")).deadline(24)
+                .emailAddress("first@example.com").status("PENDING")
+                .build();
+        PendingRequest second = PendingRequest.builder()
+                .id("order-2").creationDate(LocalDateTime.now())
+                .amount(new BigDecimal("75000.00")).deadline(12)
+                .emailAddress("second@example.com").status("PENDING")
+                .build();
+
+        AuthResponseDTO mockAssessorResponse = AuthResponseDTO.builder()
+                .idUser(UUID.randomUUID())
+                .idRol(UUID.fromString("3a371249-a1f0-4eb3-b06c-5a670ab6eca9")) // ASSESSOR
+                .token("mock-token")
+                .build();
+        when(authServiceClient.validateToken(anyString()))
+                .thenReturn(Mono.just(mockAssessorResponse));
+        when(ordersUseCase.findPendingRequests(isNull(), isNull(), eq(EmailSearchMode.CONTAINS), eq(0), eq(10)))
+                .thenReturn(Flux.just(first, second));
+        when(userEnrichmentService.enrich(anyString(), any(Flux.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        webTestClient.get()
+                .uri("/api/v1/solicitud")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(PendingRequestResponseDTO.class)
+                .getResponseBody()
+                .map(PendingRequestResponseDTO::getEmailAddress)
+                .as(StepVerifier::create)
+                .expectNext("first@example.com", "second@example.com")
+                .verifyComplete();
+
+        assertEquals(1, meterRegistry.get(StageMetrics.METRIC_NAME)
+                .tags("layer", StageMetrics.LAYER_HANDLER, "stage", "stream.token_validation", "outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/solicitud - emailMatch selects the email search mode")
+    void getPendingRequestsWithEmailPrefix() {
+        when(authServiceClient.validateToken(anyString()))
+                .thenReturn(Mono.just(AuthResponseDTO.builder()
+                        .idUser(UUID.randomUUID())
+                        .idRol(UUID.fromString("3a371249-a1f0-4eb3-b06c-5a670ab6eca9")) // ASSESSOR
+                        .token("mock-token")
+                        .build()));
+        when(ordersUseCase.findPendingRequests(isNull(), eq("ana"), eq(EmailSearchMode.PREFIX), eq(0), eq(10)))
+                .thenReturn(Flux.empty());
+        when(userEnrichmentService.enrich(anyString(), anyList()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(1)));
+
+        webTestClient.get()
+                .uri("/api/v1/solicitud?email=ana&emailMatch=prefix")
+                .header("Authorization", "Bearer mock-jwt-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+
+        webTestClient.get()
+                .uri("/api/v1/solicitud?email=ana&emailMatch=fuzzy")
+                .header("Authorization", "Bearer mock-jwt-token")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/solicitud - invalid cursor is rejected")
+    void getPendingRequestsWithInvalidCursor() {
+        AuthResponseDTO mockAssessorResponse = AuthResponseDTO.builder()
+                .idUser(UUID.randomUUID())
+                .idRol(UUID.fromString("3a371249-a1f0-4eb3-b06c-5a670ab6eca9")) // ASSESSOR
+                .token("mock-token")
+                .build();
+        when(authServiceClient.validateToken(anyString()))
+                .thenReturn(Mono.just(mockAssessorResponse));
+
+        webTestClient.get()
+                .uri("/api/v1/solicitud?cursor=not-a-cursor")
+                .header("Authorization", "Bearer mock-jwt-token")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/solicitud/{id} - token rejected by the verifier")
+    void getLoanRequestWithRejectedToken() {
+        when(authServiceClient.validateToken(anyString()))
+                .thenReturn(Mono.error(new InvalidTokenException("El token expiró")));
+
+        webTestClient.get()
+                .uri("/api/v1/solicitud/{id}", "order-123")
+                .header("Authorization", "Bearer mock-jwt-token")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody()
+                .jsonPath("$.errors").isEqualTo("Token inválido o expirado");
+    }
 
     @Test
     @DisplayName("RouterRest - basic instantiation")
@@ -2,10 +2,15 @@ package co.com.bancolombia.api.config;
 
 import co.com.bancolombia.api.Handler;
 import co.com.bancolombia.api.RouterRest;
-import co.com.bancolombia.api.services.AuthServiceClient;
+import co.com.bancolombia.api.idempotency.IdempotencyService;
+import co.com.bancolombia.api.services.TokenVerifier;
+import co.com.bancolombia.api.services.UserEnrichmentService;
+import co.com.bancolombia.metrics.StageMetrics;
 import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
@@ -14,7 +19,9 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 
 @ContextConfiguration(classes = {RouterRest.class, Handler.class})
 @WebFluxTest
-@Import({CorsConfig.class, SecurityHeadersConfig.class, ValidationConfig.class})
+@Import({CorsConfig.class, SecurityHeadersConfig.class, ValidationConfig.class, StageMetrics.class,
+        SimpleMeterRegistry.class})
+@EnableConfigurationProperties(BulkLoanRequestProperties.class)
 class ConfigTest {
 
     @Autowired
@@ -24,7 +31,13 @@ class ConfigTest {
     private IOrdersUseCase ordersUseCase;
     
     @MockBean
-    private AuthServiceClient authServiceClient;
+    private TokenVerifier tokenVerifier;
+
+    @MockBean
+    private UserEnrichmentService userEnrichmentService;
+
+    @MockBean
+    private IdempotencyService idempotencyService;
 
     @Test
     void testContextLoads() {
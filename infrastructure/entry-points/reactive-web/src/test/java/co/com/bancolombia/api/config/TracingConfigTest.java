@@ -0,0 +1,92 @@
+package co.com.bancolombia.api.config;
+
+import co.com.bancolombia.tracing.TraceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+/**
+ * Unit tests for the trace context propagation of TracingConfig.
+ */
+class TracingConfigTest {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    private final TracingConfig tracingConfig = new TracingConfig();
+
+    private WebTestClient client(AtomicReference<TraceContext> seen) {
+        return WebTestClient.bindToRouterFunction(RouterFunctions.route(GET("/trace"),
+                        request -> Mono.deferContextual(context -> {
+                            seen.set(context.getOrDefault(TraceContext.CONTEXT_KEY, null));
+                            return ServerResponse.ok().build();
+                        })))
+                .webFilter(tracingConfig.traceContextWebFilter())
+                .build();
+    }
+
+    @Test
+    @DisplayName("The incoming trace is continued and carried in the Reactor context")
+    void continuesIncomingTrace() {
+        AtomicReference<TraceContext> seen = new AtomicReference<>();
+
+        client(seen).get().uri("/trace")
+                .header(TraceContext.HEADER, TRACEPARENT)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(TraceContext.HEADER,
+                        header -> assertTrue(header.contains("4bf92f3577b34da6a3ce929d0e0e4736")));
+
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", seen.get().traceId());
+    }
+
+    @Test
+    @DisplayName("A request without traceparent starts a new trace")
+    void startsNewTrace() {
+        AtomicReference<TraceContext> seen = new AtomicReference<>();
+
+        client(seen).get().uri("/trace")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(TraceContext.HEADER);
+
+        assertFalse(seen.get().traceId().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Outgoing calls carry the traceparent of the current request")
+    void outgoingCallsCarryTraceparent() {
+        TraceContext trace = TraceContext.continueOrGenerate(TRACEPARENT);
+        AtomicReference<ClientRequest> sent = new AtomicReference<>();
+        ExchangeFunction exchange = request -> {
+            sent.set(request);
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        };
+        ClientRequest request = ClientRequest.create(HttpMethod.GET,
+                URI.create("http://localhost/validate")).build();
+
+        StepVerifier.create(TracingConfig.traceparentPropagation().filter(request, exchange)
+                        .contextWrite(Context.of(TraceContext.CONTEXT_KEY, trace)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(trace.toHeader(), sent.get().headers().getFirst(TraceContext.HEADER));
+    }
+}
@@ -0,0 +1,282 @@
+package co.com.bancolombia.api.idempotency;
+
+import co.com.bancolombia.api.config.IdempotencyProperties;
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import co.com.bancolombia.model.idempotency.gateways.IdempotencyRepository;
+import co.com.bancolombia.model.orders.exceptions.LoanRequestValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of IdempotencyService against an in-memory store shared by two instances.
+ */
+class IdempotencyServiceTest {
+
+    private static final Map<String, String> REQUEST = Map.of("documentId", "12345678", "amount", "50000");
+
+    private InMemoryIdempotencyRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyService service;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryIdempotencyRepository();
+        meterRegistry = new SimpleMeterRegistry();
+        service = newInstance();
+        executions = new AtomicInteger();
+    }
+
+    private IdempotencyService newInstance() {
+        return newInstance(Duration.ofSeconds(30));
+    }
+
+    private IdempotencyService newInstance(Duration inProgressTimeout) {
+        return new IdempotencyService(repository,
+                new IdempotencyProperties(true, Duration.ofHours(24), inProgressTimeout, 100),
+                Jackson2ObjectMapperBuilder.json().build(), meterRegistry);
+    }
+
+    private Mono<Map<String, String>> createOrder(Duration latency) {
+        return Mono.defer(() -> {
+            int execution = executions.incrementAndGet();
+            return Mono.just(Map.of("id", "order-" + execution)).delayElement(latency);
+        });
+    }
+
+    @Test
+    @DisplayName("Concurrent duplicates wait for the first execution and share its response")
+    void concurrentDuplicatesCollapse() {
+        StepVerifier.create(Mono.zip(
+                        service.execute("user", "key", REQUEST, () -> createOrder(Duration.ofMillis(100))),
+                        service.execute("user", "key", REQUEST, () -> createOrder(Duration.ofMillis(100)))))
+                .assertNext(responses -> {
+                    assertEquals(responses.getT1().body(), responses.getT2().body());
+                    assertFalse(responses.getT1().replayed());
+                    assertTrue(responses.getT2().replayed());
+                })
+                .verifyComplete();
+        assertEquals(1, executions.get());
+        assertEquals(1, repository.claims.get());
+    }
+
+    @Test
+    @DisplayName("A response stored by another instance is replayed without executing")
+    void responseOfAnotherInstanceIsReplayed() {
+        StepVerifier.create(service.execute("user", "key", REQUEST, () -> createOrder(Duration.ZERO)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(newInstance().execute("user", "key", REQUEST, () -> createOrder(Duration.ZERO)))
+                .assertNext(response -> {
+                    assertTrue(response.replayed());
+                    assertTrue(response.body().contains("order-1"));
+                })
+                .verifyComplete();
+        assertEquals(1, executions.get());
+        assertEquals(1.0, meterRegistry.get(IdempotencyService.REQUESTS).tag("outcome", "replayed")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("A key still running on another instance is reported as in progress")
+    void keyRunningElsewhereIsInProgress() {
+        service.execute("user", "key", REQUEST, () -> createOrder(Duration.ofMillis(500))).subscribe();
+
+        StepVerifier.create(newInstance().execute("user", "key", REQUEST, () -> createOrder(Duration.ZERO)))
+                .expectError(IdempotencyKeyInProgressException.class)
+                .verify();
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("A request rejected by validation releases its key so a retry executes again")
+    void rejectedRequestReleasesTheKey() {
+        StepVerifier.create(service.execute("user", "key", REQUEST,
+                        () -> Mono.error(new LoanRequestValidationException(List.of("monto fuera de rango")))))
+                .expectError(LoanRequestValidationException.class)
+                .verify();
+
+        StepVerifier.create(service.execute("user", "key", REQUEST, () -> createOrder(Duration.ZERO)))
+                .assertNext(response -> assertFalse(response.replayed()))
+                .verifyComplete();
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("A failure that may come after the write keeps the key held")
+    void uncertainFailureKeepsTheKey() {
+        StepVerifier.create(service.execute("user", "key", REQUEST,
+                        () -> Mono.error(new IllegalStateException("conexión perdida al confirmar"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(0, repository.releases.get());
+        StepVerifier.create(service.execute("user", "key", REQUEST, () -> createOrder(Duration.ZERO)))
+                .expectError(IdempotencyKeyInProgressException.class)
+                .verify();
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    @DisplayName("An execution that times out after its insert committed keeps the key held")
+    void timeoutAfterInsertKeepsTheKey() {
+        // createOrder counts the stored order at once and only then waits, like an insert that
+        // committed before a slow answer
+        StepVerifier.create(newInstance(Duration.ofMillis(200)).execute("user", "key", REQUEST,
+                        () -> createOrder(Duration.ofSeconds(5))))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(2));
+
+        assertEquals(1, executions.get());
+        assertEquals(0, repository.releases.get());
+        assertFalse(repository.records.get("user:key").isCompleted());
+    }
+
+    @Test
+    @DisplayName("A completion that arrives after its claim was taken over leaves the new claim alone")
+    void lateCompletionDoesNotOverwriteTakeover() {
+        repository.completeDelay = Duration.ofMillis(400);
+        IdempotencyService first = newInstance(Duration.ofMillis(200));
+        IdempotencyService second = newInstance();
+
+        StepVerifier.create(Mono.zip(
+                        first.execute("user", "key", REQUEST, () -> createOrder(Duration.ofMillis(50))),
+                        Mono.delay(Duration.ofMillis(300))
+                                .then(second.execute("user", "key", REQUEST, () -> createOrder(Duration.ZERO)))))
+                .assertNext(responses -> {
+                    assertTrue(responses.getT1().body().contains("order-1"));
+                    assertFalse(responses.getT2().replayed());
+                })
+                .verifyComplete();
+
+        assertEquals(2, executions.get());
+        assertTrue(repository.records.get("user:key").response().contains("order-2"));
+        StepVerifier.create(newInstance().execute("user", "key", REQUEST, () -> createOrder(Duration.ZERO)))
+                .assertNext(response -> assertTrue(response.body().contains("order-2")))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("A release that arrives after its claim was taken over leaves the new claim alone")
+    void lateReleaseDoesNotDeleteTakeover() {
+        repository.releaseDelay = Duration.ofMillis(400);
+        IdempotencyService first = newInstance(Duration.ofMillis(200));
+        IdempotencyService second = newInstance();
+
+        StepVerifier.create(Mono.zip(
+                        first.execute("user", "key", REQUEST,
+                                        () -> Mono.delay(Duration.ofMillis(50))
+                                                .then(Mono.error(new IllegalArgumentException("fallo"))))
+                                .onErrorResume(IllegalArgumentException.class, ex -> Mono.just(
+                                        new IdempotentResponse("failed", false))),
+                        Mono.delay(Duration.ofMillis(300)).then(second.execute("user", "key", REQUEST,
+                                () -> createOrder(Duration.ofMillis(300))))))
+                .assertNext(responses -> assertTrue(responses.getT2().body().contains("order-1")))
+                .verifyComplete();
+
+        assertTrue(repository.records.get("user:key").isCompleted());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("The same key of different users does not meet")
+    void keysAreScopedToTheUser() {
+        StepVerifier.create(service.execute("user-a", "key", REQUEST, () -> createOrder(Duration.ZERO)))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(service.execute("user-b", "key", REQUEST, () -> createOrder(Duration.ZERO)))
+                .assertNext(response -> assertFalse(response.replayed()))
+                .verifyComplete();
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("A key reused with another body is rejected")
+    void reusedKeyIsRejected() {
+        StepVerifier.create(service.execute("user", "key", REQUEST, () -> createOrder(Duration.ZERO)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(service.execute("user", "key", Map.of("documentId", "87654321"),
+                        () -> createOrder(Duration.ZERO)))
+                .expectError(IdempotencyKeyReusedException.class)
+                .verify();
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("A key longer than allowed is invalid")
+    void keyTooLong() {
+        StepVerifier.create(service.execute("user", "k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1), REQUEST,
+                        () -> createOrder(Duration.ZERO)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        assertEquals(0, executions.get());
+    }
+
+    /**
+     * Keeps the records in a map with the semantics of the {@code idempotency_keys} table.
+     */
+    private static final class InMemoryIdempotencyRepository implements IdempotencyRepository {
+
+        private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+        private final AtomicInteger claims = new AtomicInteger();
+        private final AtomicInteger releases = new AtomicInteger();
+        private volatile Duration completeDelay = Duration.ZERO;
+        private volatile Duration releaseDelay = Duration.ZERO;
+
+        @Override
+        public Mono<Boolean> claim(IdempotencyRecord record) {
+            return Mono.fromSupplier(() -> {
+                claims.incrementAndGet();
+                IdempotencyRecord current = records.compute(record.key(), (key, existing) ->
+                        existing == null || existing.expiresAt().isBefore(record.createdAt()) ? record : existing);
+                return current == record;
+            });
+        }
+
+        @Override
+        public Mono<IdempotencyRecord> findByKey(String key) {
+            return Mono.justOrEmpty(records.get(key));
+        }
+
+        @Override
+        public Mono<Boolean> complete(IdempotencyRecord claim, String response, LocalDateTime expiresAt) {
+            return Mono.delay(completeDelay).then(Mono.fromSupplier(() -> {
+                IdempotencyRecord completed = new IdempotencyRecord(claim.key(), claim.requestHash(), response,
+                        claim.createdAt(), expiresAt);
+                return records.computeIfPresent(claim.key(), (key, existing) ->
+                        holds(existing, claim) ? completed : existing) == completed;
+            }));
+        }
+
+        @Override
+        public Mono<Void> release(IdempotencyRecord claim) {
+            releases.incrementAndGet();
+            return Mono.delay(releaseDelay).then(Mono.fromRunnable(() -> records.computeIfPresent(claim.key(),
+                    (key, existing) -> holds(existing, claim) ? null : existing)));
+        }
+
+        private static boolean holds(IdempotencyRecord existing, IdempotencyRecord claim) {
+            return !existing.isCompleted() && existing.createdAt().equals(claim.createdAt());
+        }
+    }
+}
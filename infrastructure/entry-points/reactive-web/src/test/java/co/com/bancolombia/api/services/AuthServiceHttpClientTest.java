@@ -0,0 +1,145 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.AuthServiceProperties;
+import co.com.bancolombia.api.config.TracingConfig;
+import co.com.bancolombia.api.dto.response.PendingRequestResponseDTO;
+import co.com.bancolombia.metrics.StageMetrics;
+import co.com.bancolombia.tracing.TraceContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for AuthServiceHttpClient.
+ */
+class AuthServiceHttpClientTest {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    private StubAuthServer stubAuthServer;
+    private AuthServiceProperties authServiceProperties;
+    private UserProfileCache userProfileCache;
+    private AuthServiceClient authServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        stubAuthServer = new StubAuthServer(Map.of(), true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (authServiceClient != null) {
+            authServiceClient.destroy();
+        }
+        stubAuthServer.close();
+    }
+
+    private AuthServiceClient client(Map<String, String> overrides) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("adapters.auth-service.base-url", stubAuthServer.baseUrl());
+        properties.put("adapters.auth-service.token-cache.enabled", "false");
+        properties.putAll(overrides);
+        authServiceProperties = AuthServicePropertiesFixture.with(properties);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        userProfileCache = new UserProfileCache(authServiceProperties, meterRegistry);
+        authServiceClient = new AuthServiceClient(
+                WebClient.builder().filter(TracingConfig.traceparentPropagation()), authServiceProperties,
+                new TokenValidationCache(authServiceProperties, meterRegistry), userProfileCache,
+                new StageMetrics(meterRegistry), new AuthServiceResilience(authServiceProperties, meterRegistry));
+        return authServiceClient;
+    }
+
+    @Test
+    @DisplayName("Pool is named and sized from the properties")
+    void poolFollowsProperties() {
+        AuthServiceProperties.Connection config = AuthServicePropertiesFixture.with(Map.of(
+                "adapters.auth-service.connection.max-connections", "32")).connection();
+        ConnectionProvider provider = AuthServiceHttpClient.connectionProvider(config);
+        try {
+            assertEquals(AuthServiceHttpClient.POOL_NAME, provider.name());
+            assertEquals(32, provider.maxConnections());
+        } finally {
+            provider.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("Defaults offer HTTP/1.1 with compression")
+    void defaults() {
+        AuthServiceProperties.Connection config = AuthServicePropertiesFixture.defaults().connection();
+
+        assertEquals(List.of(HttpProtocol.HTTP11), config.protocols());
+        assertTrue(config.compression());
+    }
+
+    @Test
+    @DisplayName("h2c is negotiated down to HTTP/1.1 by a server that does not speak it")
+    void h2cFallsBackToHttp11() {
+        AuthServiceClient client = client(Map.of(
+                "adapters.auth-service.connection.protocols", "h2c,http11"));
+
+        StepVerifier.create(client.validateToken("token"))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Calls beyond the pool and its pending queue fail instead of waiting")
+    void pendingAcquireLimitIsEnforced() {
+        AuthServiceClient client = client(Map.of(
+                "adapters.auth-service.connection.max-connections", "1",
+                "adapters.auth-service.connection.pending-acquire-max-count", "0"));
+        stubAuthServer.validateWith(200, Duration.ofMillis(300));
+
+        StepVerifier.create(Flux.range(0, 2)
+                        .flatMap(i -> client.validateToken("token-" + i)
+                                .map(user -> "ok")
+                                .onErrorResume(ex -> Mono.just("rejected")))
+                        .collectList())
+                .assertNext(results -> {
+                    assertEquals(1, results.stream().filter("ok"::equals).count());
+                    assertEquals(1, results.stream().filter("rejected"::equals).count());
+                })
+                .verifyComplete();
+        assertEquals(1, stubAuthServer.validateCalls());
+    }
+
+    @Test
+    @DisplayName("Calls loaded through the caches carry the traceparent of the request")
+    void cachedLookupsCarryTraceparent() {
+        AuthServiceClient client = client(Map.of("adapters.auth-service.token-cache.enabled", "true"));
+        UserEnrichmentService enrichment = new UserEnrichmentService(client, userProfileCache, authServiceProperties);
+        TraceContext trace = TraceContext.continueOrGenerate(TRACEPARENT);
+
+        StepVerifier.create(client.validateToken("token")
+                        .then(client.getUserByEmailAddress("token", "ana@example.com"))
+                        .then(enrichment.enrich("token", List.of(PendingRequestResponseDTO.builder()
+                                .emailAddress("luis@example.com")
+                                .build())))
+                        .contextWrite(Context.of(TraceContext.CONTEXT_KEY, trace)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, stubAuthServer.validateCalls());
+        assertEquals(1, stubAuthServer.singleCalls());
+        assertEquals(1, stubAuthServer.bulkCalls());
+        assertEquals(List.of(trace.toHeader(), trace.toHeader(), trace.toHeader()), stubAuthServer.traceparents());
+    }
+}
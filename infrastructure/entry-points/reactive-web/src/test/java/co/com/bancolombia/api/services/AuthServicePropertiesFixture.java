@@ -0,0 +1,25 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.AuthServiceProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+/**
+ * Builds {@link AuthServiceProperties} the same way Spring binds them, defaults included.
+ */
+final class AuthServicePropertiesFixture {
+
+    private AuthServicePropertiesFixture() {
+    }
+
+    static AuthServiceProperties defaults() {
+        return with(Map.of());
+    }
+
+    static AuthServiceProperties with(Map<String, String> properties) {
+        return new Binder(new MapConfigurationPropertySource(properties))
+                .bindOrCreate("adapters.auth-service", AuthServiceProperties.class);
+    }
+}
@@ -0,0 +1,209 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.AuthServiceProperties;
+import co.com.bancolombia.metrics.StageMetrics;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of the protection of the authentication service calls against a slow or failing stub.
+ */
+class AuthServiceResilienceTest {
+
+    private StubAuthServer stubAuthServer;
+    private SimpleMeterRegistry meterRegistry;
+    private AuthServiceResilience resilience;
+
+    @BeforeEach
+    void setUp() {
+        stubAuthServer = new StubAuthServer(Map.of(), true);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubAuthServer.close();
+    }
+
+    private AuthServiceClient client(Map<String, String> overrides) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("adapters.auth-service.base-url", stubAuthServer.baseUrl());
+        properties.put("adapters.auth-service.token-cache.enabled", "false");
+        properties.put("adapters.auth-service.resilience.circuit-breaker.sliding-window-size", "4");
+        properties.put("adapters.auth-service.resilience.circuit-breaker.minimum-number-of-calls", "4");
+        properties.putAll(overrides);
+        AuthServiceProperties authServiceProperties = AuthServicePropertiesFixture.with(properties);
+        resilience = new AuthServiceResilience(authServiceProperties, meterRegistry);
+        return new AuthServiceClient(WebClient.builder(), authServiceProperties,
+                new TokenValidationCache(authServiceProperties, meterRegistry),
+                new UserProfileCache(authServiceProperties, meterRegistry),
+                new StageMetrics(meterRegistry), resilience);
+    }
+
+    @Test
+    @DisplayName("Slow call is cut by the timeout")
+    void slowCallTimesOut() {
+        AuthServiceClient client = client(Map.of("adapters.auth-service.resilience.timeout", "100ms"));
+        stubAuthServer.validateWith(200, Duration.ofSeconds(2));
+
+        StepVerifier.create(client.validateToken("token"))
+                .expectError(AuthServiceUnavailableException.class)
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Failing service opens the circuit and later calls fail without reaching it")
+    void failuresOpenTheCircuit() {
+        AuthServiceClient client = client(Map.of());
+        stubAuthServer.validateWith(503, Duration.ZERO);
+
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(client.validateToken("token-" + i))
+                    .expectError(WebClientResponseException.ServiceUnavailable.class)
+                    .verify();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, resilience.circuitState());
+
+        StepVerifier.create(client.validateToken("token"))
+                .expectError(AuthServiceUnavailableException.class)
+                .verify();
+        assertEquals(4, stubAuthServer.validateCalls());
+        assertEquals(1.0, meterRegistry.get("resilience4j.circuitbreaker.state").tag("state", "open").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Rejected tokens do not open the circuit")
+    void clientErrorsKeepTheCircuitClosed() {
+        AuthServiceClient client = client(Map.of());
+        stubAuthServer.validateWith(401, Duration.ZERO);
+
+        for (int i = 0; i < 6; i++) {
+            StepVerifier.create(client.validateToken("token-" + i))
+                    .expectError(WebClientResponseException.Unauthorized.class)
+                    .verify();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, resilience.circuitState());
+        assertEquals(6, stubAuthServer.validateCalls());
+    }
+
+    @Test
+    @DisplayName("Calls refused by the saturated connection pool fail as unavailable")
+    void poolPendingLimitIsUnavailable() {
+        AuthServiceClient client = client(Map.of(
+                "adapters.auth-service.connection.max-connections", "1",
+                "adapters.auth-service.connection.pending-acquire-max-count", "0"));
+        stubAuthServer.validateWith(200, Duration.ofMillis(300));
+
+        StepVerifier.create(Flux.range(0, 2)
+                        .flatMap(i -> client.validateToken("token-" + i)
+                                .map(user -> "ok")
+                                .onErrorResume(AuthServiceUnavailableException.class,
+                                        ex -> Mono.just("rejected")))
+                        .collectList())
+                .assertNext(results -> {
+                    assertEquals(1, results.stream().filter("ok"::equals).count());
+                    assertEquals(1, results.stream().filter("rejected"::equals).count());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Calls that wait too long for a pool connection fail as unavailable")
+    void poolAcquireTimeoutIsUnavailable() {
+        AuthServiceClient client = client(Map.of(
+                "adapters.auth-service.connection.max-connections", "1",
+                "adapters.auth-service.connection.pending-acquire-timeout", "50ms"));
+        stubAuthServer.validateWith(200, Duration.ofMillis(500));
+
+        StepVerifier.create(Flux.range(0, 2)
+                        .flatMap(i -> client.validateToken("token-" + i)
+                                .map(user -> "ok")
+                                .onErrorResume(AuthServiceUnavailableException.class,
+                                        ex -> Mono.just("rejected")))
+                        .collectList())
+                .assertNext(results -> {
+                    assertEquals(1, results.stream().filter("ok"::equals).count());
+                    assertEquals(1, results.stream().filter("rejected"::equals).count());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("An unimplemented bulk lookup does not open the circuit")
+    void notImplementedKeepsTheCircuitClosed() {
+        client(Map.of());
+
+        for (int i = 0; i < 6; i++) {
+            StepVerifier.create(resilience.stream("users_by_emails", () -> Flux.error(
+                            WebClientResponseException.create(501, "Not Implemented", null, null, null))))
+                    .expectError(WebClientResponseException.NotImplemented.class)
+                    .verify();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, resilience.circuitState());
+    }
+
+    @Test
+    @DisplayName("Calls above the bulkhead limit are rejected at once")
+    void bulkheadRejectsExcessCalls() {
+        AuthServiceClient client = client(Map.of(
+                "adapters.auth-service.resilience.bulkhead.max-concurrent-calls", "2"));
+        stubAuthServer.validateWith(200, Duration.ofMillis(300));
+
+        StepVerifier.create(Flux.range(0, 3)
+                        .flatMap(i -> client.validateToken("token-" + i)
+                                .map(user -> "ok")
+                                .onErrorResume(AuthServiceUnavailableException.class,
+                                        ex -> Mono.just("rejected")))
+                        .collectList())
+                .assertNext(results -> {
+                    assertEquals(2, results.stream().filter("ok"::equals).count());
+                    assertEquals(1, results.stream().filter("rejected"::equals).count());
+                })
+                .verifyComplete();
+        assertEquals(2, stubAuthServer.validateCalls());
+    }
+
+    @Test
+    @DisplayName("Slow first call is hedged and the faster answer wins")
+    void slowCallIsHedged() {
+        AuthServiceClient client = client(Map.of(
+                "adapters.auth-service.resilience.hedge.enabled", "true",
+                "adapters.auth-service.resilience.hedge.delay", "50ms"));
+        stubAuthServer.validateWith(200, Duration.ofSeconds(1), Duration.ZERO);
+
+        StepVerifier.create(client.validateToken("token"))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertEquals(2, stubAuthServer.validateCalls());
+        assertEquals(1.0, meterRegistry.get(AuthServiceResilience.HEDGES).tag("call", "validate_token").counter().count());
+    }
+
+    @Test
+    @DisplayName("Fast call is not hedged and a fast failure is returned at once")
+    void fastCallsAreNotHedged() {
+        AuthServiceClient client = client(Map.of(
+                "adapters.auth-service.resilience.hedge.enabled", "true",
+                "adapters.auth-service.resilience.hedge.delay", "1s"));
+        stubAuthServer.validateWith(401, Duration.ZERO);
+
+        StepVerifier.create(client.validateToken("token"))
+                .expectError(WebClientResponseException.Unauthorized.class)
+                .verify(Duration.ofMillis(900));
+        assertEquals(1, stubAuthServer.validateCalls());
+    }
+}
@@ -0,0 +1,275 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.AuthServiceProperties;
+import co.com.bancolombia.api.dto.response.AuthResponseDTO;
+import co.com.bancolombia.api.enums.RolEnum;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for LocalTokenVerifier.
+ */
+class LocalTokenVerifierTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+    private static final UUID USER_ID = UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e");
+
+    @TempDir
+    Path directory;
+
+    private KeyPair rsaKeys;
+    private Path jwks;
+    private AtomicInteger remoteCalls;
+    private TokenVerifier remote;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        rsaKeys = generator.generateKeyPair();
+        jwks = directory.resolve("jwks.json");
+        writeJwks("key-1", (RSAPublicKey) rsaKeys.getPublic());
+        remoteCalls = new AtomicInteger();
+        remote = token -> Mono.fromCallable(() -> {
+            remoteCalls.incrementAndGet();
+            return AuthResponseDTO.builder().idUser(USER_ID).idRol(RolEnum.ADMIN.getId()).token(token).build();
+        });
+    }
+
+    @Test
+    @DisplayName("Valid token is verified without calling the authentication service")
+    void validTokenIsVerifiedLocally() throws Exception {
+        String token = sign("RS256", "key-1", rsaKeys.getPrivate(), claims(NOW.plusSeconds(300)));
+
+        StepVerifier.create(verifier(Map.of()).verify(token))
+                .assertNext(user -> {
+                    assertEquals(USER_ID, user.getIdUser());
+                    assertEquals(RolEnum.CLIENT.getId(), user.getIdRol());
+                    assertEquals("Ana", user.getNameUser());
+                    assertEquals(token, user.getToken());
+                })
+                .verifyComplete();
+        assertEquals(0, remoteCalls.get());
+    }
+
+    @Test
+    @DisplayName("Expired token is rejected, clock skew included")
+    void expiredTokenIsRejected() throws Exception {
+        String withinSkew = sign("RS256", "key-1", rsaKeys.getPrivate(), claims(NOW.minusSeconds(10)));
+        String expired = sign("RS256", "key-1", rsaKeys.getPrivate(), claims(NOW.minusSeconds(60)));
+        LocalTokenVerifier verifier = verifier(Map.of());
+
+        StepVerifier.create(verifier.verify(withinSkew)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(verifier.verify(expired))
+                .expectErrorMatches(ex -> ex instanceof InvalidTokenException && ex.getMessage().equals("El token expiró"))
+                .verify();
+        assertEquals(0, remoteCalls.get());
+    }
+
+    @Test
+    @DisplayName("Tampered payload is rejected")
+    void tamperedTokenIsRejected() throws Exception {
+        String token = sign("RS256", "key-1", rsaKeys.getPrivate(), claims(NOW.plusSeconds(300)));
+        String[] parts = token.split("\\.");
+        Map<String, Object> claims = claims(NOW.plusSeconds(300));
+        claims.put("idRol", RolEnum.ADMIN.getId().toString());
+        String tampered = parts[0] + "." + base64(JSON.writeValueAsBytes(claims)) + "." + parts[2];
+
+        StepVerifier.create(verifier(Map.of()).verify(tampered))
+                .expectError(InvalidTokenException.class)
+                .verify();
+        assertEquals(0, remoteCalls.get());
+    }
+
+    @Test
+    @DisplayName("Unknown role, issuer or audience is rejected")
+    void claimsAreChecked() throws Exception {
+        LocalTokenVerifier verifier = verifier(Map.of(
+                "adapters.auth-service.verification.issuer", "crediya-auth",
+                "adapters.auth-service.verification.audience", "crediya-solicitudes"));
+        Map<String, Object> valid = claims(NOW.plusSeconds(300));
+        valid.put("iss", "crediya-auth");
+        valid.put("aud", List.of("crediya-solicitudes", "crediya-reportes"));
+        Map<String, Object> unknownRole = new HashMap<>(valid);
+        unknownRole.put("idRol", UUID.randomUUID().toString());
+        Map<String, Object> otherIssuer = new HashMap<>(valid);
+        otherIssuer.put("iss", "other");
+        Map<String, Object> otherAudience = new HashMap<>(valid);
+        otherAudience.put("aud", "other");
+
+        StepVerifier.create(verifier.verify(sign("RS256", "key-1", rsaKeys.getPrivate(), valid)))
+                .expectNextCount(1)
+                .verifyComplete();
+        for (Map<String, Object> claims : List.of(unknownRole, otherIssuer, otherAudience)) {
+            StepVerifier.create(verifier.verify(sign("RS256", "key-1", rsaKeys.getPrivate(), claims)))
+                    .expectError(InvalidTokenException.class)
+                    .verify();
+        }
+    }
+
+    @Test
+    @DisplayName("Tokens that cannot be checked locally go to the authentication service")
+    void uncheckableTokensFallBackToRemote() throws Exception {
+        LocalTokenVerifier verifier = verifier(Map.of());
+        String unknownKey = sign("RS256", "key-2", rsaKeys.getPrivate(), claims(NOW.plusSeconds(300)));
+
+        StepVerifier.create(verifier.verify("opaque-token")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(verifier.verify(unknownKey)).expectNextCount(1).verifyComplete();
+        assertEquals(2, remoteCalls.get());
+    }
+
+    @Test
+    @DisplayName("Without remote fallback uncheckable tokens are rejected")
+    void uncheckableTokensAreRejectedWithoutFallback() {
+        LocalTokenVerifier verifier = new LocalTokenVerifier(verification(Map.of()), null, fixedClock());
+
+        StepVerifier.create(verifier.verify("opaque-token"))
+                .expectError(InvalidTokenException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Rotated key is picked up by reloading the JWKS file")
+    void rotatedKeyIsReloaded() throws Exception {
+        LocalTokenVerifier verifier = new LocalTokenVerifier(verification(Map.of(
+                "adapters.auth-service.verification.key-reload-interval", "0s")), null, fixedClock());
+        writeJwks("key-2", (RSAPublicKey) rsaKeys.getPublic());
+
+        StepVerifier.create(verifier.verify(sign("RS256", "key-2", rsaKeys.getPrivate(), claims(NOW.plusSeconds(300)))))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Key file is reloaded off the calling thread")
+    void keyReloadRunsOnBoundedElastic() throws Exception {
+        LocalTokenVerifier verifier = new LocalTokenVerifier(verification(Map.of(
+                "adapters.auth-service.verification.key-reload-interval", "0s")), null, fixedClock());
+        writeJwks("key-2", (RSAPublicKey) rsaKeys.getPublic());
+        String token = sign("RS256", "key-2", rsaKeys.getPrivate(), claims(NOW.plusSeconds(300)));
+
+        StepVerifier.create(verifier.verify(token).map(user -> Thread.currentThread().getName()))
+                .assertNext(thread -> assertTrue(thread.startsWith("boundedElastic")))
+                .verifyComplete();
+        StepVerifier.create(verifier.verify(token).map(user -> Thread.currentThread().getName()))
+                .assertNext(thread -> assertEquals(Thread.currentThread().getName(), thread))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("EC key in PEM format verifies ES256 tokens")
+    void ecPublicKeyFromPem() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        KeyPair ecKeys = generator.generateKeyPair();
+        Path pem = directory.resolve("public.pem");
+        Files.writeString(pem, "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder().encodeToString(ecKeys.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----\n");
+        LocalTokenVerifier verifier = new LocalTokenVerifier(verification(Map.of(
+                "adapters.auth-service.verification.jwks-location", "",
+                "adapters.auth-service.verification.public-key-location", pem.toString())), remote, fixedClock());
+
+        StepVerifier.create(verifier.verify(sign("ES256", null, ecKeys.getPrivate(), claims(NOW.plusSeconds(300)))))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertEquals(0, remoteCalls.get());
+    }
+
+    @Test
+    @DisplayName("Missing key file fails at startup")
+    void missingKeyFileFails() {
+        AuthServiceProperties.Verification verification = verification(Map.of(
+                "adapters.auth-service.verification.jwks-location", directory.resolve("missing.json").toString()));
+
+        assertThrows(IllegalStateException.class, () -> new LocalTokenVerifier(verification, remote, fixedClock()));
+    }
+
+    private LocalTokenVerifier verifier(Map<String, String> properties) {
+        return new LocalTokenVerifier(verification(properties), remote, fixedClock());
+    }
+
+    private AuthServiceProperties.Verification verification(Map<String, String> properties) {
+        Map<String, String> all = new HashMap<>();
+        all.put("adapters.auth-service.verification.mode", "local");
+        all.put("adapters.auth-service.verification.jwks-location", jwks.toString());
+        all.putAll(properties);
+        return AuthServicePropertiesFixture.with(all).verification();
+    }
+
+    private static Clock fixedClock() {
+        return Clock.fixed(NOW, ZoneOffset.UTC);
+    }
+
+    private static Map<String, Object> claims(Instant expiresAt) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("sub", USER_ID.toString());
+        claims.put("idRol", RolEnum.CLIENT.getId().toString());
+        claims.put("name", "Ana");
+        claims.put("exp", expiresAt.getEpochSecond());
+        return claims;
+    }
+
+    private void writeJwks(String kid, RSAPublicKey key) throws Exception {
+        Map<String, Object> jwk = Map.of(
+                "kty", "RSA",
+                "kid", kid,
+                "use", "sig",
+                "n", base64(unsigned(key.getModulus())),
+                "e", base64(unsigned(key.getPublicExponent())));
+        Files.write(jwks, JSON.writeValueAsBytes(Map.of("keys", List.of(jwk))));
+    }
+
+    private static String sign(String alg, String kid, PrivateKey key, Map<String, Object> claims) throws Exception {
+        Map<String, Object> header = new HashMap<>();
+        header.put("alg", alg);
+        header.put("typ", "JWT");
+        if (kid != null) {
+            header.put("kid", kid);
+        }
+        String signingInput = base64(JSON.writeValueAsBytes(header)) + "." + base64(JSON.writeValueAsBytes(claims));
+        Signature signature = Signature.getInstance(alg.startsWith("RS") ? "SHA256withRSA" : "SHA256withECDSAinP1363Format");
+        signature.initSign(key);
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + base64(signature.sign());
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+
+    private static String base64(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
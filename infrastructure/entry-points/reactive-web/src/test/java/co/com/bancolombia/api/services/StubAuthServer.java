@@ -0,0 +1,157 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.ApiPaths;
+import co.com.bancolombia.api.dto.response.AuthResponseDTO;
+import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
+import co.com.bancolombia.tracing.TraceContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for the authentication service, bound to a random port. Token validations answer
+ * with the configured status after the configured latencies, so slow and failing services can be
+ * simulated.
+ */
+class StubAuthServer implements AutoCloseable {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final Map<String, UserReportResponseDTO> users;
+    private final boolean bulkEnabled;
+    private final AtomicInteger bulkCalls = new AtomicInteger();
+    private final AtomicInteger singleCalls = new AtomicInteger();
+    private final AtomicInteger validateCalls = new AtomicInteger();
+    private final Queue<String> traceparents = new ConcurrentLinkedQueue<>();
+    private volatile int validateStatus = 200;
+    private volatile List<Duration> validateLatencies = List.of(Duration.ZERO);
+    private final DisposableServer server;
+
+    StubAuthServer(Map<String, UserReportResponseDTO> users, boolean bulkEnabled) {
+        this.users = users;
+        this.bulkEnabled = bulkEnabled;
+        this.server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .route(routes -> routes
+                        .get(ApiPaths.VALIDATE, (request, response) -> {
+                            recordTraceparent(request);
+                            int call = validateCalls.getAndIncrement();
+                            List<Duration> latencies = validateLatencies;
+                            int status = validateStatus;
+                            return Mono.delay(latencies.get(Math.min(call, latencies.size() - 1)))
+                                    .then(status == 200
+                                            ? json(response, Mono.just(AuthResponseDTO.builder()
+                                                    .idUser(UUID.randomUUID())
+                                                    .idRol(UUID.fromString("b71ed6c9-1dd9-4c14-8a4a-fe06166d5cdb"))
+                                                    .nameUser("Stub")
+                                                    .build()))
+                                            : Mono.from(response.status(status).send()));
+                        })
+                        .post(ApiPaths.USERSBYEMAILS, (request, response) -> {
+                            if (!this.bulkEnabled) {
+                                return response.status(404).send();
+                            }
+                            recordTraceparent(request);
+                            bulkCalls.incrementAndGet();
+                            return json(response, request.receive().aggregate().asString()
+                                    .map(this::readEmails)
+                                    .map(emails -> emails.stream()
+                                            .map(this.users::get)
+                                            .filter(user -> user != null)
+                                            .toList()));
+                        })
+                        .get(ApiPaths.USERSBYEMAIL, (request, response) -> {
+                            recordTraceparent(request);
+                            singleCalls.incrementAndGet();
+                            String email = URLDecoder.decode(request.param("email"), StandardCharsets.UTF_8);
+                            UserReportResponseDTO user = this.users.get(email);
+                            if (user == null) {
+                                return response.status(404).send();
+                            }
+                            return json(response, Mono.just(user));
+                        }))
+                .bindNow();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    int bulkCalls() {
+        return bulkCalls.get();
+    }
+
+    int singleCalls() {
+        return singleCalls.get();
+    }
+
+    int validateCalls() {
+        return validateCalls.get();
+    }
+
+    /**
+     * @return the {@code traceparent} header of every call received, in order; calls without
+     * it are recorded as an empty string
+     */
+    List<String> traceparents() {
+        return List.copyOf(traceparents);
+    }
+
+    /**
+     * Answers token validations with the given status. The n-th call waits the n-th latency, and
+     * calls past the last latency wait the last one.
+     */
+    void validateWith(int status, Duration... latencies) {
+        this.validateStatus = status;
+        this.validateLatencies = List.of(latencies);
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    private void recordTraceparent(HttpServerRequest request) {
+        String traceparent = request.requestHeaders().get(TraceContext.HEADER);
+        traceparents.add(traceparent != null ? traceparent : "");
+    }
+
+    private Mono<Void> json(HttpServerResponse response, Mono<?> body) {
+        return response.header("Content-Type", "application/json")
+                .sendString(body.map(this::write))
+                .then();
+    }
+
+    private List<String> readEmails(String body) {
+        try {
+            return JSON.readValue(body, new TypeReference<>() {
+            });
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return JSON.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.dto.response.AuthResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for TokenValidationCache.
+ */
+class TokenValidationCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenValidationCache cache;
+    private AtomicInteger remoteCalls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TokenValidationCache(AuthServicePropertiesFixture.defaults(), meterRegistry);
+        remoteCalls = new AtomicInteger();
+    }
+
+    private Mono<AuthResponseDTO> remoteValidation(String token) {
+        return Mono.fromCallable(() -> {
+            remoteCalls.incrementAndGet();
+            return AuthResponseDTO.builder()
+                    .idUser(UUID.randomUUID())
+                    .idRol(UUID.randomUUID())
+                    .token(token)
+                    .build();
+        });
+    }
+
+    private String jwtExpiringAt(Instant expiry) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(
+                ("{\"sub\":\"user\",\"exp\":" + expiry.getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".signature";
+    }
+
+    @Test
+    @DisplayName("Repeated validations of the same token hit the cache")
+    void repeatedValidationHitsCache() {
+        String token = jwtExpiringAt(Instant.now().plusSeconds(600));
+
+        StepVerifier.create(cache.get(token, this::remoteValidation)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cache.get(token, this::remoteValidation)).expectNextCount(1).verifyComplete();
+
+        assertEquals(1, remoteCalls.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Concurrent validations share a single in-flight call")
+    void concurrentValidationsShareInFlightCall() {
+        String token = "opaque-token";
+        Sinks.One<AuthResponseDTO> response = Sinks.one();
+        AtomicInteger loads = new AtomicInteger();
+
+        Mono<AuthResponseDTO> first = cache.get(token, t -> {
+            loads.incrementAndGet();
+            return response.asMono();
+        });
+        Mono<AuthResponseDTO> second = cache.get(token, t -> {
+            loads.incrementAndGet();
+            return response.asMono();
+        });
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> response.tryEmitValue(AuthResponseDTO.builder().token(token).build()))
+                .assertNext(pair -> assertEquals(pair.getT1(), pair.getT2()))
+                .verifyComplete();
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Expired tokens are never served from the cache")
+    void expiredTokenIsNotCached() {
+        String token = jwtExpiringAt(Instant.now().minusSeconds(10));
+
+        StepVerifier.create(cache.get(token, this::remoteValidation)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cache.get(token, this::remoteValidation)).expectNextCount(1).verifyComplete();
+
+        assertEquals(2, remoteCalls.get());
+    }
+
+    @Test
+    @DisplayName("Failed validations are not cached")
+    void failedValidationIsNotCached() {
+        String token = "rejected-token";
+
+        StepVerifier.create(cache.get(token, t -> Mono.error(new IllegalStateException("401"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(cache.get(token, this::remoteValidation)).expectNextCount(1).verifyComplete();
+
+        assertEquals(1, remoteCalls.get());
+    }
+
+    @Test
+    @DisplayName("Disabled cache always delegates to the remote validation")
+    void disabledCacheDelegates() {
+        TokenValidationCache disabled = new TokenValidationCache(
+                AuthServicePropertiesFixture.with(Map.of("adapters.auth-service.token-cache.enabled", "false")),
+                meterRegistry);
+
+        StepVerifier.create(disabled.get("token", this::remoteValidation)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(disabled.get("token", this::remoteValidation)).expectNextCount(1).verifyComplete();
+
+        assertEquals(2, remoteCalls.get());
+    }
+}
@@ -0,0 +1,134 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.AuthServiceProperties;
+import co.com.bancolombia.api.dto.response.PendingRequestResponseDTO;
+import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
+import co.com.bancolombia.metrics.StageMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for UserEnrichmentService against a local stub of the authentication service.
+ */
+class UserEnrichmentServiceTest {
+
+    private static final Map<String, UserReportResponseDTO> USERS = Map.of(
+            "ana@example.com", user("ana@example.com", "Ana", "Gomez", "3500000"),
+            "luis@example.com", user("luis@example.com", "Luis", "Perez", "4200000"));
+
+    private StubAuthServer stubAuthServer;
+
+    @AfterEach
+    void tearDown() {
+        stubAuthServer.close();
+    }
+
+    private static UserReportResponseDTO user(String email, String name, String lastName, String salary) {
+        return UserReportResponseDTO.builder()
+                .emailAddress(email)
+                .name(name)
+                .lastName(lastName)
+                .baseSalary(new BigDecimal(salary))
+                .build();
+    }
+
+    private static PendingRequestResponseDTO pendingRequest(String email) {
+        return PendingRequestResponseDTO.builder()
+                .amount(new BigDecimal("500000"))
+                .deadline(12)
+                .emailAddress(email)
+                .name("")
+                .baseSalary(BigDecimal.ZERO)
+                .build();
+    }
+
+    private UserEnrichmentService serviceFor(boolean bulkEnabled) {
+        stubAuthServer = new StubAuthServer(USERS, bulkEnabled);
+        AuthServiceProperties properties = AuthServicePropertiesFixture.with(
+                Map.of("adapters.auth-service.base-url", stubAuthServer.baseUrl()));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserProfileCache userProfileCache = new UserProfileCache(properties, meterRegistry);
+        AuthServiceClient client = new AuthServiceClient(WebClient.builder(), properties,
+                new TokenValidationCache(properties, meterRegistry), userProfileCache, new StageMetrics(meterRegistry),
+                new AuthServiceResilience(properties, meterRegistry));
+        return new UserEnrichmentService(client, userProfileCache, properties);
+    }
+
+    private List<PendingRequestResponseDTO> page() {
+        return List.of(
+                pendingRequest("ana@example.com"),
+                pendingRequest("luis@example.com"),
+                pendingRequest("ana@example.com"),
+                pendingRequest("unknown@example.com"));
+    }
+
+    @Test
+    @DisplayName("A page is enriched with one bulk lookup of its distinct emails")
+    void enrichWithSingleBulkLookup() {
+        UserEnrichmentService service = serviceFor(true);
+
+        StepVerifier.create(service.enrich("token", page()))
+                .assertNext(enriched -> {
+                    assertEquals("Ana Gomez", enriched.get(0).getName());
+                    assertEquals("Luis Perez", enriched.get(1).getName());
+                    assertEquals("Ana Gomez", enriched.get(2).getName());
+                    assertEquals(new BigDecimal("3500000"), enriched.get(2).getBaseSalary());
+                    assertEquals("", enriched.get(3).getName());
+                })
+                .verifyComplete();
+
+        assertEquals(1, stubAuthServer.bulkCalls());
+        assertEquals(0, stubAuthServer.singleCalls());
+    }
+
+    @Test
+    @DisplayName("Falls back to single lookups when the bulk endpoint is unavailable")
+    void fallbackToSingleLookups() {
+        UserEnrichmentService service = serviceFor(false);
+
+        StepVerifier.create(service.enrich("token", page()))
+                .assertNext(enriched -> {
+                    assertEquals("Ana Gomez", enriched.get(0).getName());
+                    assertEquals("Luis Perez", enriched.get(1).getName());
+                    assertEquals("", enriched.get(3).getName());
+                })
+                .verifyComplete();
+
+        assertEquals(3, stubAuthServer.singleCalls());
+    }
+
+    @Test
+    @DisplayName("Profiles already cached, found or not, are not requested again")
+    void cachedProfilesAreReused() {
+        UserEnrichmentService service = serviceFor(true);
+
+        StepVerifier.create(service.enrich("token", page())).expectNextCount(1).verifyComplete();
+        StepVerifier.create(service.enrich("token", page()))
+                .assertNext(enriched -> assertEquals("Luis Perez", enriched.get(1).getName()))
+                .verifyComplete();
+
+        assertEquals(1, stubAuthServer.bulkCalls());
+    }
+
+    @Test
+    @DisplayName("An empty page does not call the authentication service")
+    void emptyPage() {
+        UserEnrichmentService service = serviceFor(true);
+
+        StepVerifier.create(service.enrich("token", List.of()))
+                .expectNext(List.of())
+                .verifyComplete();
+
+        assertEquals(0, stubAuthServer.bulkCalls());
+    }
+}
@@ -0,0 +1,94 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for UserProfileCache.
+ */
+class UserProfileCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserProfileCache cache;
+    private AtomicInteger remoteCalls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserProfileCache(AuthServicePropertiesFixture.defaults(), meterRegistry);
+        remoteCalls = new AtomicInteger();
+    }
+
+    private Mono<UserReportResponseDTO> found(String email) {
+        remoteCalls.incrementAndGet();
+        return Mono.just(UserReportResponseDTO.builder()
+                .emailAddress(email)
+                .name("Ana")
+                .lastName("Gomez")
+                .baseSalary(new BigDecimal("3500000"))
+                .build());
+    }
+
+    private Mono<UserReportResponseDTO> failing(String email) {
+        remoteCalls.incrementAndGet();
+        return Mono.error(new IllegalStateException("auth service down"));
+    }
+
+    @Test
+    @DisplayName("Found profiles are served from the cache")
+    void foundProfileIsCached() {
+        StepVerifier.create(cache.get("ana@example.com", this::found)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cache.get("ana@example.com", this::found)).expectNextCount(1).verifyComplete();
+
+        assertEquals(1, remoteCalls.get());
+        assertEquals(0.5, meterRegistry.get("cache.hit.ratio").tag("cache", UserProfileCache.CACHE_NAME)
+                .gauge().value());
+    }
+
+    @Test
+    @DisplayName("Failed lookups are negatively cached and complete empty")
+    void failedLookupIsNegativelyCached() {
+        StepVerifier.create(cache.get("ghost@example.com", this::failing)).verifyComplete();
+        StepVerifier.create(cache.get("ghost@example.com", this::found)).verifyComplete();
+
+        assertEquals(1, remoteCalls.get());
+    }
+
+    @Test
+    @DisplayName("Invalidation forces the next lookup to reach the loader")
+    void invalidateEvictsEntry() {
+        StepVerifier.create(cache.get("ana@example.com", this::found)).expectNextCount(1).verifyComplete();
+        cache.invalidate("ana@example.com");
+        StepVerifier.create(cache.get("ana@example.com", this::found)).expectNextCount(1).verifyComplete();
+
+        assertEquals(2, remoteCalls.get());
+    }
+
+    @Test
+    @DisplayName("Bulk lookups only load the missing emails")
+    void getAllLoadsOnlyMissingEmails() {
+        StepVerifier.create(cache.get("ana@example.com", this::found)).expectNextCount(1).verifyComplete();
+
+        AtomicInteger requested = new AtomicInteger();
+        StepVerifier.create(cache.getAll(Set.of("ana@example.com", "luis@example.com"), missing -> {
+                    requested.addAndGet(missing.size());
+                    return Mono.just(Map.of());
+                }))
+                .assertNext(profiles -> assertEquals(Set.of("ana@example.com"), profiles.keySet()))
+                .verifyComplete();
+
+        assertEquals(1, requested.get());
+    }
+}
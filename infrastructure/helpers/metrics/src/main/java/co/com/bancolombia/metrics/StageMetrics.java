@@ -0,0 +1,131 @@
+package co.com.bancolombia.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the stages a request goes through, recorded in the {@value #METRIC_NAME} timer with the
+ * tags {@code layer}, {@code stage} and {@code outcome}. Layers and stages are fixed names chosen by
+ * the caller, never request data, so the number of series stays bounded. Percentiles, histogram and
+ * SLO buckets are configured under {@code management.metrics.distribution.*.crediya.stage}.
+ *
+ * <p>The clock starts when the publisher is subscribed and stops when the subscription ends, with
+ * the outcome {@code success}, {@code empty} (a {@link Mono} that completes without a value),
+ * {@code error} or {@code cancelled}.
+ *
+ * @author Crediya Development Team
+ */
+@Component
+public class StageMetrics {
+
+    public static final String METRIC_NAME = "crediya.stage";
+
+    public static final String LAYER_HANDLER = "handler";
+    public static final String LAYER_USE_CASE = "usecase";
+    public static final String LAYER_ADAPTER = "adapter";
+    public static final String LAYER_AUTH_CLIENT = "auth_client";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Map<String, StageTimers>> timers = new ConcurrentHashMap<>();
+
+    public StageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> Mono<T> time(String layer, String stage, Mono<T> source) {
+        StageTimers stageTimers = timers(layer, stage);
+        return Mono.defer(() -> {
+            Measurement measurement = new Measurement();
+            return source
+                    .doOnNext(value -> measurement.emitted = true)
+                    .doFinally(signal -> stageTimers.record(monoOutcome(signal, measurement.emitted), measurement.start));
+        });
+    }
+
+    public <T> Flux<T> time(String layer, String stage, Flux<T> source) {
+        StageTimers stageTimers = timers(layer, stage);
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return source.doFinally(signal -> stageTimers.record(outcome(signal), start));
+        });
+    }
+
+    /**
+     * Records a stage measured by the caller, for work that does not run inside a publisher.
+     *
+     * @param startNanos value of {@link System#nanoTime()} when the stage started
+     * @param failed whether the stage ended with an error
+     */
+    public void record(String layer, String stage, long startNanos, boolean failed) {
+        timers(layer, stage).record(failed ? Outcome.ERROR : Outcome.SUCCESS, startNanos);
+    }
+
+    private static Outcome monoOutcome(SignalType signal, boolean emitted) {
+        if (signal == SignalType.ON_ERROR) {
+            return Outcome.ERROR;
+        }
+        if (emitted) {
+            return Outcome.SUCCESS;
+        }
+        return signal == SignalType.ON_COMPLETE ? Outcome.EMPTY : Outcome.CANCELLED;
+    }
+
+    private static Outcome outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> Outcome.SUCCESS;
+            case ON_ERROR -> Outcome.ERROR;
+            default -> Outcome.CANCELLED;
+        };
+    }
+
+    private StageTimers timers(String layer, String stage) {
+        return timers.computeIfAbsent(layer, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(stage, key -> {
+                    Map<Outcome, Timer> byOutcome = new EnumMap<>(Outcome.class);
+                    for (Outcome outcome : Outcome.values()) {
+                        byOutcome.put(outcome, timer(layer, stage, outcome.tag));
+                    }
+                    return new StageTimers(byOutcome);
+                });
+    }
+
+    private Timer timer(String layer, String stage, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("Latency of a stage of request processing")
+                .tag("layer", layer)
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private enum Outcome {
+        SUCCESS("success"), EMPTY("empty"), ERROR("error"), CANCELLED("cancelled");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private record StageTimers(Map<Outcome, Timer> byOutcome) {
+
+        void record(Outcome outcome, long start) {
+            byOutcome.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static final class Measurement {
+        private final long start = System.nanoTime();
+        private boolean emitted;
+    }
+}
@@ -0,0 +1,76 @@
+package co.com.bancolombia.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for StageMetrics.
+ */
+class StageMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StageMetrics stageMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stageMetrics = new StageMetrics(meterRegistry);
+    }
+
+    private long count(String stage, String outcome) {
+        return meterRegistry.get(StageMetrics.METRIC_NAME)
+                .tag("layer", StageMetrics.LAYER_ADAPTER)
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    @Test
+    @DisplayName("Mono stages are recorded once per subscription with their outcome")
+    void monoOutcomes() {
+        StepVerifier.create(stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.find_by_id", Mono.just("order")))
+                .expectNext("order")
+                .verifyComplete();
+        StepVerifier.create(stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.find_by_id", Mono.empty()))
+                .verifyComplete();
+        StepVerifier.create(stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.find_by_id",
+                        Mono.error(new IllegalStateException("boom"))))
+                .verifyError(IllegalStateException.class);
+
+        assertEquals(1, count("orders.find_by_id", "success"));
+        assertEquals(1, count("orders.find_by_id", "empty"));
+        assertEquals(1, count("orders.find_by_id", "error"));
+        assertEquals(0, count("orders.find_by_id", "cancelled"));
+    }
+
+    @Test
+    @DisplayName("Flux stages record completion and cancellation")
+    void fluxOutcomes() {
+        Flux<Integer> rows = stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.find_pending", Flux.range(1, 10));
+
+        StepVerifier.create(rows).expectNextCount(10).verifyComplete();
+        StepVerifier.create(rows.take(2)).expectNextCount(2).verifyComplete();
+
+        assertEquals(1, count("orders.find_pending", "success"));
+        assertEquals(1, count("orders.find_pending", "cancelled"));
+    }
+
+    @Test
+    @DisplayName("Nothing is recorded until the stage is subscribed")
+    void lazyMeasurement() {
+        Mono<String> stage = stageMetrics.time(StageMetrics.LAYER_ADAPTER, "orders.insert", Mono.just("order"));
+
+        assertEquals(0, count("orders.insert", "success"));
+        stage.block();
+        stage.block();
+        assertEquals(2, count("orders.insert", "success"));
+    }
+}
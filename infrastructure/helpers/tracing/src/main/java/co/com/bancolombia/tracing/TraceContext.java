@@ -0,0 +1,117 @@
+package co.com.bancolombia.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C trace context of a request: the trace it belongs to, the span of this service and the trace
+ * flags. It is carried in the Reactor context under {@link #CONTEXT_KEY}, so every stage of the
+ * request, down to the adapters and the outgoing calls, can read it without thread locals.
+ *
+ * <p>Parsing and generation work on characters and random longs, without regular expressions or
+ * {@link java.util.UUID}, so reading or creating the context of a request costs well under a
+ * microsecond.
+ *
+ * @param traceId 32 lowercase hex characters identifying the trace
+ * @param spanId 16 lowercase hex characters identifying the span of this service
+ * @param flags trace flags, {@code 01} when the trace is sampled
+ *
+ * @author Crediya Development Team
+ */
+public record TraceContext(String traceId, String spanId, String flags) {
+
+    public static final String HEADER = "traceparent";
+    public static final Class<TraceContext> CONTEXT_KEY = TraceContext.class;
+
+    private static final String VERSION = "00";
+    private static final String SAMPLED = "01";
+    private static final int TRACE_ID_LENGTH = 32;
+    private static final int SPAN_ID_LENGTH = 16;
+    private static final int HEADER_LENGTH = 55;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Creates the context of a request that arrived without a valid {@code traceparent}.
+     */
+    public static TraceContext generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new TraceContext(hex(nonZero(random), random.nextLong()), hex(nonZero(random)), SAMPLED);
+    }
+
+    /**
+     * Continues the trace of an incoming {@code traceparent} header with a new span of this
+     * service, or starts a new trace when the header is missing or invalid.
+     */
+    public static TraceContext continueOrGenerate(String traceparent) {
+        if (!isValid(traceparent)) {
+            return generate();
+        }
+        return new TraceContext(traceparent.substring(3, 3 + TRACE_ID_LENGTH),
+                hex(nonZero(ThreadLocalRandom.current())),
+                traceparent.substring(HEADER_LENGTH - 2));
+    }
+
+    /**
+     * @return the {@code traceparent} header that makes the span of this service the parent of
+     * the callee
+     */
+    public String toHeader() {
+        return VERSION + '-' + traceId + '-' + spanId + '-' + flags;
+    }
+
+    /**
+     * Version 00 layout: {@code 00-<32 hex trace id>-<16 hex parent id>-<2 hex flags>}, where
+     * neither id may be all zeros.
+     */
+    static boolean isValid(String traceparent) {
+        if (traceparent == null || traceparent.length() != HEADER_LENGTH
+                || traceparent.charAt(0) != '0' || traceparent.charAt(1) != '0'
+                || traceparent.charAt(2) != '-' || traceparent.charAt(3 + TRACE_ID_LENGTH) != '-'
+                || traceparent.charAt(HEADER_LENGTH - 3) != '-') {
+            return false;
+        }
+        return isHex(traceparent, 3, 3 + TRACE_ID_LENGTH)
+                && isHex(traceparent, 4 + TRACE_ID_LENGTH, HEADER_LENGTH - 3)
+                && isHex(traceparent, HEADER_LENGTH - 2, HEADER_LENGTH);
+    }
+
+    private static boolean isHex(String value, int from, int to) {
+        boolean nonZero = false;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+            nonZero |= c != '0';
+        }
+        // Trace flags may be 00; only the ids must not be all zeros
+        return nonZero || to - from == 2;
+    }
+
+    private static long nonZero(ThreadLocalRandom random) {
+        long value;
+        do {
+            value = random.nextLong();
+        } while (value == 0);
+        return value;
+    }
+
+    private static String hex(long high, long low) {
+        char[] chars = new char[TRACE_ID_LENGTH];
+        writeHex(chars, 0, high);
+        writeHex(chars, SPAN_ID_LENGTH, low);
+        return new String(chars);
+    }
+
+    private static String hex(long value) {
+        char[] chars = new char[SPAN_ID_LENGTH];
+        writeHex(chars, 0, value);
+        return new String(chars);
+    }
+
+    private static void writeHex(char[] chars, int offset, long value) {
+        for (int i = SPAN_ID_LENGTH - 1; i >= 0; i--) {
+            chars[offset + i] = HEX[(int) value & 0xf];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package co.com.bancolombia.tracing;
+
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import reactor.util.context.ContextView;
+
+/**
+ * Writes log lines with the trace of the request in the MDC. The trace lives in the Reactor
+ * context, not in a thread local, so it is copied into the MDC only around a line that is
+ * actually written and removed right after; a disabled level costs one level check.
+ *
+ * @author Crediya Development Team
+ */
+public final class TraceLog {
+
+    public static final String TRACE_ID = "trace.id";
+    public static final String SPAN_ID = "span.id";
+
+    private TraceLog() {
+    }
+
+    public static void debug(Logger log, ContextView context, String format, Object argument) {
+        if (log.isDebugEnabled()) {
+            withTrace(context, () -> log.debug(format, argument));
+        }
+    }
+
+    public static void debug(Logger log, ContextView context, String format, Object first, Object second) {
+        if (log.isDebugEnabled()) {
+            withTrace(context, () -> log.debug(format, first, second));
+        }
+    }
+
+    public static void info(Logger log, ContextView context, String format, Object argument) {
+        if (log.isInfoEnabled()) {
+            withTrace(context, () -> log.info(format, argument));
+        }
+    }
+
+    public static void warn(Logger log, ContextView context, String format, Object argument) {
+        if (log.isWarnEnabled()) {
+            withTrace(context, () -> log.warn(format, argument));
+        }
+    }
+
+    public static void warn(Logger log, ContextView context, String format, Object first, Object second) {
+        if (log.isWarnEnabled()) {
+            withTrace(context, () -> log.warn(format, first, second));
+        }
+    }
+
+    /**
+     * Runs a log statement with the trace of the context in the MDC. Callers check the level
+     * first, so the MDC is only touched for lines that are written.
+     */
+    public static void withTrace(ContextView context, Runnable logStatement) {
+        TraceContext trace = context.getOrDefault(TraceContext.CONTEXT_KEY, null);
+        if (trace == null) {
+            logStatement.run();
+            return;
+        }
+        MDC.put(TRACE_ID, trace.traceId());
+        MDC.put(SPAN_ID, trace.spanId());
+        try {
+            logStatement.run();
+        } finally {
+            MDC.remove(TRACE_ID);
+            MDC.remove(SPAN_ID);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package co.com.bancolombia.tracing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for TraceContext.
+ */
+class TraceContextTest {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    @Test
+    @DisplayName("An incoming traceparent is continued with a new span")
+    void continuesIncomingTrace() {
+        TraceContext trace = TraceContext.continueOrGenerate(TRACEPARENT);
+
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", trace.traceId());
+        assertEquals("01", trace.flags());
+        assertNotEquals("00f067aa0ba902b7", trace.spanId());
+        assertTrue(TraceContext.isValid(trace.toHeader()));
+    }
+
+    @Test
+    @DisplayName("Generated contexts are valid and distinct")
+    void generatedContextsAreValid() {
+        TraceContext first = TraceContext.generate();
+        TraceContext second = TraceContext.generate();
+
+        assertTrue(TraceContext.isValid(first.toHeader()));
+        assertEquals(32, first.traceId().length());
+        assertEquals(16, first.spanId().length());
+        assertNotEquals(first.traceId(), second.traceId());
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7",
+            "01-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01",
+            "00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01",
+            "00-00000000000000000000000000000000-00f067aa0ba902b7-01",
+            "00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01",
+            "00_4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01",
+            "00-4bf92f3577b34da6a3ce929d0e0e473g-00f067aa0ba902b7-01"})
+    @DisplayName("Invalid headers start a new trace")
+    void invalidHeadersStartNewTrace(String traceparent) {
+        assertFalse(TraceContext.isValid(traceparent));
+        assertTrue(TraceContext.isValid(TraceContext.continueOrGenerate(traceparent).toHeader()));
+    }
+
+    @Test
+    @DisplayName("Unsampled flags are kept")
+    void unsampledFlagsAreKept() {
+        String unsampled = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00";
+
+        assertTrue(TraceContext.isValid(unsampled));
+        assertEquals("00", TraceContext.continueOrGenerate(unsampled).flags());
+    }
+}
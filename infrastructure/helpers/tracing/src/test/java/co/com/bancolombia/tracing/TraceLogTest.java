@@ -0,0 +1,45 @@
+package co.com.bancolombia.tracing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import reactor.util.context.Context;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit tests for TraceLog.
+ */
+class TraceLogTest {
+
+    @Test
+    @DisplayName("The trace is in the MDC only while the log statement runs")
+    void traceIsInMdcOnlyDuringStatement() {
+        TraceContext trace = TraceContext.generate();
+        AtomicReference<String> traceId = new AtomicReference<>();
+        AtomicReference<String> spanId = new AtomicReference<>();
+
+        TraceLog.withTrace(Context.of(TraceContext.CONTEXT_KEY, trace), () -> {
+            traceId.set(MDC.get(TraceLog.TRACE_ID));
+            spanId.set(MDC.get(TraceLog.SPAN_ID));
+        });
+
+        assertEquals(trace.traceId(), traceId.get());
+        assertEquals(trace.spanId(), spanId.get());
+        assertNull(MDC.get(TraceLog.TRACE_ID));
+        assertNull(MDC.get(TraceLog.SPAN_ID));
+    }
+
+    @Test
+    @DisplayName("Statements without a trace run with an untouched MDC")
+    void statementsWithoutTraceRun() {
+        AtomicReference<String> traceId = new AtomicReference<>("unset");
+
+        TraceLog.withTrace(Context.empty(), () -> traceId.set(MDC.get(TraceLog.TRACE_ID)));
+
+        assertNull(traceId.get());
+    }
+}